@@ -58,6 +58,14 @@ public class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_MAX_COMPENSATION_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_COMPENSATION_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_MODE_ENV_VAR = "BALLERINA_SCHEDULER_MODE";
+    public static final String SCHEDULER_MODE_GLOBAL_QUEUE = "global-queue";
+    public static final String SCHEDULER_MODE_WORK_STEALING = "work-stealing";
+    public static final String SCHEDULER_MODE_VIRTUAL_THREADS = "virtual-threads";
+    public static final String BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR = "BALLERINA_TYPE_CHECK_CACHE_SIZE";
+    public static final String BALLERINA_QUERY_PARALLELISM_ENV_VAR = "BALLERINA_QUERY_PARALLELISM";
+    public static final String BALLERINA_QUERY_PARALLELISM_PROPERTY = "ballerina.query.parallelism";
 
     public static final Module BALLERINA_BUILTIN_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX, "builtin");
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
@@ -79,6 +87,7 @@ public class RuntimeConstants {
     public static final String DECIMAL_LANG_LIB = "lang.decimal";
     public static final String BOOLEAN_LANG_LIB = "lang.boolean";
     public static final String TRANSACTION_LANG_LIB = "lang.transaction";
+    public static final String QUERY_LANG_LIB = "lang.query";
 
     // Workers
     public static final String DEFAULT_WORKER_NAME = "default";
@@ -35,7 +35,12 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Class @{@link JsonParser} provides APIs to handle json values.
@@ -113,6 +118,42 @@ public class JsonUtils {
         return JsonParser.parse(jsonStr, mode);
     }
 
+    /**
+     * Parses the given UTF-8 encoded bytes and returns a json.
+     *
+     * @param bytes the bytes which contain the JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes) throws BError {
+        return JsonParser.parse(bytes, NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    /**
+     * Parses the given UTF-8 encoded bytes and returns a json.
+     *
+     * @param bytes the bytes which contain the JSON content
+     * @param mode  the mode to use when processing numeric values
+     * @return JSON value if parsing is successful
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return JsonParser.parse(bytes, mode);
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given {@link ByteBuffer} and returns a json. The position of
+     * the buffer is not modified.
+     *
+     * @param buffer the buffer which contains the JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON value if parsing is successful
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return JsonParser.parse(buffer, mode);
+    }
+
     /**
      * Parses the contents in the given {@link Reader} and returns a json.
      *
@@ -241,6 +282,23 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Serialize the JSON constructs to be written out to a given {@link WritableByteChannel}, encoded as UTF-8. The
+     * JSON is written as it is generated, without building it as a string first. A selectable channel must be in
+     * blocking mode.
+     *
+     * @param json    JSON construct
+     * @param channel Output channel
+     * @throws BError If error occur while serialize json construct, or if the channel is in non-blocking mode.
+     */
+    public static void serialize(Object json, WritableByteChannel channel) throws BError {
+        try {
+            serialize(json, Channels.newOutputStream(channel), StandardCharsets.UTF_8);
+        } catch (IllegalBlockingModeException e) {
+            throw new ErrorValue(StringUtils.fromString("channel is in non-blocking mode"), e);
+        }
+    }
+
     /**
      * Serialize the JSON constructs to be written out to a given {@link Writer}.
      *
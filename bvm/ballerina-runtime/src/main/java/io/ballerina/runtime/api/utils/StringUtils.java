@@ -379,15 +379,14 @@ public class StringUtils {
     }
 
     private static String stringToJson(BString value) {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JsonGenerator gen = new JsonGenerator(byteOut);
+        StringBuilder builder = new StringBuilder();
+        JsonGenerator gen = new JsonGenerator(builder);
         try {
             gen.writeString(value.getValue());
-            gen.flush();
         } catch (IOException e) {
             throw new BallerinaException("Error in converting string value to a json string: " + e.getMessage(), e);
         }
-        return new String(byteOut.toByteArray());
+        return builder.toString();
     }
 
     private StringUtils() {
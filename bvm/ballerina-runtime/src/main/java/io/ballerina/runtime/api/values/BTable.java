@@ -21,6 +21,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -197,4 +198,53 @@ public interface BTable<K, V> extends BRefValue, BCollection {
     long getNextKey();
 
     V put(V data);
+
+    /**
+     * Adds a secondary index on a field of the members of this table. The index is maintained as members are added
+     * to, replaced in and removed from the table. Only fields that cannot be updated once the member is in the
+     * table, i.e., readonly fields or fields of readonly members, can be indexed.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether the index should support range lookups in addition to equality lookups, which
+     *                  requires the field to be of an ordered type
+     * @throws BError if the field cannot be indexed
+     */
+    void addIndex(BString fieldName, boolean sorted);
+
+    /**
+     * Returns <tt>true</tt> if this table has an index on the specified field, which also supports range lookups if
+     * <tt>sorted</tt> is <tt>true</tt>.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether a sorted index is required
+     * @return <tt>true</tt> if there is a suitable index on the field
+     */
+    boolean hasIndex(BString fieldName, boolean sorted);
+
+    /**
+     * Returns the members of this table whose value for the indexed field is equal to the given value, in the
+     * order in which they are iterated.
+     *
+     * @param fieldName name of the indexed field
+     * @param value     value to look up
+     * @return matching members
+     * @throws BError if there is no index on the field
+     */
+    List<V> getIndexed(BString fieldName, Object value);
+
+    /**
+     * Returns the members of this table whose value for the field with a sorted index is within the given bounds,
+     * in the order in which they are iterated. Members with <tt>()</tt> or <tt>NaN</tt> as the value are never
+     * returned since they are not ordered with respect to other values.
+     *
+     * @param fieldName      name of the indexed field
+     * @param lower          lower bound, or <tt>null</tt> if there is no lower bound
+     * @param lowerInclusive whether members equal to the lower bound are returned
+     * @param upper          upper bound, or <tt>null</tt> if there is no upper bound
+     * @param upperInclusive whether members equal to the upper bound are returned
+     * @return matching members
+     * @throws BError if there is no sorted index on the field
+     */
+    List<V> getIndexedRange(BString fieldName, Object lower, boolean lowerInclusive, Object upper,
+                            boolean upperInclusive);
 }
@@ -17,55 +17,153 @@
 */
 package io.ballerina.runtime.internal;
 
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 
 import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * Each inferred lock of a module is held in its own static field, so a lock statement refers to its lock directly.
+ * Lock statements that only read the locked variables acquire the lock in shared mode, allowing them to run
+ * concurrently with each other, while all other lock statements acquire it exclusively. The exclusive holder may
+ * re-enter the lock in either mode. When the lock is released, it is handed over to the waiting strands in arrival
+ * order, either a single exclusive waiter or all the shared waiters at the head of the queue.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private Strand writer;
+    private int writeHolds;
+    private int readers;
 
-    private ArrayDeque<Strand> waitingForLock;
+    private final ArrayDeque<Waiter> waitingForLock;
+    // shared waiters that were handed the lock and are yet to resume
+    private final Set<Strand> grantedReaders;
 
     public BLock() {
-        this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.grantedReaders = Collections.newSetFromMap(new IdentityHashMap<>());
     }
 
+    /**
+     * Acquire the lock exclusively. If the lock is not available, the strand is blocked and the lock will be handed
+     * over to it before it is rescheduled. The strand must call this method again once it is rescheduled.
+     *
+     * @param strand strand acquiring the lock
+     * @return true if the lock was acquired, false if the strand has to yield
+     */
     public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
-            return true;
+        if (this.writer == strand) {
+            // re-entrant lock or lock handed over by unlock
+            this.writeHolds++;
+        } else if (this.writer == null && this.readers == 0 && this.waitingForLock.isEmpty()) {
+            this.writer = strand;
+            this.writeHolds = 1;
+        } else {
+            block(strand, false);
+            return false;
         }
+        strand.acquiredLockCount++;
+        return true;
+    }
+
+    /**
+     * Acquire the lock in shared mode, for a lock statement which does not update the locked variables.
+     *
+     * @param strand strand acquiring the lock
+     * @return true if the lock was acquired, false if the strand has to yield
+     */
+    public synchronized boolean lockShared(Strand strand) {
+        if (this.writer == strand) {
+            // already holds the lock exclusively
+            this.writeHolds++;
+        } else if (!this.grantedReaders.remove(strand)) {
+            if (this.writer != null || !this.waitingForLock.isEmpty()) {
+                block(strand, true);
+                return false;
+            }
+            this.readers++;
+        }
+        strand.acquiredLockCount++;
+        return true;
+    }
+
+    public synchronized void unlock(Strand strand) {
+        //cannot be called without lock being called first.
+        strand.acquiredLockCount--;
+        if (--this.writeHolds == 0) {
+            this.writer = null;
+            handOver();
+        }
+    }
 
-        this.waitingForLock.offerLast(strand);
+    public synchronized void unlockShared(Strand strand) {
+        strand.acquiredLockCount--;
+        if (this.writer == strand) {
+            this.writeHolds--;
+            return;
+        }
+        if (--this.readers == 0) {
+            handOver();
+        }
+    }
+
+    /**
+     * Panics if the strand is holding any lock, since an asynchronous call is not allowed within a lock statement.
+     *
+     * @param strand strand making the asynchronous call
+     */
+    public static void panicIfInLock(Strand strand) {
+        if (strand.acquiredLockCount > 0) {
+            throw ErrorCreator.createError(BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
+        }
+    }
+
+    private void block(Strand strand, boolean shared) {
+        this.waitingForLock.offerLast(new Waiter(strand, shared));
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
         strand.blockedOnExtern = false;
-        return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+    private void handOver() {
+        Waiter next = this.waitingForLock.peekFirst();
+        if (next == null) {
+            return;
+        }
+        if (!next.shared) {
+            this.waitingForLock.removeFirst();
+            this.writer = next.strand;
+            this.writeHolds = 0;
+            next.strand.scheduler.unblockStrand(next.strand);
+            return;
+        }
+        while (next != null && next.shared) {
+            this.waitingForLock.removeFirst();
+            this.readers++;
+            this.grantedReaders.add(next.strand);
+            next.strand.scheduler.unblockStrand(next.strand);
+            next = this.waitingForLock.peekFirst();
         }
     }
 
-    public boolean isLockFree() {
-        return this.current.isEmpty();
-    }
+    private static class Waiter {
 
-    public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        private final Strand strand;
+        private final boolean shared;
+
+        private Waiter(Strand strand, boolean shared) {
+            this.strand = strand;
+            this.shared = shared;
+        }
     }
 }
@@ -32,11 +32,13 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 
 /**
  * This class represents the functionality to generate the JSON constructs to be written out
- * to a given {@link OutputStream}.
+ * to a given {@link OutputStream}. When the charset is UTF-8, the JSON is encoded directly into the bytes written to
+ * the stream, instead of going through a {@link BufferedWriter} and an {@link OutputStreamWriter}.
  * 
  * @since 0.995.0
  */
@@ -68,13 +70,23 @@ public class JsonGenerator {
     }
 
     public JsonGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        this(StandardCharsets.UTF_8.equals(charset) ? new Utf8Writer(out) :
+                     new BufferedWriter(new OutputStreamWriter(out, charset)));
     }
 
     public JsonGenerator(Writer writer) {
         this.writer = writer;
     }
 
+    /**
+     * Creates a generator that appends the JSON to the given builder, for when the JSON is needed as a string.
+     *
+     * @param builder builder to append the JSON to
+     */
+    public JsonGenerator(StringBuilder builder) {
+        this(new StringBuilderWriter(builder));
+    }
+
     private void setLevelInit(int index, boolean init) {
         this.checkAndResizeLevels(index);
         this.levelInit[index] = init;
@@ -150,24 +162,23 @@ public class JsonGenerator {
     }
 
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");
+        this.writer.write('"');
         int count = value.length();
         char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = value.charAt(i);
             if (ch < escChars.length && escChars[ch]) {
                 escaped = true;
                 break;
             }
         }
         if (escaped) {
-            this.writeStringEsc(chs);
+            this.writeStringEsc(value.toCharArray());
         } else {
-            this.writer.write(chs);
+            this.writer.write(value);
         }
-        this.writer.write("\"");
+        this.writer.write('"');
     }
 
     public void writeString(String value) throws IOException {
@@ -323,4 +334,156 @@ public class JsonGenerator {
                 break;
         }
     }
+
+    /**
+     * An unsynchronized {@link Writer} that appends to a {@link StringBuilder}.
+     */
+    private static class StringBuilderWriter extends Writer {
+
+        private final StringBuilder builder;
+
+        StringBuilderWriter(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            builder.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str) {
+            builder.append(str);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            builder.append(str, off, off + len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * A {@link Writer} that encodes the characters as UTF-8 into a buffer, which is written to the output stream when
+     * it is full or flushed.
+     */
+    private static class Utf8Writer extends Writer {
+
+        private static final int BUFFER_SIZE = 8192;
+        private static final byte REPLACEMENT = '?';
+
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        // High surrogate of a code point whose low surrogate is not written yet
+        private char highSurrogate;
+
+        Utf8Writer(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            writeChar((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            for (int i = off, end = off + len; i < end; i++) {
+                writeChar(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            for (int i = off, end = off + len; i < end; i++) {
+                char c = str.charAt(i);
+                if (c < 0x80 && position < BUFFER_SIZE && highSurrogate == 0) {
+                    buffer[position++] = (byte) c;
+                } else {
+                    writeChar(c);
+                }
+            }
+        }
+
+        private void writeChar(char c) throws IOException {
+            if (highSurrogate != 0) {
+                char high = highSurrogate;
+                highSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    int codePoint = Character.toCodePoint(high, c);
+                    ensureCapacity(4);
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    return;
+                }
+                // Unpaired surrogates are replaced, as done by the UTF-8 encoder of the JDK
+                ensureCapacity(1);
+                buffer[position++] = REPLACEMENT;
+            }
+
+            if (c < 0x80) {
+                ensureCapacity(1);
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)) {
+                highSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                ensureCapacity(1);
+                buffer[position++] = REPLACEMENT;
+            } else {
+                ensureCapacity(3);
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        private void ensureCapacity(int length) throws IOException {
+            if (position + length > BUFFER_SIZE) {
+                flushBuffer();
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            if (position > 0) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushBuffer();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                ensureCapacity(1);
+                buffer[position++] = REPLACEMENT;
+            }
+            flush();
+            out.close();
+        }
+    }
 }
@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.values.ArrayValue;
@@ -39,9 +40,12 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.function.Function;
 
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
@@ -83,6 +87,9 @@ public class JsonParser {
      */
     public static Object parse(InputStream in, String charsetName) throws BError {
         try {
+            if (isUtf8(charsetName)) {
+                return parse(in.readAllBytes(), JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+            }
             Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName),
                                    JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
             return changeForBString(jsonObj);
@@ -92,6 +99,15 @@ public class JsonParser {
         }
     }
 
+    private static boolean isUtf8(String charsetName) {
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(charsetName));
+        } catch (IllegalArgumentException e) {
+            // Unknown charsets are reported when creating the reader.
+            return false;
+        }
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -115,6 +131,69 @@ public class JsonParser {
         return parse(new StringReader(jsonStr), mode);
     }
 
+    /**
+     * Parses the given UTF-8 encoded bytes and returns a json.
+     *
+     * @param bytes the bytes which contain the JSON content
+     * @param mode  the mode to use when processing numeric values
+     * @return JSON value if parsing is successful
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return Utf8JsonParser.parse(bytes, 0, bytes.length, null, mode);
+    }
+
+    /**
+     * Parses the given range of UTF-8 encoded bytes and returns a json.
+     *
+     * @param bytes      the bytes which contain the JSON content
+     * @param offset     the index of the first byte to parse
+     * @param length     the number of bytes to parse
+     * @param targetType the type expected for the result. Field names of a record type are reused for matching
+     *                   keys, and a mapping value at the root is created with the given type if it is a map type
+     *                   which can hold the parsed values. Can be null
+     * @param mode       the mode to use when processing numeric values
+     * @return JSON value if parsing is successful
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, int offset, int length, Type targetType,
+                               JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return Utf8JsonParser.parse(bytes, offset, length, targetType, mode);
+    }
+
+    /**
+     * Parses the given UTF-8 encoded bytes directly into a value of the type described by the given typedesc. Content
+     * which cannot be bound directly is parsed as a json and converted using {@code fallback}.
+     *
+     * @param bytes    the bytes which contain the JSON content
+     * @param typedesc the typedesc of the target type
+     * @param fallback converts a json value to the target type, in the same way as {@code value:fromJsonWithType}
+     * @return the value of the target type, or the result of {@code fallback}
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, BTypedesc typedesc, Function<Object, Object> fallback) throws BError {
+        return Utf8JsonParser.parse(bytes, 0, bytes.length, typedesc, fallback);
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given {@link ByteBuffer} and returns a json. The position of
+     * the buffer is not modified.
+     *
+     * @param buffer the buffer which contains the JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON value if parsing is successful
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        if (buffer.hasArray()) {
+            return Utf8JsonParser.parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(),
+                                        null, mode);
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return Utf8JsonParser.parse(bytes, 0, bytes.length, null, mode);
+    }
+
     private static Object changeForBString(Object jsonObj) {
         if (jsonObj instanceof String) {
             return StringUtils.fromString((String) jsonObj);
@@ -28,8 +28,6 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.RefValue;
 import io.ballerina.runtime.internal.values.TableValue;
 
-import java.util.Map;
-
 import static io.ballerina.runtime.internal.CycleUtils.Node;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR;
 
@@ -42,62 +40,45 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
 public class TableUtils {
 
     /**
-     * Generates a hash value which is same for the same shape.
+     * Generates a hash value which is same for the same shape. This is the hash of {@link ValueKey#hash(Object)}, so
+     * values that are equal with `==` have the same hash value, and a key that refers to itself is rejected.
      *
      * @param obj Ballerina value which the hash is generated from
      * @param parent Node linking to the parent object of 'obj'
      * @return The hash value
      */
     public static Long hash(Object obj, Node parent) {
-        long result = 0;
+        checkForCycles(obj, parent);
+        return (long) ValueKey.hash(obj);
+    }
 
-        if (obj == null) {
-            return 0L;
+    private static void checkForCycles(Object obj, Node parent) {
+        if (!(obj instanceof RefValue)) {
+            return;
         }
 
-        if (obj instanceof RefValue) {
-
-            Node node = new Node(obj, parent);
+        Node node = new Node(obj, parent);
+        if (node.hasCyclesSoFar()) {
+            throw ErrorCreator.createError(TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR, BLangExceptionHelper
+                    .getErrorMessage(RuntimeErrors.CYCLIC_VALUE_REFERENCE, TypeChecker.getType(obj)));
+        }
 
-            if (node.hasCyclesSoFar()) {
-                throw ErrorCreator.createError(TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR, BLangExceptionHelper
-                        .getErrorMessage(RuntimeErrors.CYCLIC_VALUE_REFERENCE, TypeChecker.getType(obj)));
+        RefValue refValue = (RefValue) obj;
+        Type refType = refValue.getType();
+        if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            for (Object value : ((MapValue) refValue).values()) {
+                checkForCycles(value, node);
             }
-
-            RefValue refValue = (RefValue) obj;
-            Type refType = refValue.getType();
-            if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
-                MapValue mapValue = (MapValue) refValue;
-                for (Object entry : mapValue.entrySet()) {
-                    result = 31 * result + hash(((Map.Entry) entry).getKey(), node) +
-                            (((Map.Entry) entry).getValue() == null ? 0 : hash(((Map.Entry) entry).getValue(),
-                                    node));
-                }
-                return result;
-            } else if (refType.getTag() == TypeTags.ARRAY_TAG || refType.getTag() == TypeTags.TUPLE_TAG) {
-                ArrayValue arrayValue = (ArrayValue) refValue;
-                IteratorValue arrayIterator = arrayValue.getIterator();
-                while (arrayIterator.hasNext()) {
-                    result = 31 * result + hash(arrayIterator.next(), node);
-                }
-                return result;
-            } else if (refType.getTag() == TypeTags.XML_TAG || refType.getTag() == TypeTags.XML_ELEMENT_TAG ||
-                    refType.getTag() == TypeTags.XML_TEXT_TAG || refType.getTag() == TypeTags.XML_ATTRIBUTES_TAG ||
-                    refType.getTag() == TypeTags.XML_COMMENT_TAG || refType.getTag() == TypeTags.XML_PI_TAG ||
-                    refType.getTag() == TypeTags.XMLNS_TAG) {
-                return (long) refValue.toString().hashCode();
-            } else if (refType.getTag() == TypeTags.TABLE_TAG) {
-                TableValue tableValue = (TableValue) refValue;
-                IteratorValue tableIterator = tableValue.getIterator();
-                while (tableIterator.hasNext()) {
-                    result = 31 * result + hash(tableIterator.next(), node);
-                }
-                return result;
-            } else {
-                return (long) obj.hashCode();
+        } else if (refType.getTag() == TypeTags.ARRAY_TAG || refType.getTag() == TypeTags.TUPLE_TAG) {
+            ArrayValue arrayValue = (ArrayValue) refValue;
+            for (int i = 0, size = arrayValue.size(); i < size; i++) {
+                checkForCycles(arrayValue.get(i), node);
+            }
+        } else if (refType.getTag() == TypeTags.TABLE_TAG) {
+            IteratorValue tableIterator = ((TableValue) refValue).getIterator();
+            while (tableIterator.hasNext()) {
+                checkForCycles(tableIterator.next(), node);
             }
-        } else {
-            return (long) obj.hashCode();
         }
     }
 
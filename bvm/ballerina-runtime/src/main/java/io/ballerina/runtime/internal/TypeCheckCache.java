@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.types.Type;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.System.err;
+
+/**
+ * Caches the results of type checks that only depend on the source and the target type, so structural checks on
+ * records, objects, unions, tuples, etc. are computed once per pair of types. Types are compared by identity.
+ * <p>
+ * The cache is bounded, once it is full the cached results are discarded and the cache is filled again. The types
+ * are only weakly referenced, so types created at runtime, e.g. by {@code cloneWithType}, are not kept alive by the
+ * cache and their results are removed once they are garbage collected.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCache {
+
+    private static final int DEFAULT_MAX_SIZE = 8192;
+
+    /**
+     * This can be changed by setting the BALLERINA_TYPE_CHECK_CACHE_SIZE system variable, zero disables the cache.
+     * Default is 8192.
+     */
+    private static final int MAX_SIZE = getMaxSize();
+
+    private static final TypeCheckCache INSTANCE = new TypeCheckCache(MAX_SIZE);
+
+    private final int maxSize;
+    private final Map<TypePair, Boolean> results;
+    private final ReferenceQueue<Type> collectedTypes = new ReferenceQueue<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public TypeCheckCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.results = new ConcurrentHashMap<>();
+    }
+
+    public static TypeCheckCache getInstance() {
+        return INSTANCE;
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return cached result or null if the pair of types has not been checked yet
+     */
+    Boolean get(Type sourceType, Type targetType) {
+        Boolean result = results.get(new StrongTypePair(sourceType, targetType));
+        if (result == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return result;
+    }
+
+    void put(Type sourceType, Type targetType, boolean result) {
+        removeCollectedTypes();
+        if (results.size() >= maxSize) {
+            results.clear();
+        }
+        results.put(new WeakTypePair(sourceType, targetType, collectedTypes), result);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        removeCollectedTypes();
+        return results.size();
+    }
+
+    public void clear() {
+        results.clear();
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    private void removeCollectedTypes() {
+        Reference<? extends Type> ref;
+        while ((ref = collectedTypes.poll()) != null) {
+            results.remove(((TypeReference) ref).pair);
+        }
+    }
+
+    private static int getMaxSize() {
+        String maxSizeConf = System.getenv(RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR);
+        if (maxSizeConf == null) {
+            return DEFAULT_MAX_SIZE;
+        }
+        try {
+            return Integer.parseInt(maxSizeConf);
+        } catch (NumberFormatException e) {
+            // Log and continue with default
+            err.println("ballerina: error occurred while reading system variable:" +
+                                RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR + ", " + e.getMessage());
+            return DEFAULT_MAX_SIZE;
+        }
+    }
+
+    /**
+     * Pair of types compared by identity. Pairs stored in the cache refer to the types weakly, while pairs used for
+     * lookups refer to them strongly.
+     */
+    private abstract static class TypePair {
+
+        private final int hash;
+
+        TypePair(Type sourceType, Type targetType) {
+            this.hash = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+
+        abstract Type getSourceType();
+
+        abstract Type getTargetType();
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TypePair)) {
+                return false;
+            }
+            TypePair other = (TypePair) obj;
+            Type sourceType = getSourceType();
+            Type targetType = getTargetType();
+            // A pair of which a type has been collected is not equal to any other pair
+            return sourceType != null && targetType != null && hash == other.hash &&
+                    sourceType == other.getSourceType() && targetType == other.getTargetType();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static class StrongTypePair extends TypePair {
+
+        private final Type sourceType;
+        private final Type targetType;
+
+        StrongTypePair(Type sourceType, Type targetType) {
+            super(sourceType, targetType);
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        Type getSourceType() {
+            return sourceType;
+        }
+
+        @Override
+        Type getTargetType() {
+            return targetType;
+        }
+    }
+
+    private static class WeakTypePair extends TypePair {
+
+        private final TypeReference sourceType;
+        private final TypeReference targetType;
+
+        WeakTypePair(Type sourceType, Type targetType, ReferenceQueue<Type> queue) {
+            super(sourceType, targetType);
+            this.sourceType = new TypeReference(sourceType, this, queue);
+            this.targetType = new TypeReference(targetType, this, queue);
+        }
+
+        @Override
+        Type getSourceType() {
+            return sourceType.get();
+        }
+
+        @Override
+        Type getTargetType() {
+            return targetType.get();
+        }
+    }
+
+    /**
+     * Weak reference to a type, which knows the pair to remove from the cache once the type is collected.
+     */
+    private static class TypeReference extends WeakReference<Type> {
+
+        private final WeakTypePair pair;
+
+        TypeReference(Type type, WeakTypePair pair, ReferenceQueue<Type> queue) {
+            super(type, queue);
+            this.pair = pair;
+        }
+    }
+}
@@ -121,6 +121,8 @@ import static io.ballerina.runtime.api.utils.TypeUtils.isValueType;
 @SuppressWarnings({"rawtypes"})
 public class TypeChecker {
 
+    private static final TypeCheckCache TYPE_CHECK_CACHE = TypeCheckCache.getInstance();
+
     public static Object checkCast(Object sourceVal, Type targetType) {
 
         if (checkIsType(sourceVal, targetType)) {
@@ -551,6 +553,57 @@ public class TypeChecker {
 
     @Deprecated
     public static boolean checkIsType(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
+        // Results are only cached for checks that do not depend on assumptions made on unresolved types.
+        if (unresolvedTypes == null) {
+            return checkIsType(sourceType, targetType, TYPE_CHECK_CACHE);
+        }
+        return checkIsTypeUncached(sourceType, targetType, unresolvedTypes);
+    }
+
+    /**
+     * Check whether a given type is equivalent to a target type, using the given cache for the result of the check.
+     *
+     * @param sourceType type to check
+     * @param targetType type to compare with
+     * @param cache      cache of type check results
+     * @return flag indicating the the equivalence of the two types
+     */
+    public static boolean checkIsType(Type sourceType, Type targetType, TypeCheckCache cache) {
+        if (sourceType == targetType || !cache.isEnabled() || !isStructuredTypeCheck(sourceType, targetType)) {
+            return checkIsTypeUncached(sourceType, targetType, null);
+        }
+        Boolean cachedResult = cache.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = checkIsTypeUncached(sourceType, targetType, null);
+        cache.put(sourceType, targetType, result);
+        return result;
+    }
+
+    private static boolean isStructuredTypeCheck(Type sourceType, Type targetType) {
+        return isStructuredTypeTag(sourceType.getTag()) || isStructuredTypeTag(targetType.getTag());
+    }
+
+    private static boolean isStructuredTypeTag(int typeTag) {
+        switch (typeTag) {
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.ERROR_TAG:
+            case TypeTags.INTERSECTION_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean checkIsTypeUncached(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
         // First check whether both types are the same.
         if (sourceType == targetType || (sourceType.getTag() == targetType.getTag() && sourceType.equals(targetType))) {
             return true;
@@ -679,6 +732,11 @@ public class TypeChecker {
             return checkIsType(sourceType, targetType);
         }
 
+        // A value always belongs to the super types of its type, which can be checked by looking only at the types.
+        if (unresolvedTypes == null && checkIsType(sourceType, targetType)) {
+            return true;
+        }
+
         if (targetTypeTag == TypeTags.INTERSECTION_TAG) {
             targetType = ((BIntersectionType) targetType).getEffectiveType();
             targetTypeTag = targetType.getTag();
@@ -0,0 +1,893 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.ArrayType.ArrayState;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.BmpStringValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
+
+/**
+ * A JSON parser which works directly on UTF-8 encoded bytes.
+ * <p>
+ * Unlike the {@link JsonParser} state machine, the input is not decoded into characters up front. Structural
+ * characters, numbers and literals are recognized on the raw bytes, and only string contents are decoded. Field
+ * names are looked up in a per thread table of previously seen names, so repeated keys (e.g. in an array of
+ * objects) reuse the same {@link BString} instead of allocating a new one per occurrence. The table can be seeded
+ * with the field names of a target record type.
+ * <p>
+ * The produced values, numeric conversions and error messages are the same as those of {@link JsonParser}. The
+ * parser can also bind the content directly to a target type, creating records, maps and arrays of that type
+ * instead of json values which are then converted.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+final class Utf8JsonParser {
+
+    private static final ThreadLocal<Utf8JsonParser> tlParser = ThreadLocal.withInitial(Utf8JsonParser::new);
+
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+
+    private final FieldNameTable fieldNames = new FieldNameTable();
+
+    private JsonUtils.NonStringValueProcessingMode mode = FROM_JSON_STRING;
+    private Type definedJsonType = PredefinedTypes.TYPE_JSON;
+    private Type rootMapType;
+
+    // Set only when binding to a target type. Then the types stack holds the type of each container being created,
+    // and null for containers created as plain json.
+    private BTypedesc typedesc;
+    private Type rootType;
+
+    private byte[] buf;
+    private int start;
+    private int pos;
+    private int limit;
+
+    private Object[] nodesStack = new Object[16];
+    private BString[] keysStack = new BString[16];
+    private Type[] typesStack = new Type[16];
+    private int depth;
+
+    /**
+     * Parses the given UTF-8 encoded bytes and returns a json.
+     *
+     * @param bytes      the bytes which contain the JSON content
+     * @param offset     the index of the first byte to parse
+     * @param length     the number of bytes to parse
+     * @param targetType the type expected for the result, used to seed field names and to type the root mapping
+     *                   value. Can be null
+     * @param mode       the mode to use when processing numeric values
+     * @return JSON value if parsing is successful
+     * @throws BError for any parsing error
+     */
+    static Object parse(byte[] bytes, int offset, int length, Type targetType,
+                        JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        checkBounds(bytes, offset, length);
+        Utf8JsonParser parser = acquire();
+        try {
+            parser.init(bytes, offset, length, targetType, mode);
+            return parser.parseDocument();
+        } catch (JsonParserException e) {
+            throw parser.createError(e);
+        } catch (UnsupportedBindingException e) {
+            // Cannot happen, since no target type is bound.
+            throw new IllegalStateException(e);
+        } finally {
+            release(parser);
+        }
+    }
+
+    /**
+     * Parses the given UTF-8 encoded bytes directly into a value of the type described by the given typedesc,
+     * without creating an intermediate json value.
+     * <p>
+     * Only the common shapes of JSON documents are bound directly: records, maps and arrays whose members are
+     * simple basic types, json, or such records, maps and arrays. For other target types, and for content which
+     * does not convert to the target type, the bytes are parsed as a json and given to {@code fallback}, which
+     * should do the generic conversion. This keeps the results and errors identical to the generic conversion.
+     *
+     * @param bytes    the bytes which contain the JSON content
+     * @param offset   the index of the first byte to parse
+     * @param length   the number of bytes to parse
+     * @param typedesc the typedesc of the target type
+     * @param fallback converts a json value to the target type
+     * @return the value of the target type, or the result of {@code fallback}
+     * @throws BError for any parsing error
+     */
+    static Object parse(byte[] bytes, int offset, int length, BTypedesc typedesc,
+                        Function<Object, Object> fallback) throws BError {
+        checkBounds(bytes, offset, length);
+        Utf8JsonParser parser = acquire();
+        try {
+            parser.init(bytes, offset, length, typedesc.getDescribingType(), FROM_JSON_STRING);
+            parser.typedesc = typedesc;
+            parser.rootType = typedesc.getDescribingType();
+            return parser.parseDocument();
+        } catch (JsonParserException e) {
+            throw parser.createError(e);
+        } catch (UnsupportedBindingException e) {
+            // Fall back to the generic conversion below, once the parser has been released.
+        } finally {
+            release(parser);
+        }
+        return fallback.apply(parse(bytes, offset, length, null, FROM_JSON_STRING));
+    }
+
+    /**
+     * Takes the parser of the current thread out of the thread local while it is in use. Binding to a record runs
+     * the default value initializers of its fields, which may parse JSON themselves, so a nested parse on the same
+     * thread gets a new parser instead of overwriting the state of the one in use.
+     *
+     * @return a parser which is not used by any other parse
+     */
+    private static Utf8JsonParser acquire() {
+        Utf8JsonParser parser = tlParser.get();
+        if (parser == null) {
+            return new Utf8JsonParser();
+        }
+        tlParser.set(null);
+        return parser;
+    }
+
+    private static void release(Utf8JsonParser parser) {
+        // Drop the references to the input and the created values, so that they can be garbage collected.
+        parser.reset();
+        tlParser.set(parser);
+    }
+
+    private static void checkBounds(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " +
+                                                        bytes.length);
+        }
+    }
+
+    private void init(byte[] bytes, int offset, int length, Type targetType,
+                      JsonUtils.NonStringValueProcessingMode mode) {
+        this.buf = bytes;
+        this.start = offset;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.mode = mode;
+        if (mode == FROM_JSON_DECIMAL_STRING) {
+            this.definedJsonType = PredefinedTypes.TYPE_JSON_DECIMAL;
+        } else if (mode == FROM_JSON_FLOAT_STRING) {
+            this.definedJsonType = PredefinedTypes.TYPE_JSON_FLOAT;
+        } else {
+            this.definedJsonType = PredefinedTypes.TYPE_JSON;
+        }
+        this.rootMapType = null;
+        if (targetType == null) {
+            return;
+        }
+        switch (targetType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                for (String fieldName : ((RecordType) targetType).getFields().keySet()) {
+                    this.fieldNames.seed(fieldName);
+                }
+                break;
+            case TypeTags.MAP_TAG:
+                if (TypeChecker.checkIsType(definedJsonType, ((MapType) targetType).getConstrainedType())) {
+                    this.rootMapType = targetType;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void reset() {
+        this.buf = null;
+        Arrays.fill(this.nodesStack, 0, this.depth, null);
+        Arrays.fill(this.keysStack, 0, this.depth, null);
+        Arrays.fill(this.typesStack, 0, this.depth, null);
+        this.depth = 0;
+        this.rootMapType = null;
+        this.typedesc = null;
+        this.rootType = null;
+    }
+
+    private Object parseDocument() throws JsonParserException, UnsupportedBindingException {
+        skipWhitespace();
+        if (pos >= limit) {
+            throw new JsonParserException("empty JSON document");
+        }
+        Object value;
+        parseValue:
+        while (true) {
+            if (pos >= limit) {
+                throw new JsonParserException("unexpected end of JSON document");
+            }
+            Type type = typedesc == null ? null : expectedType();
+            byte b = buf[pos];
+            if (b == '{') {
+                pos++;
+                type = getStructureType(type, TypeTags.MAP_TAG);
+                Object map = newMap(type);
+                skipWhitespace();
+                if (peek() == '}') {
+                    pos++;
+                    value = completeStructure(map);
+                } else {
+                    push(map, parseFieldName(), type);
+                    continue;
+                }
+            } else if (b == '[') {
+                pos++;
+                type = getStructureType(type, TypeTags.ARRAY_TAG);
+                ArrayValue array = new ArrayValueImpl(type == null ? new BArrayType(definedJsonType) :
+                                                              (ArrayType) type);
+                skipWhitespace();
+                if (peek() == ']') {
+                    pos++;
+                    value = array;
+                } else {
+                    push(array, null, type);
+                    continue;
+                }
+            } else if (b == '"' || b == '\'') {
+                pos++;
+                value = bindSimpleValue(parseString(b), type);
+            } else {
+                value = bindSimpleValue(parseNonStringValue(), type);
+            }
+
+            // Add the completed value to its parent, closing any containers which end with it.
+            while (depth > 0) {
+                Object parent = nodesStack[depth - 1];
+                skipWhitespace();
+                byte next = pos < limit ? buf[pos++] : -1;
+                if (parent instanceof ArrayValue) {
+                    ((ArrayValue) parent).append(value);
+                    if (next == ',') {
+                        skipWhitespace();
+                        continue parseValue;
+                    } else if (next != ']') {
+                        throwUnexpected(next, ",", "]");
+                    }
+                } else {
+                    if (parent instanceof RecordFields) {
+                        ((RecordFields) parent).values.put(keysStack[depth - 1], value);
+                    } else {
+                        ((MapValueImpl<BString, Object>) parent).put(keysStack[depth - 1], value);
+                    }
+                    if (next == ',') {
+                        skipWhitespace();
+                        keysStack[depth - 1] = parseFieldName();
+                        continue parseValue;
+                    } else if (next != '}') {
+                        throwUnexpected(next, ",", "}");
+                    }
+                }
+                value = completeStructure(pop());
+            }
+            break;
+        }
+        skipWhitespace();
+        if (pos < limit) {
+            throw new JsonParserException("JSON document has already ended");
+        }
+        return value;
+    }
+
+    private Object newMap(Type type) {
+        if (type == null) {
+            if (depth == 0 && rootMapType != null) {
+                return new MapValueImpl<>(rootMapType);
+            }
+            return new MapValueImpl<>(new BMapType(definedJsonType));
+        }
+        if (type.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            return new RecordFields((RecordType) type, typedesc.getDescribingType() == type);
+        }
+        return new MapValueImpl<>(type);
+    }
+
+    private void push(Object node, BString key, Type type) {
+        if (depth == nodesStack.length) {
+            nodesStack = Arrays.copyOf(nodesStack, depth * 2);
+            keysStack = Arrays.copyOf(keysStack, depth * 2);
+            typesStack = Arrays.copyOf(typesStack, depth * 2);
+        }
+        nodesStack[depth] = node;
+        keysStack[depth] = key;
+        typesStack[depth] = type;
+        depth++;
+    }
+
+    private Object pop() {
+        depth--;
+        Object node = nodesStack[depth];
+        nodesStack[depth] = null;
+        keysStack[depth] = null;
+        typesStack[depth] = null;
+        return node;
+    }
+
+    /**
+     * Returns the type the next value should be bound to, or null if it should be created as a json.
+     */
+    private Type expectedType() throws UnsupportedBindingException {
+        Type type;
+        if (depth == 0) {
+            type = rootType;
+        } else {
+            Type parentType = typesStack[depth - 1];
+            if (parentType == null) {
+                return null;
+            }
+            switch (parentType.getTag()) {
+                case TypeTags.RECORD_TYPE_TAG:
+                    RecordType recordType = (RecordType) parentType;
+                    Field field = recordType.getFields().get(keysStack[depth - 1].getValue());
+                    if (field != null) {
+                        type = field.getFieldType();
+                    } else if (!recordType.isSealed()) {
+                        type = recordType.getRestFieldType();
+                    } else {
+                        throw UnsupportedBindingException.INSTANCE;
+                    }
+                    break;
+                case TypeTags.MAP_TAG:
+                    type = ((MapType) parentType).getConstrainedType();
+                    break;
+                default:
+                    type = ((ArrayType) parentType).getElementType();
+                    break;
+            }
+        }
+        return type.getTag() == TypeTags.JSON_TAG ? null : type;
+    }
+
+    /**
+     * Returns the type of the structured value to be created for the given expected type, which is null for a json
+     * value.
+     */
+    private static Type getStructureType(Type type, int basicTypeTag) throws UnsupportedBindingException {
+        if (type == null) {
+            return null;
+        }
+        type = getNonNilType(type);
+        if (type.isReadOnly()) {
+            throw UnsupportedBindingException.INSTANCE;
+        }
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+                if (basicTypeTag == TypeTags.MAP_TAG) {
+                    return type;
+                }
+                break;
+            case TypeTags.ARRAY_TAG:
+                if (basicTypeTag == TypeTags.ARRAY_TAG && ((ArrayType) type).getState() == ArrayState.OPEN) {
+                    return type;
+                }
+                break;
+            default:
+                break;
+        }
+        throw UnsupportedBindingException.INSTANCE;
+    }
+
+    /**
+     * Returns {@code T} for a {@code T?} type and the type itself for any other type, other than a union.
+     */
+    private static Type getNonNilType(Type type) throws UnsupportedBindingException {
+        if (type.getTag() != TypeTags.UNION_TAG) {
+            return type;
+        }
+        List<Type> memberTypes = ((UnionType) type).getMemberTypes();
+        if (memberTypes.size() == 2) {
+            if (memberTypes.get(0).getTag() == TypeTags.NULL_TAG) {
+                return getNonNilType(memberTypes.get(1));
+            } else if (memberTypes.get(1).getTag() == TypeTags.NULL_TAG) {
+                return getNonNilType(memberTypes.get(0));
+            }
+        }
+        throw UnsupportedBindingException.INSTANCE;
+    }
+
+    /**
+     * Converts a string, number, boolean or null to the expected type, the same way a json value is converted by
+     * {@code value:fromJsonWithType}.
+     */
+    private static Object bindSimpleValue(Object value, Type type) throws UnsupportedBindingException {
+        if (type == null) {
+            return value;
+        }
+        if (value == null) {
+            if (type.isNilable()) {
+                return null;
+            }
+            throw UnsupportedBindingException.INSTANCE;
+        }
+        type = getNonNilType(type);
+        switch (type.getTag()) {
+            case TypeTags.ANYDATA_TAG:
+                return value;
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                if (TypeChecker.checkIsType(value, type)) {
+                    return value;
+                }
+                if (TypeChecker.checkIsLikeType(value, type, true)) {
+                    try {
+                        return TypeConverter.convertValues(type, value);
+                    } catch (BError e) {
+                        // Let the generic conversion report the error.
+                        break;
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+        throw UnsupportedBindingException.INSTANCE;
+    }
+
+    private Object completeStructure(Object node) throws UnsupportedBindingException {
+        if (!(node instanceof RecordFields)) {
+            return node;
+        }
+        RecordFields fields = (RecordFields) node;
+        RecordType recordType = fields.type;
+        for (Field field : recordType.getFields().values()) {
+            if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED) &&
+                    !fields.values.containsKey(StringUtils.fromString(field.getFieldName()))) {
+                throw UnsupportedBindingException.INSTANCE;
+            }
+        }
+        try {
+            if (fields.instantiate) {
+                BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[fields.values.size()];
+                int i = 0;
+                for (Map.Entry<BString, Object> entry : fields.values.entrySet()) {
+                    initialValues[i++] = ValueCreator.createKeyFieldEntry(entry.getKey(), entry.getValue());
+                }
+                return typedesc.instantiate(Scheduler.getStrand(), initialValues);
+            }
+            BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(),
+                                                                          recordType.getName());
+            for (Map.Entry<BString, Object> entry : fields.values.entrySet()) {
+                record.populateInitialValue(entry.getKey(), entry.getValue());
+            }
+            return record;
+        } catch (BError | BallerinaException e) {
+            // Let the generic conversion report the error.
+            throw UnsupportedBindingException.INSTANCE;
+        }
+    }
+
+    private byte peek() {
+        return pos < limit ? buf[pos] : -1;
+    }
+
+    private void skipWhitespace() {
+        while (pos < limit) {
+            byte b = buf[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private void throwUnexpected(byte b, String... expected) throws JsonParserException {
+        if (b == -1 && pos >= limit) {
+            throw new JsonParserException("unexpected end of JSON document");
+        }
+        pos--;
+        throw new JsonParserException("expected " + String.join(" or ", expected));
+    }
+
+    private BString parseFieldName() throws JsonParserException {
+        byte quote = peek();
+        if (quote != '"' && quote != '\'') {
+            if (pos >= limit) {
+                throw new JsonParserException("unexpected end of JSON document");
+            }
+            throw new JsonParserException("expected \"");
+        }
+        int nameStart = ++pos;
+        int hash = 0;
+        while (pos < limit) {
+            byte b = buf[pos];
+            if (b == quote) {
+                BString name = fieldNames.get(buf, nameStart, pos - nameStart, hash);
+                pos++;
+                expectColon();
+                return name;
+            } else if (b == '\\') {
+                break;
+            }
+            hash = 31 * hash + b;
+            pos++;
+        }
+        // Names with escape sequences are not cached, since their bytes differ from the field name.
+        pos = nameStart;
+        BString name = parseString(quote);
+        expectColon();
+        return name;
+    }
+
+    private void expectColon() throws JsonParserException {
+        skipWhitespace();
+        if (pos >= limit) {
+            throw new JsonParserException("unexpected end of JSON document");
+        }
+        if (buf[pos] != ':') {
+            throw new JsonParserException("expected :");
+        }
+        pos++;
+        skipWhitespace();
+        if (pos >= limit) {
+            throw new JsonParserException("unexpected end of JSON document");
+        }
+    }
+
+    /**
+     * Parses a string starting just after the opening quote and positions the parser after the closing quote.
+     */
+    private BString parseString(byte quote) throws JsonParserException {
+        int strStart = pos;
+        boolean ascii = true;
+        while (pos < limit) {
+            byte b = buf[pos];
+            if (b == quote) {
+                BString str = ascii ?
+                        new BmpStringValue(new String(buf, strStart, pos - strStart, StandardCharsets.ISO_8859_1)) :
+                        StringUtils.fromString(new String(buf, strStart, pos - strStart, StandardCharsets.UTF_8));
+                pos++;
+                return str;
+            } else if (b == '\\') {
+                return StringUtils.fromString(parseEscapedString(quote, strStart));
+            }
+            ascii &= b >= 0;
+            pos++;
+        }
+        throw new JsonParserException("unexpected end of JSON document");
+    }
+
+    private String parseEscapedString(byte quote, int strStart) throws JsonParserException {
+        StringBuilder sb = new StringBuilder(pos - strStart + 16);
+        int runStart = strStart;
+        while (pos < limit) {
+            byte b = buf[pos];
+            if (b == quote) {
+                appendUtf8(sb, runStart, pos);
+                pos++;
+                return sb.toString();
+            } else if (b != '\\') {
+                pos++;
+                continue;
+            }
+            appendUtf8(sb, runStart, pos);
+            pos++;
+            if (pos >= limit) {
+                break;
+            }
+            switch (buf[pos]) {
+                case '"':
+                    sb.append('"');
+                    break;
+                case '\\':
+                    sb.append('\\');
+                    break;
+                case '/':
+                    sb.append('/');
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    sb.append(parseUnicodeEscape());
+                    break;
+                default:
+                    throw new JsonParserException("expected escaped characters");
+            }
+            pos++;
+            runStart = pos;
+        }
+        throw new JsonParserException("unexpected end of JSON document");
+    }
+
+    private char parseUnicodeEscape() throws JsonParserException {
+        int codePoint = 0;
+        for (int i = 0; i < 4; i++) {
+            pos++;
+            if (pos >= limit) {
+                throw new JsonParserException("unexpected end of JSON document");
+            }
+            int digit = Character.digit(buf[pos], 16);
+            if (digit < 0) {
+                throw new JsonParserException("expected hexadecimal value of an unicode character");
+            }
+            codePoint = (codePoint << 4) | digit;
+        }
+        return (char) codePoint;
+    }
+
+    private void appendUtf8(StringBuilder sb, int from, int to) {
+        if (from < to) {
+            sb.append(new String(buf, from, to - from, StandardCharsets.UTF_8));
+        }
+    }
+
+    private Object parseNonStringValue() throws JsonParserException {
+        int tokenStart = pos;
+        while (pos < limit) {
+            byte b = buf[pos];
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                break;
+            }
+            pos++;
+        }
+        int length = pos - tokenStart;
+        if (length == 0) {
+            throw new JsonParserException("unrecognized token '" + (char) buf[pos] + "'");
+        }
+        switch (buf[tokenStart]) {
+            case 't':
+                if (matches(tokenStart, length, "true")) {
+                    return Boolean.TRUE;
+                }
+                break;
+            case 'f':
+                if (matches(tokenStart, length, "false")) {
+                    return Boolean.FALSE;
+                }
+                break;
+            case 'n':
+                if (matches(tokenStart, length, "null")) {
+                    return null;
+                }
+                break;
+            default:
+                if (mode == FROM_JSON_STRING) {
+                    Object value = parseLong(tokenStart, length);
+                    if (value != null) {
+                        return value;
+                    }
+                }
+                break;
+        }
+        return parseNumber(new String(buf, tokenStart, length, StandardCharsets.UTF_8));
+    }
+
+    private boolean matches(int from, int length, String literal) {
+        if (length != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buf[from + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a plain integer without going through a string. Returns null if the token is not a plain integer that
+     * is guaranteed to fit in a long, in which case it should be handled by {@link #parseNumber(String)}.
+     */
+    private Long parseLong(int from, int length) {
+        int i = from;
+        int end = from + length;
+        boolean negative = buf[i] == '-';
+        if (negative) {
+            i++;
+        }
+        if (i == end || end - i > MAX_SAFE_LONG_DIGITS) {
+            return null;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buf[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            value = value * 10 + digit;
+        }
+        if (negative) {
+            // Negative zero is represented as a float, same as JsonParser.
+            return value == 0 ? null : -value;
+        }
+        return value;
+    }
+
+    private Object parseNumber(String str) throws JsonParserException {
+        try {
+            switch (mode) {
+                case FROM_JSON_FLOAT_STRING:
+                    return Double.parseDouble(str);
+                case FROM_JSON_DECIMAL_STRING:
+                    return new DecimalValue(str);
+                default:
+                    if (isNegativeZero(str)) {
+                        return Double.parseDouble(str);
+                    } else if (str.indexOf('.') >= 0) {
+                        return new DecimalValue(str);
+                    }
+                    return Long.parseLong(str);
+            }
+        } catch (NumberFormatException ignore) {
+            throw new JsonParserException("unrecognized token '" + str + "'");
+        }
+    }
+
+    private static boolean isNegativeZero(String str) {
+        return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
+    }
+
+    private BError createError(JsonParserException e) {
+        // Line and column are only needed for errors, hence computed here instead of while parsing.
+        int line = 1;
+        int column = 0;
+        int end = Math.min(pos, limit - 1);
+        for (int i = start; i <= end; i++) {
+            byte b = buf[i];
+            if (b == '\n') {
+                line++;
+                column = 0;
+            } else if ((b & 0xC0) != 0x80) {
+                column++;
+            }
+        }
+        return ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + line + " column: " +
+                                                                       column));
+    }
+
+    /**
+     * Represents a JSON parser related exception.
+     */
+    private static class JsonParserException extends Exception {
+
+        private static final long serialVersionUID = -2184227402624926375L;
+
+        JsonParserException(String msg) {
+            super(msg, null, false, false);
+        }
+
+    }
+
+    /**
+     * Holds the fields of a record value being parsed, until the record is created at the end of the JSON object.
+     */
+    private static class RecordFields {
+
+        private final RecordType type;
+        private final boolean instantiate;
+        private final Map<BString, Object> values;
+
+        RecordFields(RecordType type, boolean instantiate) {
+            this.type = type;
+            this.instantiate = instantiate;
+            // Same as the generic conversion, which keeps the field order only when instantiating through the
+            // typedesc.
+            this.values = instantiate ? new LinkedHashMap<>() : new HashMap<>();
+        }
+    }
+
+    /**
+     * Thrown when the content cannot be bound directly to the target type.
+     */
+    private static class UnsupportedBindingException extends Exception {
+
+        private static final long serialVersionUID = 4270587127311469317L;
+        private static final UnsupportedBindingException INSTANCE = new UnsupportedBindingException();
+
+        private UnsupportedBindingException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+    /**
+     * A direct mapped cache of field names, keyed by their UTF-8 bytes. A name which maps to an occupied slot replaces
+     * the name in it, so the cache keeps up with the names of the documents being parsed instead of being filled up
+     * by the first ones.
+     */
+    private static class FieldNameTable {
+
+        private static final int CAPACITY = 1024;
+        private static final int MAX_NAME_LENGTH = 64;
+
+        private final byte[][] names = new byte[CAPACITY][];
+        private final int[] hashes = new int[CAPACITY];
+        private final BString[] values = new BString[CAPACITY];
+
+        void seed(String name) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            int hash = 0;
+            for (byte b : bytes) {
+                hash = 31 * hash + b;
+            }
+            get(bytes, 0, bytes.length, hash);
+        }
+
+        BString get(byte[] buf, int offset, int length, int hash) {
+            int index = (hash ^ (hash >>> 16)) & (CAPACITY - 1);
+            byte[] name = names[index];
+            if (name != null && hashes[index] == hash &&
+                    Arrays.equals(name, 0, name.length, buf, offset, offset + length)) {
+                return values[index];
+            }
+            BString value = StringUtils.fromString(new String(buf, offset, length, StandardCharsets.UTF_8));
+            // Long names are not cached, since they are unlikely to be repeated keys.
+            if (length <= MAX_NAME_LENGTH) {
+                names[index] = Arrays.copyOfRange(buf, offset, offset + length);
+                hashes[index] = hash;
+                values[index] = value;
+            }
+            return value;
+        }
+    }
+}
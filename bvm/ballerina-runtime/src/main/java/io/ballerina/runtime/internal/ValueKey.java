@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+
+/**
+ * Wraps a Ballerina value to be used as the key of a Java hash map. Keys are compared with the semantics of the `==`
+ * operator and the hash code, which is consistent with it, is computed once when the key is created.
+ *
+ * @since 2.0.0
+ */
+public final class ValueKey {
+
+    private static final int MAX_HASH_DEPTH = 4;
+
+    private final Object value;
+    private final int hash;
+
+    public ValueKey(Object value) {
+        this.value = value;
+        this.hash = hash(value, 0);
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ValueKey)) {
+            return false;
+        }
+        ValueKey other = (ValueKey) o;
+        return hash == other.hash && TypeChecker.isEqual(value, other.value);
+    }
+
+    /**
+     * Returns a hash code for a value, which is the same for values that are equal with `==`. Members of structured
+     * values are only hashed up to a fixed depth, which also keeps the hashing of cyclic values bounded.
+     *
+     * @param value Ballerina value
+     * @return hash code of the value
+     */
+    public static int hash(Object value) {
+        return hash(value, 0);
+    }
+
+    private static int hash(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Double) {
+            double d = (Double) value;
+            // 0.0 == -0.0 and NaN == NaN, so both need to land in the same bucket
+            return d == 0.0 ? 0 : Double.hashCode(d);
+        }
+        if (value instanceof BDecimal) {
+            return ((BDecimal) value).decimalValue().stripTrailingZeros().hashCode();
+        }
+        if (value instanceof BString || value instanceof Long || value instanceof Integer ||
+                value instanceof Boolean) {
+            // int and byte values that are equal have the same Java hash code
+            return value.hashCode();
+        }
+        if (depth >= MAX_HASH_DEPTH) {
+            return 0;
+        }
+        if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            int result = 1;
+            for (long i = 0, size = array.size(); i < size; i++) {
+                result = 31 * result + hash(array.get(i), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BMap) {
+            // Mapping equality does not depend on the order of the fields
+            int result = 0;
+            for (Map.Entry<?, ?> entry : ((BMap<?, ?>) value).entrySet()) {
+                result += hash(entry.getKey(), depth + 1) ^ hash(entry.getValue(), depth + 1);
+            }
+            return result;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.function.Supplier;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Pull based reader which reads the elements of an XML document that are at a given path, one element at a time.
+ * Only the element that is returned is built as an xml value, so when the document is read from a stream, the memory
+ * used while reading is bounded by the size of a single matching element rather than that of the whole document.
+ * <p>
+ * Each step of the path is the expanded name of an element, i.e. {@code {namespace-uri}local-name} or just
+ * {@code local-name} for an element without a namespace. A step with {@code *} as the local name matches any
+ * element in the given namespace, while a step that is just {@code *} matches any element. The first step is
+ * matched against the root element of the document.
+ *
+ * @since 2.0.0
+ */
+public class XmlElementStreamReader implements AutoCloseable {
+
+    private static final String WILDCARD = "*";
+
+    private final XmlTreeBuilder treeBuilder;
+    private final XMLStreamReader xmlStreamReader;
+    private final QName[] path;
+    // Number of elements that are open at the current position of the reader
+    private int depth;
+    // Number of leading steps of the path matched by the open elements
+    private int matched;
+    // Whether the end of the document has been reached or the reader has been closed
+    private boolean done;
+
+    public XmlElementStreamReader(Reader reader, String... path) {
+        this(() -> new XmlTreeBuilder(reader), path);
+    }
+
+    public XmlElementStreamReader(InputStream inputStream, String... path) {
+        this(() -> new XmlTreeBuilder(inputStream), path);
+    }
+
+    private XmlElementStreamReader(Supplier<XmlTreeBuilder> treeBuilderSupplier, String[] path) {
+        if (path.length == 0) {
+            throw ErrorCreator.createError(StringUtils.fromString("xml element path cannot be empty"));
+        }
+        this.path = new QName[path.length];
+        for (int i = 0; i < path.length; i++) {
+            try {
+                this.path[i] = QName.valueOf(path[i]);
+            } catch (IllegalArgumentException e) {
+                throw ErrorCreator.createError(StringUtils.fromString("invalid xml element path step: " + path[i]));
+            }
+        }
+        try {
+            this.treeBuilder = treeBuilderSupplier.get();
+        } catch (BError e) {
+            // an error reading the source
+            throw e;
+        } catch (Throwable e) {
+            throw ErrorCreator.createError(StringUtils.fromString("failed to create xml reader: " + e.getMessage()));
+        }
+        this.xmlStreamReader = treeBuilder.getXmlStreamReader();
+    }
+
+    /**
+     * Reads up to the next element that matches the path and returns it.
+     *
+     * @return the next matching element, or null if there are no more matching elements in the document
+     */
+    public BXml next() {
+        if (done) {
+            return null;
+        }
+        try {
+            while (xmlStreamReader.hasNext()) {
+                switch (xmlStreamReader.next()) {
+                    case START_ELEMENT:
+                        depth++;
+                        if (matched != depth - 1 || !matches(path[matched], xmlStreamReader.getName())) {
+                            // Elements below a non matching element are skipped without being built
+                            break;
+                        }
+                        if (depth < path.length) {
+                            matched = depth;
+                            break;
+                        }
+                        // The builder consumes the events up to the end of the element
+                        depth--;
+                        return treeBuilder.parseElement();
+                    case END_ELEMENT:
+                        if (matched == depth) {
+                            matched--;
+                        }
+                        depth--;
+                        break;
+                    case END_DOCUMENT:
+                        done = true;
+                        return null;
+                    default:
+                        break;
+                }
+            }
+        } catch (BError e) {
+            done = true;
+            throw e;
+        } catch (Throwable e) {
+            done = true;
+            throw ErrorCreator.createError(StringUtils.fromString("failed to parse xml: " + e.getMessage()));
+        }
+        done = true;
+        return null;
+    }
+
+    @Override
+    public void close() {
+        done = true;
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("failed to close xml reader: " + e.getMessage()));
+        }
+    }
+
+    private static boolean matches(QName step, QName name) {
+        String localPart = step.getLocalPart();
+        if (WILDCARD.equals(localPart) && step.getNamespaceURI().isEmpty()) {
+            return true;
+        }
+        return (WILDCARD.equals(localPart) || localPart.equals(name.getLocalPart())) &&
+                step.getNamespaceURI().equals(name.getNamespaceURI());
+    }
+}
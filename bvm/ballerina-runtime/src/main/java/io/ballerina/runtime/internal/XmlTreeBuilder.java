@@ -29,6 +29,7 @@ import io.ballerina.runtime.internal.values.XmlPi;
 import io.ballerina.runtime.internal.values.XmlQName;
 import io.ballerina.runtime.internal.values.XmlSequence;
 
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayDeque;
@@ -79,6 +80,24 @@ public class XmlTreeBuilder {
     }
 
     public XmlTreeBuilder(Reader stringReader) {
+        this();
+        try {
+            xmlStreamReader = xmlInputFactory.createXMLStreamReader(stringReader);
+        } catch (XMLStreamException e) {
+            handleXMLStreamException(e);
+        }
+    }
+
+    XmlTreeBuilder(InputStream inputStream) {
+        this();
+        try {
+            xmlStreamReader = xmlInputFactory.createXMLStreamReader(inputStream);
+        } catch (XMLStreamException e) {
+            handleXMLStreamException(e);
+        }
+    }
+
+    private XmlTreeBuilder() {
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
@@ -86,12 +105,10 @@ public class XmlTreeBuilder {
         ArrayList<BXml> siblings = new ArrayList<>();
         siblingDeque.push(siblings);
         seqDeque.push(new XmlSequence(siblings));
+    }
 
-        try {
-            xmlStreamReader = xmlInputFactory.createXMLStreamReader(stringReader);
-        } catch (XMLStreamException e) {
-            handleXMLStreamException(e);
-        }
+    XMLStreamReader getXmlStreamReader() {
+        return xmlStreamReader;
     }
 
     private void handleXMLStreamException(Exception e) {
@@ -136,6 +153,50 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Builds the element at the current position of the stream reader, which must be at the {@code START_ELEMENT}
+     * event of the element. The reader is left at the matching {@code END_ELEMENT} event, so that the caller can
+     * continue reading the rest of the document.
+     *
+     * @return the element along with all its descendants
+     */
+    BXml parseElement() {
+        List<BXml> siblings = new ArrayList<>(1);
+        siblingDeque.push(siblings);
+        try {
+            readElement(xmlStreamReader);
+            int depth = 1;
+            while (depth > 0) {
+                switch (xmlStreamReader.next()) {
+                    case START_ELEMENT:
+                        readElement(xmlStreamReader);
+                        depth++;
+                        break;
+                    case END_ELEMENT:
+                        endElement();
+                        depth--;
+                        break;
+                    case PROCESSING_INSTRUCTION:
+                        readPI(xmlStreamReader);
+                        break;
+                    case COMMENT:
+                        readComment(xmlStreamReader);
+                        break;
+                    case CDATA:
+                    case CHARACTERS:
+                        readText(xmlStreamReader);
+                        break;
+                    default:
+                        assert false;
+                }
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+        siblingDeque.pop();
+        return siblings.get(0);
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
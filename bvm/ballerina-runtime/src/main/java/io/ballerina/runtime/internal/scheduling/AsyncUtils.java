@@ -19,6 +19,7 @@
 package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.types.BFunctionType;
@@ -103,6 +104,10 @@ public class AsyncUtils {
      * Invoke Function Pointer asynchronously given number of times. This will schedule the function and block the
      * strand. This method can be used with collection of data where we need to invoke the function pointer for each
      * item of the collection.
+     * <p>
+     * The function pointer is run on the current thread, in a strand of the caller's strand group, which is reused for
+     * each iteration. The strand is only handed over to the scheduler, and the caller strand is blocked, when the
+     * function yields. The remaining iterations continue once that invocation completes.
      *
      * @param func                 Function Pointer to be invoked.
      * @param strandName           Name for newly creating strand which is used to execute the function pointer. This is
@@ -126,26 +131,43 @@ public class AsyncUtils {
             return;
         }
         Strand strand = Scheduler.getStrand();
-        blockStrand(strand);
         AtomicInteger callCount = new AtomicInteger(0);
-        scheduleNextFunction(func, strand, strandName, metadata, noOfIterations, callCount, argsSupplier,
-                             futureResultConsumer, returnValueSupplier, scheduler);
+        boolean completed = runIterations(func, strand, strandName, metadata, noOfIterations, callCount, argsSupplier,
+                                          futureResultConsumer, returnValueSupplier, scheduler);
+        if (!completed) {
+            blockStrand(strand);
+        }
     }
 
-    private static void scheduleNextFunction(BFunctionPointer<?, ?> func, Strand strand, String strandName,
-                                             StrandMetadata metadata, int noOfIterations,
-                                             AtomicInteger callCount, Supplier<Object[]> argsSupplier,
-                                             Consumer<Object> futureResultConsumer,
-                                             Supplier<Object> returnValueSupplier, Scheduler scheduler) {
+    /**
+     * Runs the remaining iterations on the current thread until an invocation yields.
+     *
+     * @return true if all the iterations are completed, false if an invocation yielded, in which case the
+     *         remaining iterations are run once it completes, by the callback of its future
+     */
+    private static boolean runIterations(BFunctionPointer<?, ?> func, Strand strand, String strandName,
+                                         StrandMetadata metadata, int noOfIterations, AtomicInteger callCount,
+                                         Supplier<Object[]> argsSupplier, Consumer<Object> futureResultConsumer,
+                                         Supplier<Object> returnValueSupplier, Scheduler scheduler) {
+        FutureValue future = scheduler.createFuture(strand, null, null, ((BFunctionType) func.getType()).retType,
+                                                    strandName, metadata);
         AsyncFunctionCallback callback = new AsyncFunctionCallback() {
             @Override
             public void notifySuccess(Object result) {
                 futureResultConsumer.accept(getFutureResult());
-                if (callCount.incrementAndGet() != noOfIterations) {
-                    scheduleNextFunction(func, strand, strandName, metadata, noOfIterations, callCount, argsSupplier,
-                                         futureResultConsumer, returnValueSupplier, scheduler);
-                } else {
+                if (callCount.incrementAndGet() == noOfIterations) {
                     setReturnValues(returnValueSupplier.get());
+                    return;
+                }
+                try {
+                    if (runIterations(func, strand, strandName, metadata, noOfIterations, callCount, argsSupplier,
+                                      futureResultConsumer, returnValueSupplier, scheduler)) {
+                        setReturnValues(returnValueSupplier.get());
+                    }
+                } catch (BError error) {
+                    handleRuntimeErrors(error);
+                } catch (Throwable t) {
+                    handleRuntimeErrors(ErrorCreator.createError(t));
                 }
             }
 
@@ -154,7 +176,18 @@ public class AsyncUtils {
                 handleRuntimeErrors(error);
             }
         };
-        invokeFunctionPointerAsync(func, strand, strandName, metadata, argsSupplier.get(), callback, scheduler);
+        future.callback = callback;
+        callback.setFuture(future);
+        callback.setStrand(strand);
+
+        while (callCount.get() < noOfIterations) {
+            if (!scheduler.runLocal(argsSupplier.get(), func, strand, future)) {
+                return false;
+            }
+            futureResultConsumer.accept(future.result);
+            callCount.incrementAndGet();
+        }
+        return true;
     }
 
     private static class Unblocker implements java.util.function.BiConsumer<Object, Throwable> {
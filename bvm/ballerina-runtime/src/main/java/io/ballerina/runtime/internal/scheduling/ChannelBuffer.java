@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Single producer, single consumer buffer that holds the messages of a {@link WorkerDataChannel}. Messages are stored
+ * in fixed size array segments which are linked together when a segment fills up, so the buffer never blocks the
+ * producer while only allocating once per {@code SEGMENT_SIZE} messages.
+ * <p>
+ * Only the sending strand may call {@link #offer(Object)} and only the receiving strand may call {@link #poll()}.
+ * {@link #isEmpty()} can be called from either side.
+ *
+ * @since 2.0.0
+ */
+class ChannelBuffer {
+
+    private static final int SEGMENT_SIZE = 32;
+
+    private static final AtomicLongFieldUpdater<ChannelBuffer> PRODUCED =
+            AtomicLongFieldUpdater.newUpdater(ChannelBuffer.class, "produced");
+    private static final AtomicLongFieldUpdater<ChannelBuffer> CONSUMED =
+            AtomicLongFieldUpdater.newUpdater(ChannelBuffer.class, "consumed");
+
+    // owned by the producer
+    private Segment tail;
+    private int tailIndex;
+
+    // owned by the consumer
+    private Segment head;
+    private int headIndex;
+
+    private volatile long produced;
+    private volatile long consumed;
+
+    ChannelBuffer() {
+        Segment segment = new Segment();
+        this.tail = segment;
+        this.head = segment;
+    }
+
+    /**
+     * Appends a message to the buffer. The message becomes visible to the consumer once this method returns.
+     *
+     * @param message non null message
+     */
+    void offer(Object message) {
+        if (tailIndex == SEGMENT_SIZE) {
+            Segment next = new Segment();
+            tail.next = next;
+            tail = next;
+            tailIndex = 0;
+        }
+        tail.items[tailIndex++] = message;
+        // volatile write publishes the slot and the segment link to the consumer
+        PRODUCED.set(this, produced + 1);
+    }
+
+    /**
+     * Removes the oldest message of the buffer.
+     *
+     * @return oldest message or null if the buffer is empty
+     */
+    Object poll() {
+        long position = consumed;
+        if (position == produced) {
+            return null;
+        }
+        if (headIndex == SEGMENT_SIZE) {
+            head = head.next;
+            headIndex = 0;
+        }
+        Object message = head.items[headIndex];
+        head.items[headIndex++] = null;
+        CONSUMED.set(this, position + 1);
+        return message;
+    }
+
+    boolean isEmpty() {
+        return consumed == produced;
+    }
+
+    private static class Segment {
+
+        private final Object[] items = new Object[SEGMENT_SIZE];
+        private Segment next;
+    }
+}
@@ -38,9 +38,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 import java.util.WeakHashMap;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -64,7 +64,13 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
+
+    /**
+     * Same as {@link #runnableList} when groups are executed by the worker threads started in {@link #start()}, or
+     * null if each group runs on its own thread.
+     */
+    private final WorkerRunQueue workerRunQueue;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -72,14 +78,44 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_MODE system variable to `global-queue`,
+     * `work-stealing` or `virtual-threads`. Default is `global-queue`, which is also used if `virtual-threads` is set
+     * but the JVM does not support virtual threads.
+     */
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
      */
     private final int numThreads;
 
+    /**
+     * Indicates groups are run on their own threads as soon as they are scheduled, instead of by the worker threads
+     * started in {@link #start()}.
+     */
+    private final boolean threadPerGroup;
+
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    private static String compensationPoolSizeConf =
+            System.getenv(RuntimeConstants.BALLERINA_MAX_COMPENSATION_POOL_SIZE_ENV_VAR);
+
+    /**
+     * Maximum number of additional workers started while workers are blocked inside strands. This can be changed by
+     * setting the BALLERINA_MAX_COMPENSATION_POOL_SIZE system variable, zero disables compensation. Default is 256.
+     */
+    private static int compensationPoolSize = 256;
+
+    /**
+     * Additional workers are stopped after being idle for this many seconds.
+     */
+    private static final long COMPENSATION_WORKER_KEEP_ALIVE_SECONDS = 60;
+
+    private final WorkerPoolMonitor workerPoolMonitor;
+    private final AtomicInteger compensationWorkerCount = new AtomicInteger();
+
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
     private Map<BObject, ItemGroup> objectGroups = Collections.synchronizedMap(new WeakHashMap<>());
@@ -94,17 +130,73 @@ public class Scheduler {
             err.println("ballerina: error occurred in scheduler while reading system variable:" +
                                 RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR + ", " + t.getMessage());
         }
+        try {
+            if (compensationPoolSizeConf != null) {
+                compensationPoolSize = Integer.parseInt(compensationPoolSizeConf);
+            }
+        } catch (Throwable t) {
+            // Log and continue with default
+            err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                                RuntimeConstants.BALLERINA_MAX_COMPENSATION_POOL_SIZE_ENV_VAR + ", " +
+                                t.getMessage());
+        }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        RunQueue threadPerGroupRunQueue = createThreadPerGroupRunQueue();
+        this.threadPerGroup = threadPerGroupRunQueue != null;
+        this.workerRunQueue = threadPerGroup ? null : createWorkerRunQueue(numThreads);
+        this.runnableList = threadPerGroup ? threadPerGroupRunQueue : workerRunQueue;
+        this.workerPoolMonitor = new WorkerPoolMonitor(runnableList, this::startCompensationWorkers,
+                                                       threadPerGroup ? 0 : compensationPoolSize);
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        RunQueue threadPerGroupRunQueue = createThreadPerGroupRunQueue();
+        this.threadPerGroup = threadPerGroupRunQueue != null;
+        this.workerRunQueue = threadPerGroup ? null : createWorkerRunQueue(numThreads);
+        this.runnableList = threadPerGroup ? threadPerGroupRunQueue : workerRunQueue;
+        this.workerPoolMonitor = new WorkerPoolMonitor(runnableList, this::startCompensationWorkers,
+                                                       threadPerGroup ? 0 : compensationPoolSize);
         listenerRegistry = new ListenerRegistry();
     }
 
+    private RunQueue createThreadPerGroupRunQueue() {
+        if (!RuntimeConstants.SCHEDULER_MODE_VIRTUAL_THREADS.equals(schedulerModeConf)) {
+            return null;
+        }
+        ExecutorService executor = ThreadPerGroupRunQueue.createVirtualThreadExecutor();
+        if (executor == null) {
+            // Log and continue with default, running a platform thread per group would not be bounded
+            err.println("ballerina: virtual threads are not supported by this JVM, ignoring the value '" +
+                                schedulerModeConf + "' for system variable:" +
+                                RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+            return null;
+        }
+        // groups start running as soon as they are scheduled, hence may complete even before start() is called
+        this.mainBlockSem = new Semaphore(0);
+        return new ThreadPerGroupRunQueue(executor, group -> runGroup(group, null));
+    }
+
+    private WorkerRunQueue createWorkerRunQueue(int numThreads) {
+        if (schedulerModeConf == null || RuntimeConstants.SCHEDULER_MODE_GLOBAL_QUEUE.equals(schedulerModeConf) ||
+                RuntimeConstants.SCHEDULER_MODE_VIRTUAL_THREADS.equals(schedulerModeConf)) {
+            return new GlobalRunQueue();
+        }
+        if (RuntimeConstants.SCHEDULER_MODE_WORK_STEALING.equals(schedulerModeConf)) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        // Log and continue with default
+        err.println("ballerina: invalid value '" + schedulerModeConf + "' for system variable:" +
+                            RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", expected '" +
+                            RuntimeConstants.SCHEDULER_MODE_GLOBAL_QUEUE + "', '" +
+                            RuntimeConstants.SCHEDULER_MODE_WORK_STEALING + "' or '" +
+                            RuntimeConstants.SCHEDULER_MODE_VIRTUAL_THREADS + "'");
+        return new GlobalRunQueue();
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -164,6 +256,46 @@ public class Scheduler {
         return future;
     }
 
+    /**
+     * Runs given function on the current thread, on the strand of the given future, instead of scheduling it. The
+     * strand is added to the callers strand group, which is being run by the current thread. If the function
+     * completes without yielding, nothing is handed over to the scheduler and the strand can be used to run the next
+     * function. Otherwise the strand is handed over to the scheduler, which completes the future and notifies its
+     * callback once the function completes.
+     *
+     * @param params parameters to underlying function.
+     * @param fp     function to be executed.
+     * @param parent parent of the strand, which is running on the current thread.
+     * @param future future created for the strand with {@link #createFuture}.
+     * @return true if the function completed, in which case its result is in the future.
+     */
+    public boolean runLocal(Object[] params, BFunctionPointer<?, ?> fp, Strand parent, FutureValue future) {
+        Strand strand = future.strand;
+        params[0] = strand;
+        SchedulerItem item = new SchedulerItem(fp.getFunction(), params, future);
+        strand.schedulerItem = item;
+        strand.strandGroup = parent.strandGroup;
+
+        StrandHolder strandHolder = Scheduler.strandHolder.get();
+        Strand current = strandHolder.strand;
+        Object result;
+        try {
+            strandHolder.strand = strand;
+            result = item.execute();
+        } finally {
+            strandHolder.strand = current;
+        }
+        if (!item.isYielded()) {
+            future.result = result;
+            return true;
+        }
+
+        // the item can only be resumed once the item of the parent returns, since they are in the same group
+        totalStrands.incrementAndGet();
+        postProcess(item, result, null);
+        return false;
+    }
+
     public FutureValue scheduleToObjectGroup(BObject object, Object[] params, Function function, Strand parent,
                                              Callback callback, Map<String, Object> properties, Type returnType,
                                              String strandName, StrandMetadata metadata) {
@@ -276,11 +408,22 @@ public class Scheduler {
     }
 
     public void start() {
+        if (threadPerGroup) {
+            // groups are already running on their own threads, wait till all of them are done
+            try {
+                this.mainBlockSem.acquire();
+            } catch (InterruptedException e) {
+                RuntimeUtils.printCrashLog(e);
+            }
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
+        workerPoolMonitor.start();
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -291,25 +434,31 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
+        WorkerPoolMonitor.Worker worker = workerPoolMonitor.register(false);
         try {
-            run();
+            workerRunQueue.registerWorker(workerId);
+            run(worker);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
+        } finally {
+            workerPoolMonitor.deregister(worker);
         }
     }
 
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(WorkerPoolMonitor.Worker worker) {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
+            worker.park();
             try {
-                group = runnableList.take();
+                group = workerRunQueue.take();
             } catch (InterruptedException ignored) {
                 continue;
+            } finally {
+                worker.unpark();
             }
 
             if (group == POISON_PILL) {
@@ -317,35 +466,92 @@ public class Scheduler {
                 break;
             }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+            runGroup(group, worker);
+        }
+    }
 
-                item = group.get();
+    private void startCompensationWorkers(int count) {
+        for (int i = 0; i < count && workerPoolMonitor.reserveCompensationWorker(); i++) {
+            new Thread(this::runCompensationWorker,
+                       "jbal-strand-exec-compensation-" + compensationWorkerCount.getAndIncrement()).start();
+        }
+    }
 
+    /**
+     * Executes tasks while other workers are blocked, until idle for a while or no longer needed.
+     */
+    private void runCompensationWorker() {
+        WorkerPoolMonitor.Worker worker = workerPoolMonitor.register(true);
+        try {
+            while (true) {
+                ItemGroup group;
+                worker.park();
                 try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
-
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
+                    group = workerRunQueue.poll(COMPENSATION_WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
                 } finally {
-                    strandHolder.get().strand = null;
+                    worker.unpark();
                 }
-                postProcess(item, result, panic);
-                if (group.items.empty()) {
-                    group.scheduled.set(false);
+
+                if (group == null) {
+                    break;
+                }
+                if (group == POISON_PILL) {
+                    // leave it to one of the workers started by start()
+                    runnableList.add(POISON_PILL);
+                    break;
+                }
+
+                runGroup(group, worker);
+                if (workerPoolMonitor.tryRetireCompensationWorker(worker)) {
+                    break;
                 }
             }
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        } finally {
+            workerPoolMonitor.deregister(worker);
+        }
+    }
+
+    /**
+     * Executes the items of the given group until none of them are runnable.
+     */
+    private void runGroup(ItemGroup group, WorkerPoolMonitor.Worker worker) {
+        SchedulerItem item;
+        while (!group.items.empty()) {
+            Object result = null;
+            Throwable panic = null;
+
+            item = group.get();
+
+            if (worker != null) {
+                worker.beginItem();
+            }
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+            } finally {
+                strandHolder.get().strand = null;
+                if (worker != null) {
+                    worker.endItem();
+                }
+            }
+            postProcess(item, result, panic);
+            if (group.items.empty()) {
+                group.scheduled.set(false);
+            }
         }
     }
 
@@ -520,12 +726,15 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
+        workerPoolMonitor.stop();
+        if (threadPerGroup) {
+            mainBlockSem.release();
+            return;
+        }
         for (int i = 0; i < numThreads; i++) {
             runnableList.add(POISON_PILL);
         }
@@ -542,6 +751,42 @@ public class Scheduler {
         return listenerDeclarationFound;
     }
 
+    /**
+     * Returns the number of workers executing strands, excluding the ones blocked inside a strand.
+     *
+     * @return number of active workers
+     */
+    public int getActiveWorkerCount() {
+        return workerPoolMonitor.getActiveWorkerCount();
+    }
+
+    /**
+     * Returns the number of workers detected as blocked inside a strand, e.g. on a blocking Java interop call.
+     *
+     * @return number of blocked workers
+     */
+    public int getBlockedWorkerCount() {
+        return workerPoolMonitor.getBlockedWorkerCount();
+    }
+
+    /**
+     * Returns the number of workers waiting for a runnable strand.
+     *
+     * @return number of parked workers
+     */
+    public int getParkedWorkerCount() {
+        return workerPoolMonitor.getParkedWorkerCount();
+    }
+
+    /**
+     * Returns the number of additional workers currently started to compensate for blocked workers.
+     *
+     * @return number of compensation workers
+     */
+    public int getCompensationWorkerCount() {
+        return workerPoolMonitor.getCompensationWorkerCount();
+    }
+
     public ListenerRegistry getListenerRegistry() {
         return listenerRegistry;
     }
@@ -31,6 +31,7 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -59,6 +60,11 @@ public class Strand {
 
     private static AtomicInteger nextStrandId = new AtomicInteger(0);
 
+    /**
+     * Initial number of frames that can be saved, allocated when the strand first yields.
+     */
+    private static final int INITIAL_FRAMES_CAPACITY = 8;
+
     private int id;
     private String name;
     private StrandMetadata metadata;
@@ -72,6 +78,7 @@ public class Strand {
     public WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
+    public int acquiredLockCount;
     public Set<ChannelDetails> channelDetails;
     public Set<SchedulerItem> dependants;
     public boolean cancel;
@@ -127,6 +134,36 @@ public class Strand {
             this.currentTrxContext = createTrxContextBranch(currentTrxContext, name);
         }
     }
+
+    /**
+     * Saves the frame of a yielding function, to be restored when the strand resumes. The frame storage is allocated
+     * lazily, since most strands never yield, and grows with the depth of the yielding call stack.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void pushFrame(Object frame) {
+        Object[] frames = this.frames;
+        if (frames == null) {
+            frames = new Object[INITIAL_FRAMES_CAPACITY];
+            this.frames = frames;
+        } else if (resumeIndex == frames.length) {
+            frames = Arrays.copyOf(frames, frames.length << 1);
+            this.frames = frames;
+        }
+        frames[resumeIndex++] = frame;
+    }
+
+    /**
+     * Restores the frame of the function being resumed.
+     *
+     * @return frame saved by the last {@link #pushFrame(Object)}
+     */
+    public Object popFrame() {
+        Object frame = frames[--resumeIndex];
+        frames[resumeIndex] = null;
+        return frame;
+    }
+
     private TransactionLocalContext createTrxContextBranch(TransactionLocalContext currentTrxContext,
                                                            String strandName) {
         TransactionLocalContext trxCtx = TransactionLocalContext
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.internal.util.RuntimeUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * {@link RunQueue} which runs each group on its own virtual thread as soon as it is added, instead of queueing it for
+ * a fixed pool of worker threads, so that a strand blocked on a Java interop call only holds a cheap thread. This is
+ * only available on JVMs which support virtual threads, see {@link #createVirtualThreadExecutor()}.
+ *
+ * @since 2.0.0
+ */
+class ThreadPerGroupRunQueue implements RunQueue {
+
+    private static final String VIRTUAL_THREAD_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+
+    private final ExecutorService executor;
+    private final Consumer<ItemGroup> groupRunner;
+
+    ThreadPerGroupRunQueue(ExecutorService executor, Consumer<ItemGroup> groupRunner) {
+        this.executor = executor;
+        this.groupRunner = groupRunner;
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        executor.execute(() -> {
+            try {
+                groupRunner.accept(group);
+            } catch (Throwable t) {
+                RuntimeUtils.printCrashLog(t);
+            }
+        });
+    }
+
+    @Override
+    public int size() {
+        // groups are handed over to a thread immediately
+        return 0;
+    }
+
+    /**
+     * Creates an executor which runs each task on a new virtual thread.
+     *
+     * @return the executor, or null if the JVM does not support virtual threads
+     */
+    static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY);
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            // virtual threads are either not available or are a preview feature which is not enabled
+            return null;
+        }
+    }
+}
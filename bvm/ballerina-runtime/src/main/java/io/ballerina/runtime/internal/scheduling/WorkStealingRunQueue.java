@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link WorkerRunQueue} which keeps a lock-free deque per worker thread. Groups scheduled from a worker thread go
+ * to its own deque, groups scheduled from any other thread go to a shared lock-free submission queue, and idle
+ * workers steal from the deques of the other workers before parking.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements WorkerRunQueue {
+
+    /**
+     * A worker polls the submission queue first once in this many takes, so that external submissions are not
+     * starved by a worker which keeps rescheduling into its own deque.
+     */
+    private static final int SUBMISSION_QUEUE_CHECK_INTERVAL = 61;
+
+    private final ConcurrentLinkedDeque<ItemGroup>[] localQueues;
+    private final ConcurrentLinkedQueue<ItemGroup> submissionQueue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<WorkerContext> workerContext = new ThreadLocal<>();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numWorkers) {
+        this.localQueues = new ConcurrentLinkedDeque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        workerContext.set(new WorkerContext(workerId));
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        WorkerContext context = workerContext.get();
+        if (context != null) {
+            localQueues[context.id].addLast(group);
+        } else {
+            submissionQueue.add(group);
+        }
+        signalIdleWorker();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        return awaitGroup(0);
+    }
+
+    @Override
+    public ItemGroup poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return awaitGroup(System.nanoTime() + Math.max(unit.toNanos(timeout), 1));
+    }
+
+    /**
+     * Waits for a runnable group.
+     *
+     * @param deadline {@link System#nanoTime()} to wait until, or zero to wait indefinitely
+     * @return next runnable group, or null if the deadline passed
+     */
+    private ItemGroup awaitGroup(long deadline) throws InterruptedException {
+        WorkerContext context = workerContext.get();
+        Thread current = Thread.currentThread();
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            ItemGroup group = poll(context);
+            if (group != null) {
+                return onTake(group);
+            }
+
+            // Publish this worker as idle before the final check, so that a concurrent add either is seen by the
+            // check below or unparks this worker.
+            idleWorkers.add(current);
+            group = poll(context);
+            if (group != null) {
+                if (!idleWorkers.remove(current)) {
+                    // a producer has already consumed this worker's wake up signal, hand it over to another worker
+                    signalIdleWorker();
+                }
+                return onTake(group);
+            }
+            if (deadline == 0) {
+                LockSupport.park(this);
+            } else {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    if (!idleWorkers.remove(current)) {
+                        signalIdleWorker();
+                    }
+                    return null;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            idleWorkers.remove(current);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = submissionQueue.size();
+        for (ConcurrentLinkedDeque<ItemGroup> localQueue : localQueues) {
+            size += localQueue.size();
+        }
+        return size;
+    }
+
+    private ItemGroup onTake(ItemGroup group) {
+        if (group == ItemGroup.POISON_PILL) {
+            // the worker is exiting, anything scheduled from this thread from now on is an external submission
+            workerContext.remove();
+        }
+        return group;
+    }
+
+    private ItemGroup poll(WorkerContext context) {
+        if (context == null) {
+            ItemGroup group = submissionQueue.poll();
+            return group != null ? group : steal(-1);
+        }
+
+        ItemGroup group;
+        if (++context.ticks % SUBMISSION_QUEUE_CHECK_INTERVAL == 0) {
+            group = submissionQueue.poll();
+            if (group != null) {
+                return group;
+            }
+        }
+        group = localQueues[context.id].pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = submissionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(context.id);
+    }
+
+    private ItemGroup steal(int thiefId) {
+        int numWorkers = localQueues.length;
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            int victim = (start + i) % numWorkers;
+            if (victim == thiefId) {
+                continue;
+            }
+            ItemGroup group = localQueues[victim].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalIdleWorker() {
+        Thread idleWorker = idleWorkers.poll();
+        if (idleWorker != null) {
+            LockSupport.unpark(idleWorker);
+        }
+    }
+
+    /**
+     * Per thread state of a worker.
+     */
+    private static class WorkerContext {
+        final int id;
+        int ticks;
+
+        WorkerContext(int id) {
+            this.id = id;
+        }
+    }
+}
@@ -19,70 +19,56 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.internal.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * A channel has a single sending strand and a single receiving strand, so messages are passed through a
+ * {@link ChannelBuffer} without locking. A strand that needs to be woken up by the other side publishes itself
+ * in one of the atomic references, and the side that claims the reference (by clearing it) is responsible for
+ * unblocking that strand. Both sides re-check the shared state after publishing, so a wake up is never lost.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
-    private WaitingSender waitingSender;
-    private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    // marker used to store Ballerina nil values in the buffer
+    private static final Object NIL = new Object();
+
+    private final AtomicReference<Strand> receiver = new AtomicReference<>();
+    private final AtomicReference<WaitingSender> waitingSender = new AtomicReference<>();
+    private final AtomicReference<WaitingSender> flushSender = new AtomicReference<>();
+    private volatile ErrorValue error;
+    private volatile Throwable panic;
+    // only updated by the sending side
+    private volatile int senderCounter;
+    // only updated by the receiving side
+    private volatile int receiverCounter;
     private boolean reschedule;
 
-    private Lock channelLock;
-
     public String chnlName;
 
-    @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final ChannelBuffer channel = new ChannelBuffer();
 
     public WorkerDataChannel() {
-        this.channelLock = new ReentrantLock();
         this.senderCounter = 0;
         this.receiverCounter = 0;
     }
     public WorkerDataChannel(String channelName) {
-        this.channelLock = new ReentrantLock();
         this.senderCounter = 0;
         this.receiverCounter = 0;
         this.chnlName = channelName;
     }
 
-    public void acquireChannelLock() {
-        this.channelLock.lock();
-    }
-
-    public void releaseChannelLock() {
-        this.channelLock.unlock();
-    }
-
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
-        }
+        this.channel.offer(data == null ? NIL : data);
+        this.senderCounter++;
+        notifyReceiver();
     }
 
     /**
@@ -93,89 +79,110 @@ public class WorkerDataChannel {
      * @throws Throwable panic
      */
     public Object syncSendData(Object data, Strand strand) throws Throwable {
-        try {
-            acquireChannelLock();
-            if (!reschedule) {
-                // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
-                this.waitingSender = new WaitingSender(strand, -1);
-
-                if (this.receiver != null) {
-                    // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
-                } else if (this.panic != null) {
-                    Throwable panic = this.panic;
+        if (!reschedule) {
+            // this is a new message, not a reschedule. The sender is published and blocked before the message
+            // becomes visible, since the receiver may take the message and unblock the sender right away.
+            WaitingSender sender = new WaitingSender(strand, -1);
+            this.waitingSender.set(sender);
+            strand.setState(BLOCK_AND_YIELD);
+            this.channel.offer(new WorkerResult(data, true));
+            this.senderCounter++;
+            notifyReceiver();
+
+            if ((this.panic != null || this.error != null) && this.waitingSender.compareAndSet(sender, null)) {
+                // receiver has already completed with an error or a panic
+                strand.setState(RUNNABLE);
+                Throwable panic = this.panic;
+                if (panic != null) {
                     this.panic = null;
                     throw panic;
-                } else if (this.error != null) {
-                    ErrorValue ret = this.error;
-                    return ret;
                 }
-
-                reschedule = true;
-                strand.setState(BLOCK_AND_YIELD);
-                return null;
-            }
-
-            reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
-                Throwable e = this.panic;
-                throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
-                ErrorValue ret = this.error;
-                return ret;
+                return this.error;
             }
 
-            // sync send done
+            reschedule = true;
             return null;
-        } finally {
-            releaseChannelLock();
         }
+
+        reschedule = false;
+        if (this.panic != null && !this.channel.isEmpty()) {
+            Throwable e = this.panic;
+            throw e;
+        } else if (this.error != null && !this.channel.isEmpty()) {
+            ErrorValue ret = this.error;
+            return ret;
+        }
+
+        // sync send done
+        return null;
     }
 
-    @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
-        try {
-            acquireChannelLock();
-            WorkerResult result = this.channel.peek();
+        while (true) {
+            Object result = this.channel.poll();
             if (result != null) {
                 this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
+                if (result instanceof WorkerResult) {
                     // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
+                    WaitingSender sender = this.waitingSender.getAndSet(null);
+                    if (sender != null) {
+                        sender.waitingStrand.scheduler.unblockStrand(sender.waitingStrand);
                     }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
+                    return ((WorkerResult) result).value;
                 }
-                return result.value;
+                notifyFlushSender();
+                return result == NIL ? null : result;
             } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 throw this.panic;
             } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 return error;
-            } else {
-                this.receiver = strand;
-                strand.setState(BLOCK_AND_YIELD);
+            }
+
+            strand.setState(BLOCK_AND_YIELD);
+            this.receiver.set(strand);
+            // the sender may have added a message before it could see this receiver. If so, take the receiver back
+            // and retry, unless the sender has already claimed it, in which case this strand will be rescheduled.
+            if (!hasPendingResult() || !this.receiver.compareAndSet(strand, null)) {
                 return null;
             }
+            strand.setState(RUNNABLE);
+        }
+    }
+
+    private boolean hasPendingResult() {
+        return !this.channel.isEmpty() ||
+                ((this.panic != null || this.error != null) && this.senderCounter == this.receiverCounter + 1);
+    }
+
+    private void notifyReceiver() {
+        if (this.receiver.get() == null) {
+            return;
+        }
+        Strand waiting = this.receiver.getAndSet(null);
+        if (waiting != null) {
+            waiting.scheduler.unblockStrand(waiting);
+        }
+    }
+
+    private void notifyFlushSender() {
+        WaitingSender sender = this.flushSender.get();
+        if (sender == null || sender.flushCount > this.receiverCounter ||
+                !this.flushSender.compareAndSet(sender, null)) {
+            return;
+        }
+        Strand flushStrand = sender.waitingStrand;
+        flushStrand.flushDetail.flushLock.lock();
+        try {
+            flushStrand.flushDetail.flushedCount++;
+            if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                    flushStrand.isBlocked()) {
+                //will continue if this is a sync wait, will try to flush again if blocked on flush
+                flushStrand.scheduler.unblockStrand(flushStrand);
+            }
         } finally {
-            releaseChannelLock();
+            flushStrand.flushDetail.flushLock.unlock();
         }
     }
 
@@ -184,14 +191,9 @@ public class WorkerDataChannel {
      * @param error the BError of the receiving worker
      */
     public void setSendError(ErrorValue error) {
-        acquireChannelLock();
         this.error = error;
         this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
-        releaseChannelLock();
+        notifyReceiver();
     }
 
     /**
@@ -200,24 +202,20 @@ public class WorkerDataChannel {
      * @param error to be set
      */
     public void setReceiveError(ErrorValue error) {
-        acquireChannelLock();
         this.error = error;
         this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
+        WaitingSender sender = this.flushSender.getAndSet(null);
+        if (sender != null) {
+            Strand flushStrand = sender.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
             if (flushStrand.isBlocked()) {
                 flushStrand.flushDetail.result = error;
                 flushStrand.scheduler.unblockStrand(flushStrand);
             }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
-        } else if (this.waitingSender != null) {
-            Strand waiting = this.waitingSender.waitingStrand;
-            waiting.scheduler.unblockStrand(waiting);
-            this.waitingSender = null;
+            flushStrand.flushDetail.flushLock.unlock();
+        } else {
+            notifyWaitingSender();
         }
-        releaseChannelLock();
     }
 
     /**
@@ -228,29 +226,38 @@ public class WorkerDataChannel {
      * @throws Throwable panic
      */
     public ErrorValue flushChannel(Strand strand) throws Throwable {
-        acquireChannelLock();
-        try {
+        if (this.panic != null) {
+            throw this.panic;
+        } else if (this.error != null) {
+            return this.error;
+        } else if (this.receiverCounter == this.senderCounter) {
+            markFlushed(strand);
+            return null;
+        }
+
+        WaitingSender sender = new WaitingSender(strand, this.senderCounter);
+        this.flushSender.set(sender);
+        // the receiver may have taken the last message or failed before it could see the flush sender
+        if ((this.panic != null || this.error != null || this.receiverCounter >= sender.flushCount) &&
+                this.flushSender.compareAndSet(sender, null)) {
             if (this.panic != null) {
                 throw this.panic;
             } else if (this.error != null) {
                 return this.error;
-            } else if (this.receiverCounter == this.senderCounter) {
-                strand.flushDetail.flushLock.lock();
-                strand.flushDetail.flushedCount++;
-                strand.flushDetail.flushLock.unlock();
-                return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
-            return null;
-        } finally {
-            releaseChannelLock();
+            markFlushed(strand);
         }
+        return null;
+    }
+
+    private void markFlushed(Strand strand) {
+        strand.flushDetail.flushLock.lock();
+        strand.flushDetail.flushedCount++;
+        strand.flushDetail.flushLock.unlock();
     }
 
     public void removeFlushWait() {
-        acquireChannelLock();
-        this.flushSender = null;
-        releaseChannelLock();
+        this.flushSender.set(null);
     }
 
     /**
@@ -259,17 +266,9 @@ public class WorkerDataChannel {
      * @param panic to be set
      */
     public void setSendPanic(Throwable panic) {
-        try {
-            acquireChannelLock();
-            this.panic  = panic;
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
-        }
+        this.panic = panic;
+        this.senderCounter++;
+        notifyReceiver();
     }
 
     /**
@@ -278,24 +277,27 @@ public class WorkerDataChannel {
      * @param panic to be set
      */
     public void setReceiverPanic(Throwable panic) {
-        acquireChannelLock();
-        this.panic  = panic;
+        this.panic = panic;
         this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
-            this.flushSender.waitingStrand.flushDetail.panic = panic;
+        WaitingSender sender = this.flushSender.getAndSet(null);
+        if (sender != null) {
+            Strand flushStrand = sender.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            flushStrand.flushDetail.panic = panic;
             if (flushStrand.isBlocked()) {
                 flushStrand.scheduler.unblockStrand(flushStrand);
             }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
-        } else if (this.waitingSender != null) {
-            Strand waiting = this.waitingSender.waitingStrand;
-            waiting.scheduler.unblockStrand(waiting);
-            this.waitingSender = null;
+            flushStrand.flushDetail.flushLock.unlock();
+        } else {
+            notifyWaitingSender();
+        }
+    }
+
+    private void notifyWaitingSender() {
+        WaitingSender sender = this.waitingSender.getAndSet(null);
+        if (sender != null) {
+            sender.waitingStrand.scheduler.unblockStrand(sender.waitingStrand);
         }
-        releaseChannelLock();
     }
 
     /**
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.internal.util.RuntimeUtils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Keeps track of the strand worker threads of a {@link Scheduler} and periodically checks for workers which are
+ * blocked inside a strand, e.g. on a blocking Java interop call. When blocked workers leave runnable groups waiting,
+ * the scheduler is asked to start compensation workers, similar to managed blocking in a fork join pool.
+ * <p>
+ * A worker is considered blocked when it has been running the same item for longer than {@link #BLOCKED_THRESHOLD}
+ * while its thread is waiting, timed waiting or blocked on a monitor. Workers blocked in native I/O are reported as
+ * runnable by the JVM and hence are not detected.
+ *
+ * @since 2.0.0
+ */
+class WorkerPoolMonitor implements Runnable {
+
+    static final long BLOCKED_THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MONITOR_INTERVAL_MILLIS = 50;
+
+    private final Set<Worker> workers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger parkedWorkers = new AtomicInteger();
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+    private final AtomicInteger compensationWorkers = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final RunQueue runnableList;
+    private final IntConsumer compensator;
+    private final int maxCompensationWorkers;
+    private volatile int blockedWorkers;
+    private volatile Thread monitor;
+    private volatile boolean stopped;
+
+    /**
+     * @param runnableList           run queue the workers take groups from
+     * @param compensator            starts the given number of compensation workers
+     * @param maxCompensationWorkers maximum number of compensation workers alive at a time
+     */
+    WorkerPoolMonitor(RunQueue runnableList, IntConsumer compensator, int maxCompensationWorkers) {
+        this.runnableList = runnableList;
+        this.compensator = compensator;
+        this.maxCompensationWorkers = maxCompensationWorkers;
+    }
+
+    void start() {
+        if (maxCompensationWorkers <= 0 || !started.compareAndSet(false, true)) {
+            return;
+        }
+        Thread monitorThread = new Thread(this, "jbal-strand-monitor");
+        monitorThread.setDaemon(true);
+        monitor = monitorThread;
+        monitorThread.start();
+    }
+
+    /**
+     * Stops checking for blocked workers once the scheduler has shut down, so that neither the monitor thread nor
+     * the scheduler it compensates for are kept alive.
+     */
+    void stop() {
+        stopped = true;
+        Thread monitorThread = monitor;
+        if (monitorThread != null) {
+            monitorThread.interrupt();
+        }
+    }
+
+    Worker register(boolean compensation) {
+        Worker worker = new Worker(Thread.currentThread(), compensation);
+        workers.add(worker);
+        return worker;
+    }
+
+    void deregister(Worker worker) {
+        workers.remove(worker);
+        // a retired worker has already given up its slot
+        if (worker.compensation && !worker.retired) {
+            compensationWorkers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Reserves a slot for a new compensation worker.
+     *
+     * @return true if the compensation worker can be started
+     */
+    boolean reserveCompensationWorker() {
+        while (true) {
+            int current = compensationWorkers.get();
+            if (current >= maxCompensationWorkers) {
+                return false;
+            }
+            if (compensationWorkers.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives up the slot of a compensation worker if there are no longer enough blocked workers to compensate for.
+     * Only as many workers as there are surplus slots can retire, even if they check at the same time.
+     *
+     * @param worker compensation worker
+     * @return true if the worker retired and should exit
+     */
+    boolean tryRetireCompensationWorker(Worker worker) {
+        while (true) {
+            int current = compensationWorkers.get();
+            if (current <= blockedWorkers) {
+                return false;
+            }
+            if (compensationWorkers.compareAndSet(current, current - 1)) {
+                worker.retired = true;
+                return true;
+            }
+        }
+    }
+
+    int getActiveWorkerCount() {
+        return busyWorkers.get() - blockedWorkers;
+    }
+
+    int getBlockedWorkerCount() {
+        return blockedWorkers;
+    }
+
+    int getParkedWorkerCount() {
+        return parkedWorkers.get();
+    }
+
+    int getCompensationWorkerCount() {
+        return compensationWorkers.get();
+    }
+
+    @Override
+    public void run() {
+        while (!stopped) {
+            try {
+                Thread.sleep(MONITOR_INTERVAL_MILLIS);
+                checkBlockedWorkers();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable t) {
+                RuntimeUtils.printCrashLog(t);
+            }
+        }
+    }
+
+    private void checkBlockedWorkers() {
+        long now = System.nanoTime();
+        int blocked = 0;
+        for (Worker worker : workers) {
+            if (worker.isBlocked(now)) {
+                blocked++;
+            }
+        }
+        this.blockedWorkers = blocked;
+
+        int required = blocked - compensationWorkers.get();
+        if (required > 0 && runnableList.size() > 0) {
+            compensator.accept(required);
+        }
+    }
+
+    /**
+     * Represents a thread which executes strands.
+     */
+    class Worker {
+        private final Thread thread;
+        final boolean compensation;
+        // set when a compensation worker gives up its slot, only accessed by the worker thread
+        private boolean retired;
+        /**
+         * Time at which the worker started executing the current item, or zero if it is not executing an item.
+         */
+        private volatile long busySince;
+
+        private Worker(Thread thread, boolean compensation) {
+            this.thread = thread;
+            this.compensation = compensation;
+        }
+
+        void park() {
+            parkedWorkers.incrementAndGet();
+        }
+
+        void unpark() {
+            parkedWorkers.decrementAndGet();
+        }
+
+        void beginItem() {
+            busyWorkers.incrementAndGet();
+            busySince = System.nanoTime();
+        }
+
+        void endItem() {
+            busySince = 0;
+            busyWorkers.decrementAndGet();
+        }
+
+        private boolean isBlocked(long now) {
+            long since = busySince;
+            if (since == 0 || now - since < BLOCKED_THRESHOLD) {
+                return false;
+            }
+            switch (thread.getState()) {
+                case BLOCKED:
+                case WAITING:
+                case TIMED_WAITING:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RunQueue} from which the pool of scheduler worker threads take the groups to execute.
+ *
+ * @since 2.0.0
+ */
+interface WorkerRunQueue extends RunQueue {
+
+    /**
+     * Registers the current thread as the scheduler worker with the given id. Must be called by each worker thread
+     * before it starts taking groups from the queue.
+     *
+     * @param workerId id of the worker, between 0 and the number of workers
+     */
+    void registerWorker(int workerId);
+
+    /**
+     * Retrieves the next runnable group, waiting if none is available.
+     *
+     * @return next runnable group
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    /**
+     * Retrieves the next runnable group, waiting up to the given time if none is available.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return next runnable group or null if none became available within the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup poll(long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts the primitive storage of arrays in the order used by `lang.array:sort`, without boxing the members.
+ *
+ * @since 2.0.0
+ */
+class ArraySortUtils {
+
+    private static final Comparator<BString> CODE_POINT_ORDER =
+            (lhs, rhs) -> compareCodePoints(lhs.getValue(), rhs.getValue());
+
+    private ArraySortUtils() {
+    }
+
+    static void sort(long[] values, int size, boolean ascending) {
+        Arrays.sort(values, 0, size);
+        if (!ascending) {
+            reverse(values, size);
+        }
+    }
+
+    /**
+     * Sorts float values. `0.0` and `-0.0` are equal and `NaN` is placed last in both directions, so the zeros and
+     * the `NaN`s, which `Arrays.sort` reorders, are put back in their original relative order to keep the sort
+     * stable.
+     */
+    static void sort(double[] values, int size, boolean ascending) {
+        int negativeCount = 0;
+        int zeroCount = 0;
+        int nanCount = 0;
+        for (int i = 0; i < size; i++) {
+            double value = values[i];
+            if (value < 0) {
+                negativeCount++;
+            } else if (value == 0) {
+                zeroCount++;
+            } else if (Double.isNaN(value)) {
+                nanCount++;
+            }
+        }
+        double[] zeros = zeroCount > 1 ? new double[zeroCount] : null;
+        double[] nans = nanCount > 1 ? new double[nanCount] : null;
+        for (int i = 0, z = 0, n = 0; i < size && (zeros != null || nans != null); i++) {
+            double value = values[i];
+            if (value == 0 && zeros != null) {
+                zeros[z++] = value;
+            } else if (Double.isNaN(value) && nans != null) {
+                nans[n++] = value;
+            }
+        }
+
+        Arrays.sort(values, 0, size);
+        int orderedCount = size - nanCount;
+        if (!ascending) {
+            reverse(values, orderedCount);
+        }
+        if (zeros != null) {
+            int positiveCount = orderedCount - negativeCount - zeroCount;
+            System.arraycopy(zeros, 0, values, ascending ? negativeCount : positiveCount, zeroCount);
+        }
+        if (nans != null) {
+            System.arraycopy(nans, 0, values, orderedCount, nanCount);
+        }
+    }
+
+    /**
+     * Sorts byte values, which are unsigned, by counting the occurrences of each value.
+     */
+    static void sort(byte[] values, int size, boolean ascending) {
+        int[] counts = new int[256];
+        for (int i = 0; i < size; i++) {
+            counts[Byte.toUnsignedInt(values[i])]++;
+        }
+        int index = 0;
+        for (int i = 0; i < 256; i++) {
+            int value = ascending ? i : 255 - i;
+            Arrays.fill(values, index, index + counts[value], (byte) value);
+            index += counts[value];
+        }
+    }
+
+    static void sort(boolean[] values, int size, boolean ascending) {
+        int falseCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (!values[i]) {
+                falseCount++;
+            }
+        }
+        int trueCount = size - falseCount;
+        Arrays.fill(values, 0, ascending ? falseCount : trueCount, !ascending);
+        Arrays.fill(values, ascending ? falseCount : trueCount, size, ascending);
+    }
+
+    static void sort(BString[] values, int size, boolean ascending) {
+        Arrays.sort(values, 0, size, ascending ? CODE_POINT_ORDER : CODE_POINT_ORDER.reversed());
+    }
+
+    /**
+     * Compares strings by their code points. The UTF-16 code units only need adjusting at the first difference,
+     * since surrogates, which encode the code points above U+FFFF, are ordered before U+E000 to U+FFFF as code units.
+     */
+    private static int compareCodePoints(String lhs, String rhs) {
+        int length = Math.min(lhs.length(), rhs.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhs.charAt(i);
+            char rhsChar = rhs.charAt(i);
+            if (lhsChar != rhsChar) {
+                return Integer.compare(codePointOrder(lhsChar), codePointOrder(rhsChar));
+            }
+        }
+        return Integer.compare(lhs.length(), rhs.length());
+    }
+
+    private static int codePointOrder(char c) {
+        if (c < Character.MIN_SURROGATE) {
+            return c;
+        }
+        return c <= Character.MAX_SURROGATE ? c + 0x2000 : c - 0x800;
+    }
+
+    private static void reverse(long[] values, int size) {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            long temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+
+    private static void reverse(double[] values, int size) {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            double temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+}
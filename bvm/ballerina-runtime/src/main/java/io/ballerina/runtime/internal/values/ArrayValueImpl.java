@@ -222,6 +222,51 @@ public class ArrayValueImpl extends AbstractArrayValue {
         }
     }
 
+    /**
+     * Sorts the members in place, if they are stored in a primitive array, using the order of `lang.array:sort`.
+     *
+     * @param ascending whether the members are sorted in the ascending order
+     * @return true if the members were sorted, false if they need to be sorted as reference values
+     */
+    public boolean sortPrimitives(boolean ascending) {
+        switch (elementType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                handleImmutableArrayValue();
+                ArraySortUtils.sort(intValues, size, ascending);
+                return true;
+            case TypeTags.FLOAT_TAG:
+                handleImmutableArrayValue();
+                ArraySortUtils.sort(floatValues, size, ascending);
+                return true;
+            case TypeTags.BYTE_TAG:
+                handleImmutableArrayValue();
+                ArraySortUtils.sort(byteValues, size, ascending);
+                return true;
+            case TypeTags.BOOLEAN_TAG:
+                handleImmutableArrayValue();
+                ArraySortUtils.sort(booleanValues, size, ascending);
+                return true;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                for (int i = 0; i < size; i++) {
+                    if (bStringValues[i] == null) {
+                        return false;
+                    }
+                }
+                handleImmutableArrayValue();
+                ArraySortUtils.sort(bStringValues, size, ascending);
+                return true;
+            default:
+                return false;
+        }
+    }
+
     public ArrayValueImpl(ArrayType type, long size) {
         this.arrayType = type;
         this.elementType = type.getElementType();
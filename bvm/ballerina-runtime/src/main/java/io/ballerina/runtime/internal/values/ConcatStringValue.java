@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Represents a ballerina string created by concatenation. The characters are kept in a builder that is shared with
+ * the string it was concatenated to, and concatenating to the most recent string of a builder appends to it in place,
+ * so building a string by repeated concatenation takes linear time. The string is flattened to a
+ * {@link BmpStringValue} or {@link NonBmpStringValue} when its value, a code point or its hash code is first needed.
+ *
+ * @since 2.0.0
+ */
+class ConcatStringValue implements StringValue {
+
+    // Shorter strings are concatenated by copying, which is cheaper than creating a builder
+    private static final int MIN_BUILDER_LENGTH = 64;
+
+    // Cleared once the string is flattened, so that the flattened string does not retain the builder along with
+    // whatever is appended to it through other strings
+    private volatile StringBuilder builder;
+    private final int charLength;
+    private final int length;
+    private BString flattened;
+
+    private ConcatStringValue(StringBuilder builder, int charLength, int length) {
+        this.builder = builder;
+        this.charLength = charLength;
+        this.length = length;
+    }
+
+    static BString concat(BString lhs, BString rhs) {
+        if (lhs instanceof ConcatStringValue) {
+            BString result = ((ConcatStringValue) lhs).append(rhs);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        int charLength = charLength(lhs) + charLength(rhs);
+        if (charLength < MIN_BUILDER_LENGTH) {
+            String value = lhs.getValue() + rhs.getValue();
+            if (lhs instanceof BmpStringValue && rhs instanceof BmpStringValue) {
+                return new BmpStringValue(value);
+            }
+            return StringUtils.fromString(value);
+        }
+
+        // Sized for the result only, since most results are never appended to. The builder grows geometrically if
+        // they are.
+        StringBuilder builder = new StringBuilder(charLength);
+        appendTo(builder, lhs);
+        appendTo(builder, rhs);
+        return new ConcatStringValue(builder, charLength, lhs.length() + rhs.length());
+    }
+
+    // Appends in place if this is the most recent string of the builder, or else returns null
+    private BString append(BString rhs) {
+        // The value is read before locking, so that the lock of another builder is never taken while holding this one
+        String rhsValue = rhs.getValue();
+        StringBuilder builder = this.builder;
+        if (builder == null) {
+            return null;
+        }
+        synchronized (builder) {
+            if (builder.length() != charLength) {
+                return null;
+            }
+            builder.append(rhsValue);
+            return new ConcatStringValue(builder, builder.length(), length + rhs.length());
+        }
+    }
+
+    private static void appendTo(StringBuilder builder, BString str) {
+        if (str instanceof ConcatStringValue) {
+            ConcatStringValue concatStr = (ConcatStringValue) str;
+            StringBuilder strBuilder = concatStr.builder;
+            if (strBuilder == null) {
+                builder.append(concatStr.flattened.getValue());
+                return;
+            }
+            synchronized (strBuilder) {
+                builder.append(strBuilder, 0, concatStr.charLength);
+            }
+        } else {
+            builder.append(str.getValue());
+        }
+    }
+
+    private static int charLength(BString str) {
+        return str instanceof ConcatStringValue ? ((ConcatStringValue) str).charLength : str.getValue().length();
+    }
+
+    private BString flatten() {
+        BString value = flattened;
+        if (value == null) {
+            StringBuilder builder = this.builder;
+            if (builder == null) {
+                // Flattened by another thread, which set the value before clearing the builder
+                return flattened;
+            }
+            String str;
+            synchronized (builder) {
+                str = builder.substring(0, charLength);
+            }
+            value = StringUtils.fromString(str);
+            flattened = value;
+            this.builder = null;
+        }
+        return value;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return concat(this, str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + toString() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
@@ -46,7 +46,6 @@ import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -88,10 +87,13 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         BMap<K, V> {
 
     private static final long serialVersionUID = 1L;
+    private static final int MAX_TRACKED_ITERATORS = 8;
     private TypedescValue typedesc;
     private Type type;
     private final Map<String, Object> nativeData = new HashMap<>();
     private Type iteratorNextReturnType;
+    // Iterators over the entries of this map that have not returned all of them yet
+    private transient List<MapIterator<K, V>> iterators;
 
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
@@ -302,6 +304,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     public void clear() {
         validateFreezeStatus();
+        detachIterators();
         super.clear();
     }
 
@@ -365,6 +368,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     @Override
     public V remove(Object key) {
         validateFreezeStatus();
+        if (iterators != null && super.containsKey(key)) {
+            detachIterators();
+        }
         return super.remove(key);
     }
 
@@ -511,20 +517,63 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public String getJSONString() {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JsonGenerator gen = new JsonGenerator(byteOut);
+        StringBuilder builder = new StringBuilder();
+        JsonGenerator gen = new JsonGenerator(builder);
         try {
             gen.serialize(this);
-            gen.flush();
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
         }
-        return new String(byteOut.toByteArray());
+        return builder.toString();
     }
 
+    /**
+     * Returns an iterator over the entries of the map, which iterates the entries that are in the map when it is
+     * created. The entries are not copied upfront. Instead, the iterators that are not completed are detached from
+     * the map, by copying the entries they have not returned yet, before the first structural modification of the
+     * map. Since records create a new entry set when it is requested, iterating a record does not copy it again.
+     *
+     * @return iterator over the entries of the map
+     */
     @Override
     public IteratorValue getIterator() {
-        return new MapIterator<>(new LinkedHashSet<>(this.entrySet()).iterator());
+        MapIterator<K, V> iterator = new MapIterator<>(this.entrySet().iterator());
+        if (!type.isReadOnly()) {
+            trackIterator(iterator);
+        }
+        return iterator;
+    }
+
+    private synchronized void trackIterator(MapIterator<K, V> iterator) {
+        if (iterators == null) {
+            iterators = new ArrayList<>(1);
+        } else if (iterators.size() == MAX_TRACKED_ITERATORS) {
+            // Iterators that are never completed, e.g. of a loop with a `break`, stay tracked until the map is
+            // modified, so they are detached early to bound the number of tracked iterators
+            detachIterators();
+            iterators = new ArrayList<>(1);
+        }
+        iterator.map = this;
+        iterators.add(iterator);
+    }
+
+    private synchronized void untrackIterator(MapIterator<K, V> iterator) {
+        if (iterators != null) {
+            iterators.remove(iterator);
+        }
+    }
+
+    /**
+     * Detaches the iterators that are not completed from the map, before it is structurally modified.
+     */
+    private synchronized void detachIterators() {
+        if (iterators == null) {
+            return;
+        }
+        for (MapIterator<K, V> iterator : iterators) {
+            iterator.detach();
+        }
+        iterators = null;
     }
 
     /**
@@ -535,11 +584,19 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     static class MapIterator<K, V> implements IteratorValue {
 
         Iterator<Map.Entry<K, V>> iterator;
+        MapValueImpl<K, V> map;
 
         MapIterator(Iterator<Map.Entry<K, V>> iterator) {
             this.iterator = iterator;
         }
 
+        void detach() {
+            List<Map.Entry<K, V>> remaining = new ArrayList<>();
+            iterator.forEachRemaining(remaining::add);
+            iterator = remaining.iterator();
+            map = null;
+        }
+
         @Override
         public Object next() {
             Map.Entry<?, ?> next = iterator.next();
@@ -558,7 +615,15 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
         @Override
         public boolean hasNext() {
-            return iterator.hasNext();
+            if (iterator.hasNext()) {
+                return true;
+            }
+            MapValueImpl<K, V> map = this.map;
+            if (map != null) {
+                map.untrackIterator(this);
+                this.map = null;
+            }
+            return false;
         }
     }
 
@@ -629,6 +694,15 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * common behaviors such as error handling.
      */
     protected V putValue(K key, V value) {
+        if (iterators != null && !super.containsKey(key)) {
+            detachIterators();
+        }
         return super.put(key, value);
     }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        detachIterators();
+        super.putAll(m);
+    }
 }
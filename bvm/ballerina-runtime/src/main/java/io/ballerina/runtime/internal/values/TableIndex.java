@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+import io.ballerina.runtime.internal.ValueKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A secondary index on a field of the members of a table. The index maps the value of the field to the internal
+ * ids of the rows that have that value. A hash index only supports equality lookups, while a sorted index also
+ * supports range lookups using the ordering of the `<` operator.
+ *
+ * @since 2.0.0
+ */
+class TableIndex {
+
+    private static final String ASCENDING = "ascending";
+
+    private final BString fieldName;
+    private final boolean sorted;
+    private final Map<Object, Set<Integer>> rowIds;
+
+    TableIndex(BString fieldName, boolean sorted) {
+        this.fieldName = fieldName;
+        this.sorted = sorted;
+        if (sorted) {
+            this.rowIds = new TreeMap<>((lhs, rhs) -> ValueComparisonUtils.compareValues(lhs, rhs, ASCENDING));
+        } else {
+            this.rowIds = new HashMap<>();
+        }
+    }
+
+    BString getFieldName() {
+        return fieldName;
+    }
+
+    boolean isSorted() {
+        return sorted;
+    }
+
+    void add(int rowId, MapValue<BString, ?> row) {
+        rowIds.computeIfAbsent(indexKey(row.get(fieldName)), k -> new LinkedHashSet<>(1)).add(rowId);
+    }
+
+    void remove(int rowId, MapValue<BString, ?> row) {
+        Object key = indexKey(row.get(fieldName));
+        Set<Integer> ids = rowIds.get(key);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(rowId);
+        if (ids.isEmpty()) {
+            rowIds.remove(key);
+        }
+    }
+
+    void clear() {
+        rowIds.clear();
+    }
+
+    /**
+     * Returns the ids of the rows whose field value is equal to the given value with `==`.
+     *
+     * @param value value of the field
+     * @return ids of the matching rows
+     */
+    Collection<Integer> get(Object value) {
+        Set<Integer> ids;
+        try {
+            ids = rowIds.get(indexKey(value));
+        } catch (BError e) {
+            // A value of a type that cannot be compared with the indexed values is not equal to any of them
+            return Collections.emptySet();
+        }
+        return ids == null ? Collections.emptySet() : ids;
+    }
+
+    /**
+     * Returns the ids of the rows whose field value is within the given bounds. Rows with `()` or `NaN` as the value
+     * are never included, since they are unordered with respect to every other value.
+     *
+     * @param lower          lower bound, or null if there is no lower bound
+     * @param lowerInclusive whether the lower bound is included
+     * @param upper          upper bound, or null if there is no upper bound
+     * @param upperInclusive whether the upper bound is included
+     * @return ids of the matching rows
+     */
+    Collection<Integer> getRange(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+        if ((lower != null && !isOrdered(lower)) || (upper != null && !isOrdered(upper))) {
+            return Collections.emptyList();
+        }
+        NavigableMap<Object, Set<Integer>> range = (NavigableMap<Object, Set<Integer>>) rowIds;
+        try {
+            if (lower != null && upper != null) {
+                if (ValueComparisonUtils.compareValues(lower, upper, ASCENDING) > 0) {
+                    return Collections.emptyList();
+                }
+                range = range.subMap(lower, lowerInclusive, upper, upperInclusive);
+            } else if (lower != null) {
+                range = range.tailMap(lower, lowerInclusive);
+            } else if (upper != null) {
+                range = range.headMap(upper, upperInclusive);
+            }
+        } catch (BError e) {
+            return Collections.emptyList();
+        }
+        List<Integer> ids = new ArrayList<>();
+        for (Map.Entry<Object, Set<Integer>> entry : range.entrySet()) {
+            if (!isOrdered(entry.getKey())) {
+                // `()` and `NaN` are sorted after every other value, so nothing ordered is left
+                break;
+            }
+            ids.addAll(entry.getValue());
+        }
+        return ids;
+    }
+
+    private Object indexKey(Object value) {
+        return sorted ? value : new ValueKey(value);
+    }
+
+    private static boolean isOrdered(Object value) {
+        return value != null && !(value instanceof Double && Double.isNaN((Double) value));
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -41,6 +42,7 @@ import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.util.exceptions.BLangFreezeException;
 
+import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,14 +50,12 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -74,34 +74,49 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int FREE_BUCKET = 0;
+    private static final int REMOVED_BUCKET = -1;
+
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
+    // Members are stored in insertion order, which is also the iteration order. Removing a member leaves a gap in
+    // its slot, and the gaps are reclaimed only when the arrays are full. The keys and key hashes are only
+    // stored for tables with a key sequence.
+    private Object[] rowKeys;
+    private Object[] rowValues;
+    private long[] rowHashes;
+    private int noOfUsedSlots = 0;
+    private int size = 0;
+
+    // Open addressing hash index from key hashes to slots. Each bucket holds the slot + 1, FREE_BUCKET or
+    // REMOVED_BUCKET. Buckets marked as removed are counted as used, so that probing always finds a free bucket.
+    private int[] buckets;
+    private int noOfUsedBuckets = 0;
+
+    // Iterators created before a compaction, or before trailing slots are released, use this to find where they are
+    // in the remaining rows
+    private Compaction lastCompaction = new Compaction(new int[0]);
 
     private boolean nextKeySupported;
 
     private final Map<String, Object> nativeData = new HashMap<>();
 
+    // Secondary indexes by field name, created when the first index is added
+    private Map<String, TableIndex> indexes;
+
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
+        this.rowValues = new Object[INITIAL_CAPACITY];
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.rowKeys = new Object[INITIAL_CAPACITY];
+            this.rowHashes = new long[INITIAL_CAPACITY];
             this.valueHolder = new KeyHashValueHolder();
         } else {
             this.valueHolder = new ValueHolder();
@@ -127,7 +142,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public IteratorValue getIterator() {
-        return new TableIterator<K, V>();
+        return new TableIterator();
     }
 
     @Override
@@ -144,12 +159,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         if (fieldNames != null) {
             clone.fieldNames = fieldNames;
         }
+        if (indexes != null) {
+            for (TableIndex index : indexes.values()) {
+                clone.addIndex(index.getFieldName(), index.isSorted());
+            }
+        }
 
-        IteratorValue itr = getIterator();
-        while (itr.hasNext()) {
-            TupleValueImpl tupleValue = (TupleValueImpl) itr.next();
-            Object value = tupleValue.get(1);
-            value = value instanceof RefValue ? ((RefValue) value).copy(refs) : value;
+        for (V row : values()) {
+            Object value = row instanceof RefValue ? ((RefValue) row).copy(refs) : row;
             clone.add((V) value);
         }
 
@@ -166,15 +183,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     protected void handleFrozenTableValue() {
-        synchronized (this) {
-            try {
-                if (this.type.isReadOnly()) {
-                    ReadOnlyUtils.handleInvalidUpdate(TABLE_LANG_LIB);
-                }
-            } catch (BLangFreezeException e) {
-                throw ErrorCreator.createError(StringUtils.fromString(e.getMessage()),
-                                               StringUtils.fromString(e.getDetail()));
-            }
+        if (!this.type.isReadOnly()) {
+            return;
+        }
+        try {
+            ReadOnlyUtils.handleInvalidUpdate(TABLE_LANG_LIB);
+        } catch (BLangFreezeException e) {
+            throw ErrorCreator.createError(StringUtils.fromString(e.getMessage()),
+                                           StringUtils.fromString(e.getDetail()));
         }
     }
 
@@ -214,23 +230,185 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>(size);
+        for (int slot = 0; slot < noOfUsedSlots; slot++) {
+            if (rowValues[slot] != null) {
+                entrySet.add(new AbstractMap.SimpleEntry<>(getRowKey(slot), (V) rowValues[slot]));
+            }
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new RowIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        Arrays.fill(rowValues, 0, noOfUsedSlots, null);
+        if (rowKeys != null) {
+            Arrays.fill(rowKeys, 0, noOfUsedSlots, null);
+        }
+        releaseTrailingSlots(0);
+        size = 0;
+        buckets = null;
+        noOfUsedBuckets = 0;
+        if (indexes != null) {
+            indexes.values().forEach(TableIndex::clear);
+        }
+    }
+
+    @Override
+    public void addIndex(BString fieldName, boolean sorted) {
+        Type fieldType = getIndexableFieldType(fieldName.getValue());
+        if (sorted && !isOrderedType(fieldType)) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR,
+                                           StringUtils.fromString("a sorted index cannot be added on field '" +
+                                                                          fieldName + "' of type '" + fieldType +
+                                                                          "' since it is not an ordered type"));
+        }
+        if (indexes == null) {
+            indexes = new HashMap<>();
+        } else if (hasIndex(fieldName, sorted)) {
+            return;
+        }
+        // A sorted index also serves equality lookups, so it replaces a hash index on the same field
+        TableIndex index = new TableIndex(fieldName, sorted);
+        addRowsToIndex(index);
+        indexes.put(fieldName.getValue(), index);
+    }
+
+    @Override
+    public boolean hasIndex(BString fieldName, boolean sorted) {
+        if (indexes == null) {
+            return false;
+        }
+        TableIndex index = indexes.get(fieldName.getValue());
+        return index != null && (!sorted || index.isSorted());
+    }
+
+    @Override
+    public List<V> getIndexed(BString fieldName, Object value) {
+        return getRows(getIndex(fieldName, false).get(value));
+    }
+
+    @Override
+    public List<V> getIndexedRange(BString fieldName, Object lower, boolean lowerInclusive, Object upper,
+                                   boolean upperInclusive) {
+        return getRows(getIndex(fieldName, true).getRange(lower, lowerInclusive, upper, upperInclusive));
+    }
+
+    private TableIndex getIndex(BString fieldName, boolean sorted) {
+        if (!hasIndex(fieldName, sorted)) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR,
+                                           StringUtils.fromString("table does not have a " +
+                                                                          (sorted ? "sorted " : "") +
+                                                                          "index on field '" + fieldName + "'"));
+        }
+        return indexes.get(fieldName.getValue());
+    }
+
+    // Returns the rows in the given slots in the order in which they are iterated
+    private List<V> getRows(Collection<Integer> slots) {
+        int[] orderedSlots = new int[slots.size()];
+        int i = 0;
+        for (Integer slot : slots) {
+            orderedSlots[i++] = slot;
+        }
+        Arrays.sort(orderedSlots);
+        List<V> rows = new ArrayList<>(orderedSlots.length);
+        for (int slot : orderedSlots) {
+            rows.add((V) rowValues[slot]);
+        }
+        return rows;
+    }
+
+    private void addRowsToIndex(TableIndex index) {
+        for (int slot = 0; slot < noOfUsedSlots; slot++) {
+            if (rowValues[slot] != null) {
+                index.add(slot, (MapValue<BString, ?>) rowValues[slot]);
+            }
+        }
+    }
+
+    private void updateIndexes(int rowId, V oldRow, V newRow) {
+        if (indexes == null) {
+            return;
+        }
+        for (TableIndex index : indexes.values()) {
+            if (oldRow != null) {
+                index.remove(rowId, (MapValue<BString, ?>) oldRow);
+            }
+            if (newRow != null) {
+                index.add(rowId, (MapValue<BString, ?>) newRow);
+            }
+        }
+    }
+
+    // Only fields that cannot be updated once the member is in the table can be indexed, since updating the field
+    // through a reference to the member would otherwise leave the index stale
+    private Type getIndexableFieldType(String fieldName) {
+        Type constraintType = type.getConstrainedType();
+        boolean readOnlyMembers = type.isReadOnly() || constraintType.isReadOnly();
+        Type fieldType = null;
+        if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            Field field = ((BRecordType) constraintType).getFields().get(fieldName);
+            if (field != null) {
+                fieldType = field.getFieldType();
+                readOnlyMembers |= SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
+            }
+        } else if (constraintType.getTag() == TypeTags.MAP_TAG) {
+            fieldType = ((BMapType) constraintType).getConstrainedType();
+        }
+        if (fieldType == null) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR,
+                                           StringUtils.fromString("cannot add an index on field '" + fieldName +
+                                                                          "' of members of type '" + constraintType +
+                                                                          "'"));
+        }
+        if (!readOnlyMembers) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR,
+                                           StringUtils.fromString("cannot add an index on field '" + fieldName +
+                                                                          "' since it is not a readonly field"));
+        }
+        return fieldType;
+    }
+
+    // Checks whether all the values of the type, other than nil, belong to the same ordered basic type
+    private static boolean isOrderedType(Type type) {
+        List<Type> memberTypes = type.getTag() == TypeTags.UNION_TAG ? ((BUnionType) type).getMemberTypes() :
+                List.of(type);
+        int basicTypeTag = -1;
+        for (Type memberType : memberTypes) {
+            int tag = memberType.getTag();
+            if (tag == TypeTags.NULL_TAG) {
+                continue;
+            }
+            if (TypeTags.isIntegerTypeTag(tag)) {
+                tag = TypeTags.INT_TAG;
+            } else if (TypeTags.isStringTypeTag(tag)) {
+                tag = TypeTags.STRING_TAG;
+            } else if (tag != TypeTags.FLOAT_TAG && tag != TypeTags.DECIMAL_TAG && tag != TypeTags.BOOLEAN_TAG) {
+                return false;
+            }
+            if (basicTypeTag != -1 && basicTypeTag != tag) {
+                return false;
+            }
+            basicTypeTag = tag;
+        }
+        return basicTypeTag != -1;
     }
 
     @Override
@@ -259,7 +437,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -287,17 +465,27 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (rowKeys == null) {
+            return (K[]) new Object[0];
+        }
+        Object[] keys = new Object[size];
+        int i = 0;
+        for (int slot = 0; slot < noOfUsedSlots; slot++) {
+            if (rowValues[slot] != null) {
+                keys[i++] = rowKeys[slot];
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -322,7 +510,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createStringValueDataEntry(itr, parent);
     }
 
@@ -333,21 +521,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createExpressionStringValueDataEntry(itr, parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getStringValue(struct,
                                               new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -357,8 +545,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getExpressionStringValue(struct,
                                                         new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
@@ -398,40 +586,231 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
-    private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+    private K getRowKey(int slot) {
+        return (K) (rowKeys == null ? rowValues[slot] : rowKeys[slot]);
+    }
+
+    // Returns a free slot at the end of the rows, reclaiming the gaps left by removed members if the arrays are full
+    private int allocateSlot() {
+        if (noOfUsedSlots == rowValues.length) {
+            if (size <= noOfUsedSlots / 2) {
+                compact();
+            } else {
+                int capacity = rowValues.length * 2;
+                rowValues = Arrays.copyOf(rowValues, capacity);
+                if (rowKeys != null) {
+                    rowKeys = Arrays.copyOf(rowKeys, capacity);
+                    rowHashes = Arrays.copyOf(rowHashes, capacity);
+                }
+            }
+        }
+        return noOfUsedSlots++;
+    }
+
+    private void compact() {
+        int[] removedSlots = new int[noOfUsedSlots - size];
+        int noOfRemovedSlots = 0;
+        int target = 0;
+        for (int slot = 0; slot < noOfUsedSlots; slot++) {
+            if (rowValues[slot] == null) {
+                removedSlots[noOfRemovedSlots++] = slot;
+                continue;
+            }
+            if (target != slot) {
+                rowValues[target] = rowValues[slot];
+                if (rowKeys != null) {
+                    rowKeys[target] = rowKeys[slot];
+                    rowHashes[target] = rowHashes[slot];
+                }
+            }
+            target++;
+        }
+        Arrays.fill(rowValues, target, noOfUsedSlots, null);
+        if (rowKeys != null) {
+            Arrays.fill(rowKeys, target, noOfUsedSlots, null);
+        }
+        noOfUsedSlots = target;
+        addCompaction(new Compaction(removedSlots));
+
+        if (buckets != null) {
+            rehash(buckets.length);
+        }
+        if (indexes != null) {
+            for (TableIndex index : indexes.values()) {
+                index.clear();
+                addRowsToIndex(index);
+            }
+        }
+    }
+
+    // Releases the slots from the given slot onwards, which must all be empty, so that they are used for new members
+    private void releaseTrailingSlots(int fromSlot) {
+        if (fromSlot < noOfUsedSlots) {
+            noOfUsedSlots = fromSlot;
+            addCompaction(new Compaction(fromSlot));
+        }
+    }
+
+    private void addCompaction(Compaction compaction) {
+        lastCompaction.next = compaction;
+        lastCompaction = compaction;
+    }
+
+    private static int bucketOf(long hash, int mask) {
+        return (int) ((hash * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    // Keys are only compared when their cached hashes match, so a key is hashed once per lookup
+    private int findSlot(long hash, Object key) {
+        if (buckets == null) {
+            return -1;
+        }
+        int mask = buckets.length - 1;
+        for (int i = bucketOf(hash, mask); ; i = (i + 1) & mask) {
+            int bucket = buckets[i];
+            if (bucket == FREE_BUCKET) {
+                return -1;
+            }
+            if (bucket != REMOVED_BUCKET && rowHashes[bucket - 1] == hash &&
+                    TypeChecker.isEqual(rowKeys[bucket - 1], key)) {
+                return bucket - 1;
+            }
+        }
+    }
+
+    // Adds the slot to the hash index, assuming that there is no slot for the key already
+    private void addBucket(long hash, int slot) {
+        if (buckets == null) {
+            buckets = new int[INITIAL_CAPACITY * 2];
+        } else if ((noOfUsedBuckets + 1) * 2 > buckets.length) {
+            rehash(size * 4 > buckets.length ? buckets.length * 2 : buckets.length);
+        }
+        int mask = buckets.length - 1;
+        int i = bucketOf(hash, mask);
+        while (buckets[i] > FREE_BUCKET) {
+            i = (i + 1) & mask;
+        }
+        if (buckets[i] == FREE_BUCKET) {
+            noOfUsedBuckets++;
+        }
+        buckets[i] = slot + 1;
+    }
+
+    private void removeBucket(long hash, int slot) {
+        int mask = buckets.length - 1;
+        for (int i = bucketOf(hash, mask); ; i = (i + 1) & mask) {
+            if (buckets[i] == slot + 1) {
+                buckets[i] = REMOVED_BUCKET;
+                return;
+            }
+        }
+    }
+
+    // Rebuilds the hash index from the rows, which also drops the buckets marked as removed
+    private void rehash(int capacity) {
+        buckets = new int[capacity];
+        noOfUsedBuckets = 0;
+        int mask = capacity - 1;
+        for (int slot = 0; slot < noOfUsedSlots; slot++) {
+            if (rowValues[slot] == null) {
+                continue;
+            }
+            int i = bucketOf(rowHashes[slot], mask);
+            while (buckets[i] != FREE_BUCKET) {
+                i = (i + 1) & mask;
+            }
+            buckets[i] = slot + 1;
+            noOfUsedBuckets++;
+        }
+    }
+
+    // Gaps reclaimed by a compaction of the rows in ascending order, or the start of the trailing slots released
+    private static class Compaction {
+        private final int[] removedSlots;
+        private final int releasedFromSlot;
+        private Compaction next;
+
+        Compaction(int[] removedSlots) {
+            this.removedSlots = removedSlots;
+            this.releasedFromSlot = Integer.MAX_VALUE;
+        }
+
+        Compaction(int releasedFromSlot) {
+            this.removedSlots = new int[0];
+            this.releasedFromSlot = releasedFromSlot;
+        }
+
+        // Returns the position in the compacted rows that corresponds to the given position before compaction
+        int adjust(int slot) {
+            if (slot >= releasedFromSlot) {
+                // Members added to the released slots are yet to be iterated
+                return releasedFromSlot;
+            }
+            int index = Arrays.binarySearch(removedSlots, slot);
+            return slot - (index >= 0 ? index : -index - 1);
+        }
+    }
+
+    private class TableIterator implements IteratorValue {
+        private int cursor;
+        private Compaction compaction;
 
         TableIterator() {
             this.cursor = 0;
+            this.compaction = lastCompaction;
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            V value = (V) rowValues[cursor];
+            K key = getRowKey(cursor);
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor++;
+            return tuple;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (compaction.next != null) {
+                compaction = compaction.next;
+                cursor = compaction.adjust(cursor);
+            }
+            while (cursor < noOfUsedSlots && rowValues[cursor] == null) {
                 cursor++;
-                return next();
             }
+            return cursor < noOfUsedSlots;
         }
+    }
+
+    // Iterates the members for the Java collection views, which do not support updating the table while iterating
+    private class RowIterator implements Iterator<V> {
+        private int cursor = 0;
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            while (cursor < noOfUsedSlots && rowValues[cursor] == null) {
+                cursor++;
+            }
+            return cursor < noOfUsedSlots;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (V) rowValues[cursor++];
         }
     }
 
@@ -453,11 +832,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            int slot = allocateSlot();
+            rowValues[slot] = data;
+            size++;
+            updateIndexes(slot, null, data);
+            return null;
         }
 
         public V remove(K key) {
@@ -493,68 +872,88 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
 
-            if (containsKey((K) key)) {
+            long hash = TableUtils.hash(key, null);
+            if (findSlot(hash, key) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            appendData(key, data, hash);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            int slot = findSlot(TableUtils.hash(key, null), key);
+            return slot < 0 ? null : (V) rowValues[slot];
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            if (!TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+        // Replaces the member in its slot if the key is already in the table, or else appends it to the rows
+        private V putData(K key, V data, long hash) {
+            int slot = findSlot(hash, key);
+            if (slot >= 0) {
+                V oldData = (V) rowValues[slot];
+                rowKeys[slot] = key;
+                rowValues[slot] = data;
+                updateIndexes(slot, oldData, data);
+                return oldData;
+            }
+            appendData(key, data, hash);
+            return null;
+        }
+
+        private void appendData(K key, V data, long hash) {
+            // The bucket is added before filling the slot, since growing the hash index rehashes the filled slots
+            int slot = allocateSlot();
+            addBucket(hash, slot);
+            rowKeys[slot] = key;
+            rowValues[slot] = data;
+            rowHashes[slot] = hash;
+            size++;
+            updateIndexes(slot, null, data);
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
+            long hash = TableUtils.hash(key, null);
+            int slot = findSlot(hash, key);
+            if (slot < 0) {
+                return null;
+            }
+            removeBucket(hash, slot);
+            V removedData = (V) rowValues[slot];
+            rowKeys[slot] = null;
+            rowValues[slot] = null;
+            size--;
+            int lastUsedSlot = noOfUsedSlots;
+            while (lastUsedSlot > 0 && rowValues[lastUsedSlot - 1] == null) {
+                lastUsedSlot--;
             }
-            return values.remove(hash);
+            releaseTrailingSlots(lastUsedSlot);
+            updateIndexes(slot, removedData, null);
+            return removedData;
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return findSlot(TableUtils.hash(key, null), key) >= 0;
         }
 
         public Type getKeyType() {
@@ -563,7 +962,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         private class DefaultKeyWrapper {
 
+            protected final BString[] keyFieldNames;
+
             public DefaultKeyWrapper() {
+                keyFieldNames = new BString[fieldNames.length];
+                for (int i = 0; i < fieldNames.length; i++) {
+                    keyFieldNames[i] = StringUtils.fromString(fieldNames[i]);
+                }
                 if (fieldNames.length == 1) {
                     keyType = getTableConstraintField(type.getConstrainedType(), fieldNames[0]);
                     if (keyType != null && keyType.getTag() == TypeTags.INT_TAG) {
@@ -573,7 +978,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
 
             public K wrapKey(MapValue data) {
-                return (K) data.get(StringUtils.fromString(fieldNames[0]));
+                return (K) data.get(keyFieldNames[0]);
             }
         }
 
@@ -598,22 +1003,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                 TupleValueImpl arr = (TupleValueImpl) ValueCreator
                         .createTupleValue((BTupleType) keyType);
                 for (int i = 0; i < fieldNames.length; i++) {
-                    arr.add(i, data.get(StringUtils.fromString(fieldNames[i])));
+                    arr.add(i, data.get(keyFieldNames[i]));
                 }
                 return (K) arr;
             }
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
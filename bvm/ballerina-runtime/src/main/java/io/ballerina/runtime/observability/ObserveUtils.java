@@ -25,7 +25,9 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.configurable.ConfigMap;
 import io.ballerina.runtime.internal.configurable.VariableKey;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
 import io.ballerina.runtime.observability.tracer.BSpan;
 import io.opentelemetry.api.common.Attributes;
 
@@ -134,6 +136,21 @@ public class ObserveUtils {
         observers.add(observer);
     }
 
+    /**
+     * Register gauges reporting the state of the strand worker pool of the scheduler running the current strand.
+     */
+    public static void registerSchedulerMetrics() {
+        Scheduler scheduler = Scheduler.getStrand().scheduler;
+        PolledGauge.builder("scheduler_workers_active", scheduler, Scheduler::getActiveWorkerCount)
+                .description("Strand workers executing strands").register();
+        PolledGauge.builder("scheduler_workers_blocked", scheduler, Scheduler::getBlockedWorkerCount)
+                .description("Strand workers blocked inside a strand").register();
+        PolledGauge.builder("scheduler_workers_parked", scheduler, Scheduler::getParkedWorkerCount)
+                .description("Strand workers waiting for runnable strands").register();
+        PolledGauge.builder("scheduler_workers_compensation", scheduler, Scheduler::getCompensationWorkerCount)
+                .description("Strand workers started to compensate for blocked workers").register();
+    }
+
     /**
      * Start observation of a resource invocation.
      *
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.JsonGenerator;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for serializing JSON values to strings and to UTF-8 encoded bytes.
+ */
+public class JsonSerializationTest {
+
+    @DataProvider(name = "json-documents")
+    public Object[][] jsonDocuments() {
+        StringBuilder large = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            large.append(i == 0 ? "" : ",").append("{\"id\":").append(i)
+                    .append(",\"name\":\"\\u00e9l\\u00e8ve \\u20ac\\ud83d\\ude00 ").append(i).append("\"}");
+        }
+        return new Object[][]{
+                {"{\"name\":\"Anne\", \"age\":25, \"height\":1.65, \"married\":false, \"spouse\":null}"},
+                {"{\"a\":{\"b\":[{\"c\":[]}, {}, [[]]]}, \"d\":\"x\\n\\t\\\"\\u00e9\\\\y\"}"},
+                {"{\"city\":\"Z\\u00fcrich\", \"emoji\":\"\\ud83d\\ude00\", \"\\u043a\\u043b\":\"\\u0437\"}"},
+                {"\"top level string\""},
+                {"-15"},
+                {large.append(']').toString()}
+        };
+    }
+
+    @Test(dataProvider = "json-documents")
+    public void testSerializeToStreamMatchesJsonString(String document) {
+        Object json = JsonUtils.parse(document);
+        byte[] expected = StringUtils.getJsonString(json).getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(json, out, StandardCharsets.UTF_8);
+        Assert.assertEquals(out.toByteArray(), expected);
+
+        out = new ByteArrayOutputStream();
+        JsonUtils.serialize(json, Channels.newChannel(out));
+        Assert.assertEquals(out.toByteArray(), expected);
+    }
+
+    @Test(dataProvider = "json-documents")
+    public void testSerializeMatchesOutputStreamWriter(String document) throws IOException {
+        Object json = JsonUtils.parse(document);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        JsonGenerator gen = new JsonGenerator(new BufferedWriter(new OutputStreamWriter(expected,
+                                                                                        StandardCharsets.UTF_8)));
+        gen.serialize(json);
+        gen.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        gen = new JsonGenerator(out, StandardCharsets.UTF_8);
+        gen.serialize(json);
+        gen.flush();
+        Assert.assertEquals(out.toByteArray(), expected.toByteArray());
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8),
+                            StringUtils.getJsonString(json));
+    }
+
+    @Test
+    public void testSerializeToNonBlockingChannel() throws IOException {
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            JsonUtils.serialize(JsonUtils.parse("{\"a\":1}"), pipe.sink());
+            Assert.fail("expected serializing to a non-blocking channel to fail");
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), "channel is in non-blocking mode");
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+}
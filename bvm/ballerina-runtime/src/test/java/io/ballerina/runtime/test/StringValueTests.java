@@ -1,5 +1,7 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +42,58 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatNonBmp() {
+        BString str = StringUtils.fromString("Frav").concat(StringUtils.fromString("\uD83D\uDC7Dr"));
+        Assert.assertEquals(str.length(), 6);
+        Assert.assertEquals(str.getCodePoint(4), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(5), 'r');
+
+        str = SUBJECT.concat(SUBJECT);
+        Assert.assertEquals(str.length(), 32);
+        Assert.assertEquals(str.getCodePoint(17), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(30), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(31), 'r');
+    }
+
+    @Test
+    void testConcatInLoop() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            BString piece = StringUtils.fromString(i % 10 == 0 ? "\uD83D\uDEF8" : String.valueOf(i));
+            str = str.concat(piece);
+            expected.append(piece.getValue());
+        }
+        BString expectedStr = StringUtils.fromString(expected.toString());
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.length(), expectedStr.length());
+        Assert.assertEquals(str.hashCode(), expectedStr.hashCode());
+        Assert.assertEquals(str, expectedStr);
+        Assert.assertEquals(str.getCodePoint(str.length() - 1), '9');
+    }
+
+    @Test
+    void testConcatToEarlierResult() {
+        BString base = StringUtils.fromString("a".repeat(100));
+        BString first = base.concat(StringUtils.fromString("b"));
+        BString second = base.concat(StringUtils.fromString("c"));
+        Assert.assertEquals(first.getValue(), "a".repeat(100) + "b");
+        Assert.assertEquals(second.getValue(), "a".repeat(100) + "c");
+        Assert.assertEquals(first.concat(first).length(), 202);
+    }
+
+    @Test
+    void testConcatAfterFlattening() {
+        BString first = StringUtils.fromString("a".repeat(100)).concat(StringUtils.fromString("b"));
+        BString second = first.concat(StringUtils.fromString("c"));
+        Assert.assertEquals(first.hashCode(), ("a".repeat(100) + "b").hashCode());
+        Assert.assertEquals(second.getValue(), "a".repeat(100) + "bc");
+
+        BString third = first.concat(StringUtils.fromString("d"));
+        BString fourth = StringUtils.fromString("e").concat(second);
+        Assert.assertEquals(third.getValue(), "a".repeat(100) + "bd");
+        Assert.assertEquals(fourth.getValue(), "e" + "a".repeat(100) + "bc");
+        Assert.assertEquals(third.concat(StringUtils.fromString("f")).getValue(), "a".repeat(100) + "bdf");
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the storage of members in {@link io.ballerina.runtime.internal.values.TableValueImpl}.
+ */
+public class TableValueTest {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString GROUP = StringUtils.fromString("group");
+    // Indexes can only be added on fields that cannot be updated, so the members are readonly maps
+    private static final MapType ROW_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_INT, true);
+
+    @Test
+    void testRemoveWhileIteratingAcrossCompaction() {
+        BTable<Long, BMap<BString, Object>> table = createKeyedTable(0, 8);
+        BIterator<?> iterator = table.getIterator();
+        Assert.assertEquals(nextIds(iterator, 3), List.of(0L, 1L, 2L));
+
+        removeIds(table, 1, 3, 4, 5, 6);
+        // The rows are full, and at most half of them are members, so adding compacts the rows
+        table.add(createRow(8));
+
+        Assert.assertEquals(nextIds(iterator, -1), List.of(7L, 8L));
+        Assert.assertEquals(nextIds(table.getIterator(), -1), List.of(0L, 2L, 7L, 8L));
+    }
+
+    @Test
+    void testPutKeepsPositionOfReplacedMember() {
+        BTable<Long, BMap<BString, Object>> table = createKeyedTable(0, 3);
+        BMap<BString, Object> row = createRow(1, 10);
+
+        Assert.assertEquals(table.put(1L, row).get(GROUP), 1L);
+        Assert.assertEquals(nextIds(table.getIterator(), -1), List.of(0L, 1L, 2L));
+        Assert.assertSame(table.get(1L), row);
+        Assert.assertEquals(table.size(), 3);
+    }
+
+    @Test
+    void testClearWhileIterating() {
+        BTable<Long, BMap<BString, Object>> table = createKeyedTable(0, 4);
+        BIterator<?> iterator = table.getIterator();
+        Assert.assertEquals(nextIds(iterator, 2), List.of(0L, 1L));
+
+        table.clear();
+        Assert.assertFalse(iterator.hasNext());
+        table.add(createRow(10));
+        table.add(createRow(11));
+
+        Assert.assertEquals(nextIds(iterator, -1), List.of(10L, 11L));
+    }
+
+    @Test
+    void testAddAfterRemovingTrailingMembers() {
+        BTable<Long, BMap<BString, Object>> table = createKeyedTable(0, 4);
+        BIterator<?> iterator = table.getIterator();
+        Assert.assertEquals(nextIds(iterator, -1), List.of(0L, 1L, 2L, 3L));
+
+        removeIds(table, 3, 2);
+        table.add(createRow(4));
+
+        Assert.assertEquals(nextIds(iterator, -1), List.of(4L));
+        Assert.assertEquals(nextIds(table.getIterator(), -1), List.of(0L, 1L, 4L));
+        Assert.assertTrue(table.containsKey(4L));
+        Assert.assertFalse(table.containsKey(2L));
+    }
+
+    @Test
+    void testNextKeyAfterRemovals() {
+        BTable<Long, BMap<BString, Object>> table = createKeyedTable(0, 2);
+        table.add(createRow(5));
+        Assert.assertEquals(table.getNextKey(), 6);
+
+        removeIds(table, 5);
+        Assert.assertEquals(table.getNextKey(), 6);
+
+        removeIds(table, 0, 1);
+        Assert.assertEquals(table.getNextKey(), 0);
+        table.add(createRow(3));
+        Assert.assertEquals(table.getNextKey(), 4);
+    }
+
+    @Test
+    void testKeylessTable() {
+        BTable<Object, BMap<BString, Object>> table =
+                ValueCreator.createTableValue(TypeCreator.createTableType(ROW_TYPE, false));
+        for (int id = 0; id < 20; id++) {
+            table.add(createRow(id));
+        }
+        Assert.assertEquals(table.size(), 20);
+        List<Long> ids = nextIds(table.getIterator(), -1);
+        Assert.assertEquals(ids.size(), 20);
+        for (int id = 0; id < 20; id++) {
+            Assert.assertEquals(ids.get(id), Long.valueOf(id));
+        }
+
+        table.clear();
+        table.add(createRow(1));
+        Assert.assertEquals(nextIds(table.getIterator(), -1), List.of(1L));
+    }
+
+    @Test
+    void testIndexesAfterCompaction() {
+        BTable<Long, BMap<BString, Object>> table = createKeyedTable(0, 8);
+        table.addIndex(GROUP, true);
+
+        removeIds(table, 1, 2, 3, 4, 5);
+        table.add(createRow(8));
+
+        Assert.assertEquals(getIds(table.getIndexed(GROUP, 0L)), List.of(0L, 6L));
+        Assert.assertEquals(getIds(table.getIndexed(GROUP, 1L)), List.of(7L));
+        Assert.assertEquals(getIds(table.getIndexed(GROUP, 2L)), List.of(8L));
+        Assert.assertEquals(getIds(table.getIndexedRange(GROUP, 1L, true, 2L, true)), List.of(7L, 8L));
+
+        removeIds(table, 6);
+        Assert.assertEquals(getIds(table.getIndexed(GROUP, 0L)), List.of(0L));
+    }
+
+    private static BTable<Long, BMap<BString, Object>> createKeyedTable(int fromId, int toId) {
+        BTable<Long, BMap<BString, Object>> table =
+                ValueCreator.createTableValue(TypeCreator.createTableType(ROW_TYPE, new String[]{"id"}, false));
+        for (int id = fromId; id < toId; id++) {
+            table.add(createRow(id));
+        }
+        return table;
+    }
+
+    private static BMap<BString, Object> createRow(long id) {
+        return createRow(id, id % 3);
+    }
+
+    private static BMap<BString, Object> createRow(long id, long group) {
+        return ValueCreator.createMapValue(ROW_TYPE, new BMapInitialValueEntry[]{
+                ValueCreator.createKeyFieldEntry(ID, id), ValueCreator.createKeyFieldEntry(GROUP, group)});
+    }
+
+    private static void removeIds(BTable<Long, BMap<BString, Object>> table, long... ids) {
+        for (long id : ids) {
+            Assert.assertNotNull(table.remove(id));
+        }
+    }
+
+    // Returns the ids of the next members of the iterator, or of all the remaining members if the count is negative
+    private static List<Long> nextIds(BIterator<?> iterator, int count) {
+        List<Long> ids = new ArrayList<>();
+        while ((count < 0 || ids.size() < count) && iterator.hasNext()) {
+            BMap<?, ?> row = (BMap<?, ?>) ((BArray) iterator.next()).get(1);
+            ids.add((Long) row.get(ID));
+        }
+        return ids;
+    }
+
+    private static List<Long> getIds(List<BMap<BString, Object>> rows) {
+        List<Long> ids = new ArrayList<>();
+        for (BMap<BString, Object> row : rows) {
+            ids.add((Long) row.get(ID));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for caching type check results in {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTest {
+
+    // A cache of the test, so that the counts are not affected by type checks done elsewhere
+    private TypeCheckCache cache;
+
+    @BeforeMethod
+    void createCache() {
+        cache = new TypeCheckCache(16);
+    }
+
+    @Test
+    void testUnionTypeCheckIsCached() {
+        Type sourceType = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        Type targetType = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING,
+                                                      PredefinedTypes.TYPE_BOOLEAN);
+
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType, cache));
+        long missCount = cache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType, cache));
+        Assert.assertEquals(cache.getMissCount(), missCount);
+        Assert.assertEquals(cache.getHitCount(), 1);
+    }
+
+    @Test
+    void testFailedTypeCheckIsCached() {
+        Type sourceType = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA);
+        Type targetType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType, cache));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType, cache));
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertTrue(TypeChecker.checkIsType(targetType, sourceType, cache));
+    }
+
+    @Test
+    void testSimpleTypeCheckIsNotCached() {
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_BYTE, PredefinedTypes.TYPE_INT, cache));
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_BYTE, PredefinedTypes.TYPE_INT, cache));
+        Assert.assertEquals(cache.getHitCount() + cache.getMissCount(), 0);
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        for (int i = 0; i < 40; i++) {
+            Type sourceType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+            Assert.assertTrue(TypeChecker.checkIsType(sourceType, PredefinedTypes.TYPE_ANYDATA, cache));
+            Assert.assertTrue(cache.size() <= 16);
+        }
+    }
+
+    @Test
+    void testDisabledCache() {
+        TypeCheckCache disabledCache = new TypeCheckCache(0);
+        Type sourceType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Type targetType = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType, disabledCache));
+        Assert.assertFalse(TypeChecker.checkIsType(targetType, sourceType, disabledCache));
+        Assert.assertEquals(disabledCache.getHitCount() + disabledCache.getMissCount(), 0);
+        Assert.assertEquals(disabledCache.size(), 0);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
+
+/**
+ * Test cases for parsing JSON from UTF-8 encoded bytes.
+ */
+public class Utf8JsonParserTest {
+
+    @DataProvider(name = "json-documents")
+    public Object[][] jsonDocuments() {
+        return new Object[][]{
+                {"{\"name\":\"Anne\", \"age\":25, \"height\":1.65, \"married\":false, \"spouse\":null}"},
+                {"[1, -2, 3.0, -0, -0.0, 9223372036854775807, -9223372036854775808, 12345678901234567.5]"},
+                {"{\"a\":{\"b\":[{\"c\":[]}, {}, [[]]]}, \"d\":\"x\\n\\t\\\"\\u00e9\\\\y\"}"},
+                {"{\"city\":\"Zürich\", \"emoji\":\"😀\", \"ключ\":\"значение\"}"},
+                {"  \"top level string\"  "},
+                {"true"},
+                {"-15"},
+                {"{'single':'quotes'}"}
+        };
+    }
+
+    @Test(dataProvider = "json-documents")
+    public void testParseBytesMatchesParseString(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (JsonUtils.NonStringValueProcessingMode mode : new JsonUtils.NonStringValueProcessingMode[]{
+                FROM_JSON_STRING, FROM_JSON_FLOAT_STRING, FROM_JSON_DECIMAL_STRING}) {
+            Object expected = JsonUtils.parse(json, mode);
+            Object actual = JsonUtils.parse(bytes, mode);
+            Assert.assertTrue(TypeChecker.isEqual(expected, actual), json);
+            Assert.assertEquals(TypeUtils.getType(actual), TypeUtils.getType(expected), json);
+        }
+    }
+
+    @Test
+    public void testParseByteBuffer() {
+        byte[] bytes = "xx{\"a\":[1,2]}yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, 11);
+        Object expected = JsonUtils.parse("{\"a\":[1,2]}");
+        Assert.assertTrue(TypeChecker.isEqual(JsonUtils.parse(buffer, FROM_JSON_STRING), expected));
+        Assert.assertEquals(buffer.position(), 2);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).position(2).limit(13);
+        Assert.assertTrue(TypeChecker.isEqual(JsonUtils.parse(direct, FROM_JSON_STRING), expected));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRepeatedFieldNamesAreShared() {
+        byte[] bytes = "[{\"id\":1}, {\"id\":2}]".getBytes(StandardCharsets.UTF_8);
+        Object[] values = ((BArray) JsonUtils.parse(bytes)).getValues();
+        BString first = ((BMap<BString, Object>) values[0]).getKeys()[0];
+        BString second = ((BMap<BString, Object>) values[1]).getKeys()[0];
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFieldNamesAreSharedAfterManyDistinctNames() {
+        StringBuilder manyNames = new StringBuilder("{");
+        for (int i = 0; i < 5000; i++) {
+            manyNames.append(i == 0 ? "" : ",").append("\"field").append(i).append("\":").append(i);
+        }
+        JsonUtils.parse(manyNames.append('}').toString().getBytes(StandardCharsets.UTF_8));
+
+        byte[] bytes = "[{\"orderId\":1}, {\"orderId\":2}]".getBytes(StandardCharsets.UTF_8);
+        Object[] values = ((BArray) JsonUtils.parse(bytes)).getValues();
+        BString first = ((BMap<BString, Object>) values[0]).getKeys()[0];
+        BString second = ((BMap<BString, Object>) values[1]).getKeys()[0];
+        Assert.assertSame(first, second);
+    }
+
+    @DataProvider(name = "invalid-json-documents")
+    public Object[][] invalidJsonDocuments() {
+        return new Object[][]{
+                {"", "empty JSON document at line: 1 column: 0"},
+                {"{\"a\":1", "unexpected end of JSON document at line: 1 column: 6"},
+                {"[1 2]", "expected , or ] at line: 1 column: 4"},
+                {"{\"a\":1}\n{", "JSON document has already ended at line: 2 column: 1"},
+                {"{\"a\" 1}", "expected : at line: 1 column: 6"},
+                {"[1.2.3]", "unrecognized token '1.2.3' at line: 1 column: 7"}
+        };
+    }
+
+    @Test(dataProvider = "invalid-json-documents")
+    public void testParseInvalidBytes(String json, String message) {
+        try {
+            JsonUtils.parse(json.getBytes(StandardCharsets.UTF_8));
+            Assert.fail("expected parsing to fail for: " + json);
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), message);
+        }
+    }
+}
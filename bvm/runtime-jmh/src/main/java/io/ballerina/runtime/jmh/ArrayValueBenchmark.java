@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for creating and reading {@link ArrayValueImpl} values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayValueBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ArrayValueImpl intArray;
+    private ArrayValueImpl stringArray;
+    private BString[] strings;
+
+    @Setup
+    public void setup() {
+        strings = new BString[size];
+        intArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_INT));
+        stringArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_STRING));
+        for (int i = 0; i < size; i++) {
+            strings[i] = StringUtils.fromString("value" + i);
+            intArray.add(i, (long) i);
+            stringArray.add(i, strings[i]);
+        }
+    }
+
+    @Benchmark
+    public ArrayValueImpl appendInt() {
+        ArrayValueImpl array = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_INT));
+        for (int i = 0; i < size; i++) {
+            array.add(i, (long) i);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public ArrayValueImpl appendBoxedInt() {
+        ArrayValueImpl array = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_INT));
+        for (int i = 0; i < size; i++) {
+            array.append((long) i);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public ArrayValueImpl appendString() {
+        ArrayValueImpl array = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_STRING));
+        for (int i = 0; i < size; i++) {
+            array.add(i, strings[i]);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long sumInt() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += intArray.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int readString() {
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            length += stringArray.getBString(i).length();
+        }
+        return length;
+    }
+}
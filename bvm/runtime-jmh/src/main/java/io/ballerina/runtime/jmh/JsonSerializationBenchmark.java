@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.JsonGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for serializing JSON values, to a string with `toJsonString` and to byte sinks, compared with
+ * generating the JSON through a {@link BufferedWriter} and an {@link OutputStreamWriter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private Object json;
+    private CountingOutputStream out;
+    private CountingChannel channel;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i)
+                    .append(",\"name\":\"item").append(i).append('"')
+                    .append(",\"description\":\"caf\\u00e9 \\u20ac").append(i).append('"')
+                    .append(",\"price\":").append(i).append(".25")
+                    .append(",\"inStock\":").append(i % 2 == 0)
+                    .append(",\"tags\":[\"a\",\"b\",\"c\"]}");
+        }
+        json = JsonUtils.parse(sb.append(']').toString());
+        out = new CountingOutputStream();
+        channel = new CountingChannel();
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return StringUtils.getJsonString(json);
+    }
+
+    // The path used by `toJsonString` before the JSON was generated into a string builder
+    @Benchmark
+    public String toJsonStringThroughBytes() throws IOException {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        JsonGenerator gen = new JsonGenerator(new BufferedWriter(new OutputStreamWriter(byteOut,
+                                                                                        Charset.defaultCharset())));
+        gen.serialize(json);
+        gen.flush();
+        return new String(byteOut.toByteArray());
+    }
+
+    @Benchmark
+    public long serializeToStream() {
+        JsonUtils.serialize(json, out, StandardCharsets.UTF_8);
+        return out.count;
+    }
+
+    @Benchmark
+    public long serializeToStreamThroughWriter() throws IOException {
+        JsonGenerator gen = new JsonGenerator(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        gen.serialize(json);
+        gen.flush();
+        return out.count;
+    }
+
+    @Benchmark
+    public long serializeToChannel() {
+        JsonUtils.serialize(json, channel);
+        return channel.count;
+    }
+
+    @Benchmark
+    public long serializeToChannelThroughString() throws IOException {
+        channel.write(ByteBuffer.wrap(StringUtils.getJsonString(json).getBytes(StandardCharsets.UTF_8)));
+        return channel.count;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    private static class CountingChannel implements WritableByteChannel {
+
+        private long count;
+
+        @Override
+        public int write(ByteBuffer src) {
+            int length = src.remaining();
+            src.position(src.limit());
+            count += length;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for creating, reading and iterating {@link MapValueImpl} values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapValueBenchmark {
+
+    @Param({"10", "10000"})
+    private int size;
+
+    private BString[] keys;
+    private MapValueImpl<BString, Object> map;
+
+    @Setup
+    public void setup() {
+        keys = new BString[size];
+        map = new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_INT));
+        for (int i = 0; i < size; i++) {
+            keys[i] = StringUtils.fromString("key" + i);
+            map.put(keys[i], (long) i);
+        }
+    }
+
+    @Benchmark
+    public MapValueImpl<BString, Object> put() {
+        MapValueImpl<BString, Object> newMap = new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_INT));
+        for (int i = 0; i < size; i++) {
+            newMap.put(keys[i], (long) i);
+        }
+        return newMap;
+    }
+
+    @Benchmark
+    public long get() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += (Long) map.get(keys[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateEntries() {
+        long sum = 0;
+        for (Map.Entry<BString, Object> entry : map.entrySet()) {
+            sum += (Long) entry.getValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int getKeys() {
+        return map.getKeys().length;
+    }
+
+    @Benchmark
+    public Object copy() {
+        return map.copy(new HashMap<>());
+    }
+}
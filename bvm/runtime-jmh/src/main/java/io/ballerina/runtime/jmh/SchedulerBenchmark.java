@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks for scheduling short lived strands. The run queue used by the scheduler can be selected with the
+ * BALLERINA_SCHEDULER_MODE environment variable of the forked benchmark JVM.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchedulerBenchmark {
+
+    private static final Function<Object[], Object> TASK = params -> null;
+
+    @Param({"1000"})
+    private int strands;
+
+    @Param({"4"})
+    private int threads;
+
+    private Scheduler scheduler;
+
+    @Setup
+    public void setup() {
+        scheduler = new Scheduler(threads, true);
+        Thread schedulerThread = new Thread(scheduler::start, "jmh-scheduler");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.poison();
+    }
+
+    @Benchmark
+    public void scheduleAndComplete() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(strands);
+        Callback callback = new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+                latch.countDown();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                latch.countDown();
+            }
+        };
+        for (int i = 0; i < strands; i++) {
+            scheduler.schedule(new Object[1], TASK, null, callback, "jmh-strand", null);
+        }
+        latch.await();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.langlib.string.Join;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for building strings by repeated concatenation, as done by `s = s + x` in a loop, and with
+ * `lang.string:join`.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringConcatBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private BString separator;
+    private BString[] pieces;
+    private BString[] nonBmpPieces;
+
+    @Setup
+    public void setup() {
+        separator = StringUtils.fromString(", ");
+        pieces = new BString[size];
+        nonBmpPieces = new BString[size];
+        for (int i = 0; i < size; i++) {
+            pieces[i] = StringUtils.fromString("item" + i);
+            nonBmpPieces[i] = StringUtils.fromString("\uD83D\uDC7D" + i);
+        }
+    }
+
+    @Benchmark
+    public int concatLoop() {
+        BString result = StringUtils.fromString("");
+        for (BString piece : pieces) {
+            result = result.concat(piece);
+        }
+        return result.getValue().length();
+    }
+
+    @Benchmark
+    public int concatLoopNonBmp() {
+        BString result = StringUtils.fromString("");
+        for (BString piece : nonBmpPieces) {
+            result = result.concat(piece);
+        }
+        return result.getCodePoint(result.length() - 1);
+    }
+
+    @Benchmark
+    public int concatLoopWithSeparator() {
+        BString result = StringUtils.fromString("");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                result = result.concat(separator);
+            }
+            result = result.concat(pieces[i]);
+        }
+        return result.getValue().length();
+    }
+
+    @Benchmark
+    public int join() {
+        return Join.join(separator, (Object[]) pieces).getValue().length();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BTableType;
+import io.ballerina.runtime.internal.types.BTupleType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for inserting into and looking up {@link TableValueImpl} values keyed by a string and an int field.
+ * The string keys share a long common prefix, so that comparing and hashing them is not trivially cheap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TableCompositeKeyBenchmark {
+
+    private static final BString NAME_FIELD = StringUtils.fromString("name");
+    private static final BString ID_FIELD = StringUtils.fromString("id");
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private BTableType tableType;
+    private MapValueImpl<?, ?>[] rows;
+    private BArray[] keys;
+    private TableValueImpl<BArray, MapValueImpl<?, ?>> table;
+
+    @Setup
+    public void setup() {
+        BMapType constraintType = new BMapType(PredefinedTypes.TYPE_ANYDATA);
+        tableType = new BTableType(constraintType, new String[]{NAME_FIELD.getValue(), ID_FIELD.getValue()}, false);
+        BTupleType keyType = new BTupleType(List.<Type>of(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT));
+        rows = new MapValueImpl[size];
+        keys = new BArray[size];
+        table = new TableValueImpl<>(tableType);
+        for (int i = 0; i < size; i++) {
+            BString name = StringUtils.fromString("department/engineering/member-" + (i % 1000));
+            long id = i / 1000;
+            MapValueImpl<Object, Object> row = new MapValueImpl<>(constraintType);
+            row.put(NAME_FIELD, name);
+            row.put(ID_FIELD, id);
+            rows[i] = row;
+            table.add(row);
+
+            BArray key = ValueCreator.createTupleValue(keyType);
+            key.add(0, name);
+            key.add(1, id);
+            keys[i] = key;
+        }
+    }
+
+    @Benchmark
+    public TableValueImpl<BArray, MapValueImpl<?, ?>> add() {
+        TableValueImpl<BArray, MapValueImpl<?, ?>> newTable = new TableValueImpl<>(tableType);
+        for (int i = 0; i < size; i++) {
+            newTable.add(rows[i]);
+        }
+        return newTable;
+    }
+
+    @Benchmark
+    public int getByKey() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (table.get(keys[i]) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int containsKey() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (table.containsKey(keys[i])) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BTableType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the memory retained by {@link TableValueImpl} for each member of a large table, excluding the members
+ * themselves. The retained size is reported as the {@code bytesPerRow} secondary result, and is measured from the
+ * used heap after a full GC, so the time score of this benchmark is not meaningful. Use {@link TableValueBenchmark}
+ * for throughput, and run with {@code -prof gc} to also see the allocation rate while building the table.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TableMemoryBenchmark {
+
+    private static final String KEY_FIELD = "id";
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"true", "false"})
+    private boolean keyed;
+
+    private BTableType tableType;
+    private MapValueImpl<?, ?>[] rows;
+
+    /**
+     * Secondary results reported along with the benchmark score.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long bytesPerRow;
+    }
+
+    @Setup
+    public void setup() {
+        BMapType constraintType = new BMapType(PredefinedTypes.TYPE_INT);
+        tableType = keyed ? new BTableType(constraintType, new String[]{KEY_FIELD}, false) :
+                new BTableType(constraintType, false);
+        rows = new MapValueImpl[size];
+        for (int i = 0; i < size; i++) {
+            MapValueImpl<Object, Object> row = new MapValueImpl<>(constraintType);
+            row.put(StringUtils.fromString(KEY_FIELD), (long) i);
+            rows[i] = row;
+        }
+    }
+
+    @Benchmark
+    public TableValueImpl<Long, MapValueImpl<?, ?>> build(Footprint footprint) {
+        long usedBefore = usedHeap();
+        TableValueImpl<Long, MapValueImpl<?, ?>> table = new TableValueImpl<>(tableType);
+        for (int i = 0; i < size; i++) {
+            table.add(rows[i]);
+        }
+        long usedAfter = usedHeap();
+        footprint.bytesPerRow = (usedAfter - usedBefore) / size;
+        return table;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BTableType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for inserting into, updating and looking up {@link TableValueImpl} values keyed by an int field.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TableValueBenchmark {
+
+    private static final String KEY_FIELD = "id";
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private BTableType tableType;
+    private MapValueImpl<?, ?>[] rows;
+    private TableValueImpl<Long, MapValueImpl<?, ?>> table;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        tableType = new BTableType(new BMapType(PredefinedTypes.TYPE_INT), new String[]{KEY_FIELD}, false);
+        rows = new MapValueImpl[size];
+        table = new TableValueImpl<>(tableType);
+        for (int i = 0; i < size; i++) {
+            MapValueImpl<Object, Object> row = new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_INT));
+            row.put(StringUtils.fromString(KEY_FIELD), (long) i);
+            row.put(StringUtils.fromString("value"), (long) i * 2);
+            rows[i] = row;
+            table.add(row);
+        }
+    }
+
+    @Benchmark
+    public TableValueImpl<Long, MapValueImpl<?, ?>> add() {
+        TableValueImpl<Long, MapValueImpl<?, ?>> newTable = new TableValueImpl<>(tableType);
+        for (int i = 0; i < size; i++) {
+            newTable.add(rows[i]);
+        }
+        return newTable;
+    }
+
+    @Benchmark
+    public TableValueImpl<Long, MapValueImpl<?, ?>> put() {
+        // Replaces every member of the table in place
+        for (int i = 0; i < size; i++) {
+            table.put((long) i, rows[i]);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public int getByKey() {
+        int found = 0;
+        for (long i = 0; i < size; i++) {
+            if (table.get(i) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long containsKey() {
+        long found = 0;
+        for (long i = 0; i < size; i++) {
+            if (table.containsKey(i)) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
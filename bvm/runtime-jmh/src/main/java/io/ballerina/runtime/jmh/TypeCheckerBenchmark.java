@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for type-only subtype checks between structural types, with and without the {@link TypeCheckCache}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeCheckerBenchmark {
+
+    private static final Module MODULE = new Module("jmh", "bench", "1.0.0");
+
+    private Type sourceRecord;
+    private Type targetRecord;
+    private Type sourceUnion;
+    private Type targetUnion;
+
+    @Setup
+    public void setup() {
+        sourceRecord = createRecordType("Employee", true, PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING,
+                                        PredefinedTypes.TYPE_DECIMAL, PredefinedTypes.TYPE_BOOLEAN);
+        targetRecord = createRecordType("Person", false, PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        sourceUnion = TypeCreator.createUnionType(sourceRecord, PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_NULL);
+        targetUnion = TypeCreator.createUnionType(targetRecord, PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING,
+                                                  PredefinedTypes.TYPE_NULL);
+    }
+
+    @Benchmark
+    public boolean recordCached() {
+        return TypeChecker.checkIsType(sourceRecord, targetRecord);
+    }
+
+    @Benchmark
+    public boolean recordUncached() {
+        TypeCheckCache.getInstance().clear();
+        return TypeChecker.checkIsType(sourceRecord, targetRecord);
+    }
+
+    @Benchmark
+    public boolean unionCached() {
+        return TypeChecker.checkIsType(sourceUnion, targetUnion);
+    }
+
+    @Benchmark
+    public boolean unionUncached() {
+        TypeCheckCache.getInstance().clear();
+        return TypeChecker.checkIsType(sourceUnion, targetUnion);
+    }
+
+    private static Type createRecordType(String name, boolean sealed, Type... fieldTypes) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (int i = 0; i < fieldTypes.length; i++) {
+            String fieldName = "field" + i;
+            fields.put(fieldName, TypeCreator.createField(fieldTypes[i], fieldName, SymbolFlags.REQUIRED));
+        }
+        return TypeCreator.createRecordType(name, MODULE, 0, fields, sealed ? null : PredefinedTypes.TYPE_ANYDATA,
+                                            sealed, 0);
+    }
+}
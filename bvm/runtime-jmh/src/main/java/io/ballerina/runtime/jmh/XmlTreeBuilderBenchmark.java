@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.jmh;
+
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.XmlElementStreamReader;
+import io.ballerina.runtime.internal.XmlFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for building XML values from text, either as a whole document or one element at a time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class XmlTreeBuilderBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private String payload;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("<catalog xmlns:ns=\"http://ballerina.io/jmh\">");
+        for (int i = 0; i < size; i++) {
+            sb.append("<ns:book id=\"").append(i).append("\">")
+                    .append("<title>Title ").append(i).append("</title>")
+                    .append("<price currency=\"USD\">").append(i).append(".25</price>")
+                    .append("<!-- book ").append(i).append(" -->")
+                    .append("</ns:book>");
+        }
+        payload = sb.append("</catalog>").toString();
+    }
+
+    @Benchmark
+    public Object parse() {
+        return XmlFactory.parse(payload);
+    }
+
+    @Benchmark
+    public void streamElements(Blackhole blackhole) {
+        XmlElementStreamReader reader = new XmlElementStreamReader(new StringReader(payload), "catalog",
+                "{http://ballerina.io/jmh}book");
+        BXml element;
+        while ((element = reader.next()) != null) {
+            blackhole.consume(element);
+        }
+        reader.close();
+    }
+}
@@ -66,7 +66,6 @@ public class JvmConstants {
     public static final String TYPEDESC_VALUE = "io/ballerina/runtime/internal/values/TypedescValue";
     public static final String HANDLE_VALUE = "io/ballerina/runtime/internal/values/HandleValue";
     public static final String LOCK_VALUE = "io/ballerina/runtime/internal/BLock";
-    public static final String LOCK_STORE = "io/ballerina/runtime/internal/BLockStore";
     public static final String FUNCTION_POINTER = "io/ballerina/runtime/internal/values/FPValue";
     public static final String ARRAY_VALUE_IMPL = "io/ballerina/runtime/internal/values/ArrayValueImpl";
     public static final String TUPLE_VALUE_IMPL = "io/ballerina/runtime/internal/values/TupleValueImpl";
@@ -294,9 +293,8 @@ public class JvmConstants {
     public static final String POPULATE_INITIAL_VALUES_METHOD = "populateInitialValues";
     public static final String CREATE_TYPES_METHOD = "$createTypes";
     public static final String CREATE_TYPE_INSTANCES_METHOD = "$createTypeInstances";
-    public static final String GLOBAL_LOCK_NAME = "lock";
+    public static final String GLOBAL_LOCK_NAME = "$lock";
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
-    public static final String LOCK_STORE_VAR_NAME = "$LOCK_STORE";
     public static final String RECORD_INIT_WRAPPER_NAME = "$init";
     public static final String LISTENER_REGISTRY_VARIABLE = "$listenerRegistry";
     public static final String CONFIGURE_INIT = "$configureInit";
@@ -322,6 +320,8 @@ public class JvmConstants {
     public static final String STRAND_VALUE_ANY = "any";
     public static final String STRAND_METADATA_VAR_PREFIX = "$strand_metadata$";
     public static final String DEFAULT_STRAND_DISPATCHER = "DEFAULT";
+    public static final String STRAND_PUSH_FRAME_METHOD = "pushFrame";
+    public static final String STRAND_POP_FRAME_METHOD = "popFrame";
 
     // observability related constants
     public static final String OBSERVE_UTILS = "io/ballerina/runtime/observability/ObserveUtils";
@@ -29,6 +29,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.interop.JInsKind;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JInstruction;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JType;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JTypeTags;
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
@@ -40,15 +41,20 @@ import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
@@ -69,6 +75,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -115,6 +122,7 @@ import static org.objectweb.asm.Opcodes.LSTORE;
 import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.getTargetClass;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
@@ -145,6 +153,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAPPING_I
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAPPING_INITIAL_SPREAD_FIELD_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MATH_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
@@ -191,6 +200,9 @@ public class JvmInstructionGen {
     private final JvmBStringConstantsGen stringConstantsGen;
     private final SymbolTable symbolTable;
     private final AsyncDataCollector asyncDataCollector;
+    // string constants loaded to variables in the current basic block, which are used to find the field names of
+    // field accesses
+    private final Map<BIRNode.BIRVariableDcl, String> stringConstants = new HashMap<>();
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
@@ -1207,9 +1219,17 @@ public class JvmInstructionGen {
     }
 
     void generateMapStoreIns(BIRNonTerminator.FieldAccess mapStoreIns) {
+        BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
+        Label endLabel = null;
+        if (varRefType.tag == TypeTags.RECORD && !mapStoreIns.onInitialization) {
+            BField field = getDirectlyAccessibleField(varRefType, mapStoreIns.keyOp);
+            if (field != null && !Symbols.isFlagOn(field.symbol.flags, Flags.READONLY)) {
+                endLabel = generateDirectFieldStore(mapStoreIns, field, true);
+            }
+        }
+
         // visit map_ref
         this.loadVar(mapStoreIns.lhsOp.variableDcl);
-        BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
 
         // visit key_expr
         this.loadVar(mapStoreIns.keyOp.variableDcl);
@@ -1231,12 +1251,24 @@ public class JvmInstructionGen {
                                              MAP_VALUE, JvmConstants.B_STRING_VALUE, OBJECT);
             this.mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleMapStore", signature, false);
         }
+
+        if (endLabel != null) {
+            this.mv.visitLabel(endLabel);
+        }
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+        BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
+        Label endLabel = null;
+        if (varRefType.tag == TypeTags.RECORD && !mapLoadIns.fillingRead) {
+            BField field = getDirectlyAccessibleField(varRefType, mapLoadIns.keyOp);
+            if (field != null) {
+                endLabel = generateDirectFieldLoad(mapLoadIns, field);
+            }
+        }
+
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
-        BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, varRefType);
 
         // visit key_expr
@@ -1268,9 +1300,19 @@ public class JvmInstructionGen {
         BType targetType = mapLoadIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, targetType);
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+
+        if (endLabel != null) {
+            this.mv.visitLabel(endLabel);
+        }
     }
 
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
+        Label endLabel = null;
+        BField field = getDirectlyAccessibleField(objectLoadIns.rhsOp.variableDcl.type, objectLoadIns.keyOp);
+        if (field != null) {
+            endLabel = generateDirectFieldLoad(objectLoadIns, field);
+        }
+
         // visit object_ref
         this.loadVar(objectLoadIns.rhsOp.variableDcl);
 
@@ -1285,9 +1327,24 @@ public class JvmInstructionGen {
 
         // store in the target reg
         this.storeToVar(objectLoadIns.lhsOp.variableDcl);
+
+        if (endLabel != null) {
+            this.mv.visitLabel(endLabel);
+        }
     }
 
     void generateObjectStoreIns(BIRNonTerminator.FieldAccess objectStoreIns) {
+        BType objectType = objectStoreIns.lhsOp.variableDcl.type;
+        Label endLabel = null;
+        if (!objectStoreIns.onInitialization && !Symbols.isFlagOn(objectType.flags, Flags.READONLY)) {
+            // the type of an instance of a class is the type of the class, so the checks done by `set` on the
+            // type of the value are already done by the compiler
+            BField field = getDirectlyAccessibleField(objectType, objectStoreIns.keyOp);
+            if (field != null && !Symbols.isFlagOn(field.symbol.flags, Flags.FINAL)) {
+                endLabel = generateDirectFieldStore(objectStoreIns, field, false);
+            }
+        }
+
         // visit object_ref
         this.loadVar(objectStoreIns.lhsOp.variableDcl);
 
@@ -1301,7 +1358,6 @@ public class JvmInstructionGen {
 
         // invoke set() method
         if (objectStoreIns.onInitialization) {
-            BObjectType objectType = (BObjectType) objectStoreIns.lhsOp.variableDcl.type;
             this.mv.visitMethodInsn(INVOKESPECIAL,
                                     getTypeValueClassName(JvmCodeGenUtil.getPackageName(objectType.tsymbol.pkgID),
                                                           toNameString(objectType)), "setOnInitialization",
@@ -1311,6 +1367,122 @@ public class JvmInstructionGen {
 
         this.mv.visitMethodInsn(INVOKEINTERFACE, B_OBJECT, "set",
                                 String.format("(L%s;L%s;)V", JvmConstants.B_STRING_VALUE, OBJECT), true);
+
+        if (endLabel != null) {
+            this.mv.visitLabel(endLabel);
+        }
+    }
+
+    /**
+     * Returns the field accessed by a field access instruction, if the field can be read from and written to the Java
+     * field generated for it in the value class of a record type or class of this module, instead of going through
+     * the `get` and `put` methods, which look up the field by name. This requires the key to be a string constant
+     * loaded in the same basic block. Optional record fields are excluded, since they are not always present.
+     *
+     * @param type  static type of the record or object
+     * @param keyOp key operand of the field access
+     * @return the accessed field, or null if the field cannot be accessed directly
+     */
+    private BField getDirectlyAccessibleField(BType type, BIROperand keyOp) {
+        if (jvmPackageGen.lookupValueClassTypeDef(type) == null) {
+            return null;
+        }
+        String fieldName = stringConstants.get(keyOp.variableDcl);
+        if (fieldName == null) {
+            return null;
+        }
+        for (BField field : ((BStructureType) type).fields.values()) {
+            if (field == null || !fieldName.equals(IdentifierUtils.decodeIdentifier(field.name.value))) {
+                continue;
+            }
+            if (type.tag == TypeTags.RECORD && Symbols.isFlagOn(field.symbol.flags, Flags.OPTIONAL)) {
+                return null;
+            }
+            return field;
+        }
+        return null;
+    }
+
+    private String getValueClassName(BType type) {
+        BIRNode.BIRTypeDefinition typeDef = jvmPackageGen.lookupValueClassTypeDef(type);
+        return getTypeValueClassName(currentPackageName, typeDef.internalName.value);
+    }
+
+    /**
+     * Generates a read of the Java field of a record or object field, when the value is an instance of the value
+     * class of its static type. The generic load, which is generated after this, is used for other values.
+     *
+     * @param loadIns field load instruction
+     * @param field   the accessed field
+     * @return the label to be visited after the generic load
+     */
+    private Label generateDirectFieldLoad(BIRNonTerminator.FieldAccess loadIns, BField field) {
+        BIRNode.BIRVariableDcl valueVar = loadIns.rhsOp.variableDcl;
+        String className = getValueClassName(valueVar.type);
+        Label genericLoadLabel = new Label();
+        Label endLabel = new Label();
+
+        this.loadVar(valueVar);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericLoadLabel);
+
+        this.loadVar(valueVar);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitFieldInsn(GETFIELD, className, field.name.value, getTypeDesc(field.type));
+        this.addFieldValueConversion(field.type, loadIns.lhsOp.variableDcl.type);
+        this.storeToVar(loadIns.lhsOp.variableDcl);
+        this.mv.visitJumpInsn(GOTO, endLabel);
+
+        this.mv.visitLabel(genericLoadLabel);
+        return endLabel;
+    }
+
+    /**
+     * Generates a write to the Java field of a record or object field, when the value is an instance of the value
+     * class of its static type. The generic store, which is generated after this, is used for other values, and for
+     * read-only records if {@code checkReadOnly} is set, so that it reports the error.
+     *
+     * @param storeIns      field store instruction
+     * @param field         the accessed field
+     * @param checkReadOnly whether the type of the value needs to be checked for read-only
+     * @return the label to be visited after the generic store
+     */
+    private Label generateDirectFieldStore(BIRNonTerminator.FieldAccess storeIns, BField field,
+                                           boolean checkReadOnly) {
+        BIRNode.BIRVariableDcl valueVar = storeIns.lhsOp.variableDcl;
+        String className = getValueClassName(valueVar.type);
+        Label genericStoreLabel = new Label();
+        Label endLabel = new Label();
+
+        this.loadVar(valueVar);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericStoreLabel);
+
+        if (checkReadOnly) {
+            this.loadVar(valueVar);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, MAP_VALUE_IMPL, "getType", String.format("()L%s;", TYPE), false);
+            this.mv.visitMethodInsn(INVOKEINTERFACE, TYPE, "isReadOnly", "()Z", true);
+            this.mv.visitJumpInsn(IFNE, genericStoreLabel);
+        }
+
+        this.loadVar(valueVar);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.loadVar(storeIns.rhsOp.variableDcl);
+        this.addFieldValueConversion(storeIns.rhsOp.variableDcl.type, field.type);
+        this.mv.visitFieldInsn(PUTFIELD, className, field.name.value, getTypeDesc(field.type));
+        this.mv.visitJumpInsn(GOTO, endLabel);
+
+        this.mv.visitLabel(genericStoreLabel);
+        return endLabel;
+    }
+
+    private void addFieldValueConversion(BType sourceType, BType targetType) {
+        if (getTypeDesc(sourceType).equals(getTypeDesc(targetType))) {
+            return;
+        }
+        jvmCastGen.addBoxInsn(this.mv, sourceType);
+        jvmCastGen.addUnboxInsn(this.mv, targetType);
     }
 
     void generateStringLoadIns(BIRNonTerminator.FieldAccess stringLoadIns) {
@@ -1931,6 +2103,16 @@ public class JvmInstructionGen {
 
         JvmCodeGenUtil.loadConstantValue(loadIns.type, loadIns.value, this.mv, stringConstantsGen);
         this.storeToVar(loadIns.lhsOp.variableDcl);
+        if (TypeTags.isStringTypeTag(loadIns.type.tag)) {
+            stringConstants.put(loadIns.lhsOp.variableDcl, String.valueOf(loadIns.value));
+        }
+    }
+
+    /**
+     * Forgets the string constants loaded to variables, since they are only tracked within a basic block.
+     */
+    void startBasicBlock() {
+        stringConstants.clear();
     }
 
     private void loadListInitialValues(BIRNonTerminator.NewArray arrayNewIns) {
@@ -1961,6 +2143,9 @@ public class JvmInstructionGen {
     }
 
     void generateInstructions(int localVarOffset, BIRInstruction inst) {
+        if (inst instanceof BIRAbstractInstruction && ((BIRAbstractInstruction) inst).lhsOp != null) {
+            stringConstants.remove(((BIRAbstractInstruction) inst).lhsOp.variableDcl);
+        }
         if (inst instanceof BIRNonTerminator.BinaryOp) {
             generateBinaryOpIns((BIRNonTerminator.BinaryOp) inst);
         } else {
@@ -49,6 +49,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewInstance;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
@@ -73,6 +74,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -95,9 +97,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameS
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BALLERINA;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CURRENT_MODULE_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ENCODED_DOT_CHARACTER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE_VAR_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STARTED;
@@ -132,6 +134,7 @@ public class JvmPackageGen {
     private final Map<String, String> externClassMap;
     private final Map<String, String> globalVarClassMap;
     private final Set<PackageID> dependentModules;
+    private final Map<BType, BIRTypeDefinition> valueClassTypeDefs;
     private final BLangDiagnosticLog dlog;
 
     JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog) {
@@ -139,6 +142,7 @@ public class JvmPackageGen {
         globalVarClassMap = new HashMap<>();
         externClassMap = new HashMap<>();
         dependentModules = new LinkedHashSet<>();
+        valueClassTypeDefs = new HashMap<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
@@ -228,12 +232,40 @@ public class JvmPackageGen {
         fv.visitEnd();
     }
 
-    private static void generateLockForVariable(ClassWriter cw) {
+    private static void generateLockForVariable(ClassWriter cw, BIRPackage birPackage) {
 
-        String lockStoreClass = "L" + LOCK_STORE + ";";
-        FieldVisitor fv;
-        fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, LOCK_STORE_VAR_NAME, lockStoreClass, null, null);
-        fv.visitEnd();
+        String lockClass = "L" + LOCK_VALUE + ";";
+        for (Integer lockId : getLockIds(birPackage)) {
+            FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, GLOBAL_LOCK_NAME + lockId, lockClass,
+                                            null, null);
+            fv.visitEnd();
+        }
+    }
+
+    private static Set<Integer> getLockIds(BIRPackage birPackage) {
+
+        Set<Integer> lockIds = new TreeSet<>();
+        for (BIRFunction func : birPackage.functions) {
+            addLockIds(func, lockIds);
+        }
+        for (BIRTypeDefinition typeDef : birPackage.typeDefs) {
+            for (BIRFunction func : typeDef.attachedFuncs) {
+                addLockIds(func, lockIds);
+            }
+        }
+        return lockIds;
+    }
+
+    private static void addLockIds(BIRFunction func, Set<Integer> lockIds) {
+
+        if (func == null) {
+            return;
+        }
+        for (BIRNode.BIRBasicBlock basicBlock : func.basicBlocks) {
+            if (basicBlock.terminator instanceof BIRTerminator.Lock) {
+                lockIds.add(((BIRTerminator.Lock) basicBlock.terminator).lockId);
+            }
+        }
     }
 
     private static void generateStaticInitializer(ClassWriter cw, String className, BIRPackage birPackage,
@@ -246,7 +278,7 @@ public class JvmPackageGen {
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
         if (isInitClass) {
             setConstantFields(mv, birPackage, className, stringConstantsGen);
-            setLockStoreField(mv, className);
+            setLockFields(mv, className, birPackage);
             setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
             setModuleStatusField(cw, mv, className);
             setCurrentModuleField(cw, mv, birPackage.packageID, className);
@@ -276,12 +308,14 @@ public class JvmPackageGen {
         }
     }
 
-    private static void setLockStoreField(MethodVisitor mv, String className) {
-        String lockStoreClass = "L" + LOCK_STORE + ";";
-        mv.visitTypeInsn(NEW, LOCK_STORE);
-        mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, JVM_INIT_METHOD, "()V", false);
-        mv.visitFieldInsn(PUTSTATIC, className, LOCK_STORE_VAR_NAME, lockStoreClass);
+    private static void setLockFields(MethodVisitor mv, String className, BIRPackage birPackage) {
+        String lockClass = "L" + LOCK_VALUE + ";";
+        for (Integer lockId : getLockIds(birPackage)) {
+            mv.visitTypeInsn(NEW, LOCK_VALUE);
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, LOCK_VALUE, JVM_INIT_METHOD, "()V", false);
+            mv.visitFieldInsn(PUTSTATIC, className, GLOBAL_LOCK_NAME + lockId, lockClass);
+        }
     }
 
     private static void setServiceEPAvailableField(ClassWriter cw, MethodVisitor mv, boolean serviceEPAvailable,
@@ -445,7 +479,7 @@ public class JvmPackageGen {
                 }
                 initMethodGen.generateLambdaForPackageInits(cw, module, moduleClass, moduleImports, jvmCastGen);
 
-                generateLockForVariable(cw);
+                generateLockForVariable(cw, module);
                 jvmTypeGen.generateCreateTypesMethod(cw, module.typeDefs, moduleInitClass, symbolTable);
                 initMethodGen.generateModuleInitializer(cw, module, moduleInitClass);
                 ModuleStopMethodGen moduleStopMethodGen = new ModuleStopMethodGen(symbolTable, jvmTypeGen);
@@ -526,7 +560,7 @@ public class JvmPackageGen {
             }
         }
 
-        globalVarClassMap.put(pkgName + LOCK_STORE_VAR_NAME, initClass);
+        globalVarClassMap.put(pkgName + GLOBAL_LOCK_NAME, initClass);
     }
 
 
@@ -695,12 +729,25 @@ public class JvmPackageGen {
         globalVarClassMap.clear();
         externClassMap.clear();
         dependentModules.clear();
+        valueClassTypeDefs.clear();
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
         return this.birFunctionMap.get(lookupKey);
     }
 
+    /**
+     * Returns the type definition of a record type or class of the module being generated, given its type. Value
+     * classes with a Java field for each field are generated for these types, which allows generated code to access
+     * the fields directly.
+     *
+     * @param type record or object type
+     * @return the type definition, or null if no value class is generated for the type in this module
+     */
+    public BIRTypeDefinition lookupValueClassTypeDef(BType type) {
+        return this.valueClassTypeDefs.get(type);
+    }
+
     void addExternClassMapping(String key, String value) {
 
         this.externClassMap.put(key, value);
@@ -793,6 +840,15 @@ public class JvmPackageGen {
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
 
+        // record the types which have value classes, so that their fields can be accessed directly
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            BType bType = typeDef.type;
+            if (bType.tag == TypeTags.RECORD ||
+                    (bType.tag == TypeTags.OBJECT && Symbols.isFlagOn(bType.tsymbol.flags, Flags.CLASS))) {
+                valueClassTypeDefs.put(bType, typeDef);
+            }
+        }
+
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen);
         valueGen.generateValueClasses(jarEntries, stringConstantsGen);
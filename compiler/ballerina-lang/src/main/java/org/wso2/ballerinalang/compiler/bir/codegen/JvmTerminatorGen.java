@@ -79,6 +79,7 @@ import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -117,8 +118,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.IS_BLOCKED_ON_EXTERN_FIELD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
@@ -148,6 +147,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WD_CHANNE
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_DATA_CHANNEL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmInstructionGen.addJUnboxInsn;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodGen.genVarArg;
 
 /**
@@ -294,7 +294,7 @@ public class JvmTerminatorGen {
                 this.genLockTerm((BIRTerminator.Lock) terminator, funcName, localVarOffset);
                 return;
             case UNLOCK:
-                this.genUnlockTerm((BIRTerminator.Unlock) terminator, funcName);
+                this.genUnlockTerm((BIRTerminator.Unlock) terminator, funcName, localVarOffset);
                 return;
             case GOTO:
                 this.genGoToTerm((BIRTerminator.GOTO) terminator, funcName);
@@ -361,37 +361,41 @@ public class JvmTerminatorGen {
     private void genLockTerm(BIRTerminator.Lock lockIns, String funcName, int localVarOffset) {
 
         Label gotoLabel = this.labelGen.getLabel(funcName + lockIns.lockedBB.id.value);
-        String lockStore = "L" + LOCK_STORE + ";";
-        String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, LOCK_STORE_VAR_NAME);
-        String lockName = GLOBAL_LOCK_NAME + lockIns.lockId;
-        this.mv.visitFieldInsn(GETSTATIC, initClassName, LOCK_STORE_VAR_NAME, lockStore);
-        this.mv.visitLdcInsn(lockName);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap",
-                String.format("(L%s;)L%s;", STRING_VALUE, LOCK_VALUE), false);
+        this.loadLock(lockIns);
         this.mv.visitVarInsn(ALOAD, localVarOffset);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "lock", String.format("(L%s;)Z", STRAND_CLASS), false);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, lockIns.readOnly ? "lockShared" : "lock",
+                String.format("(L%s;)Z", STRAND_CLASS), false);
         this.mv.visitInsn(POP);
         genYieldCheckForLock(this.mv, this.labelGen, funcName, localVarOffset);
         this.mv.visitJumpInsn(GOTO, gotoLabel);
     }
 
-    private void genUnlockTerm(BIRTerminator.Unlock unlockIns, String funcName) {
+    private void genUnlockTerm(BIRTerminator.Unlock unlockIns, String funcName, int localVarOffset) {
 
         Label gotoLabel = this.labelGen.getLabel(funcName + unlockIns.unlockBB.id.value);
 
         // unlocked in the same order https://yarchive.net/comp/linux/lock_ordering.html
-        String lockStore = "L" + LOCK_STORE + ";";
-        String lockName = GLOBAL_LOCK_NAME + unlockIns.relatedLock.lockId;
-        String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, LOCK_STORE_VAR_NAME);
-        this.mv.visitFieldInsn(GETSTATIC, initClassName, LOCK_STORE_VAR_NAME, lockStore);
-        this.mv.visitLdcInsn(lockName);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap", String.format("(L%s;)L%s;",
-                STRING_VALUE, LOCK_VALUE), false);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "unlock", "()V", false);
+        this.loadLock(unlockIns.relatedLock);
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, unlockIns.relatedLock.readOnly ? "unlockShared" : "unlock",
+                String.format("(L%s;)V", STRAND_CLASS), false);
 
         this.mv.visitJumpInsn(GOTO, gotoLabel);
     }
 
+    private void loadLock(BIRTerminator.Lock lockIns) {
+
+        String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, GLOBAL_LOCK_NAME);
+        this.mv.visitFieldInsn(GETSTATIC, initClassName, GLOBAL_LOCK_NAME + lockIns.lockId, "L" + LOCK_VALUE + ";");
+    }
+
+    private void genPanicIfInLock(int localVarOffset) {
+
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        this.mv.visitMethodInsn(INVOKESTATIC, LOCK_VALUE, "panicIfInLock", String.format("(L%s;)V", STRAND_CLASS),
+                false);
+    }
+
     private void handleErrorRetInUnion(int returnVarRefIndex, List<BIRNode.ChannelDetails> channels, BUnionType bType) {
 
         if (channels.size() == 0) {
@@ -775,8 +779,13 @@ public class JvmTerminatorGen {
     }
 
     private void genVirtualCall(BIRTerminator.Call callIns, boolean isBuiltInModule, int localVarOffset) {
-        // load self
         BIRNode.BIRVariableDcl selfArg = callIns.args.get(0).variableDcl;
+        Label endLabel = null;
+        if (!isBuiltInModule) {
+            endLabel = this.genDirectMethodCall(callIns, localVarOffset);
+        }
+
+        // load self
         this.loadVar(selfArg);
         this.mv.visitTypeInsn(CHECKCAST, B_OBJECT);
 
@@ -826,6 +835,75 @@ public class JvmTerminatorGen {
 
         BType returnType = callIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, returnType);
+
+        if (endLabel != null) {
+            this.mv.visitLabel(endLabel);
+        }
+    }
+
+    /**
+     * Generates a direct invocation of the method of a class of this module, when the object is an instance of the
+     * class. This avoids the `call` method, which looks up the method by name and boxes the arguments into an array.
+     * The generic call, which is generated after this, is used for other objects.
+     *
+     * @param callIns        method call instruction
+     * @param localVarOffset index of the strand
+     * @return the label to be visited after the generic call, or null if the method cannot be invoked directly
+     */
+    private Label genDirectMethodCall(BIRTerminator.Call callIns, int localVarOffset) {
+        BIRNode.BIRVariableDcl selfArg = callIns.args.get(0).variableDcl;
+        BIRNode.BIRTypeDefinition typeDef = jvmPackageGen.lookupValueClassTypeDef(selfArg.type);
+        if (typeDef == null || typeDef.attachedFuncs == null) {
+            return null;
+        }
+        String methodName = JvmCodeGenUtil.rewriteVirtualCallTypeName(callIns.name.value);
+        BIRNode.BIRFunction method = null;
+        for (BIRNode.BIRFunction func : typeDef.attachedFuncs) {
+            if (func != null && func.name.value.equals(methodName)) {
+                method = func;
+                break;
+            }
+        }
+        // the parameters of the method are followed by the 'isExist' boolean parameters at this point
+        int argsCount = callIns.args.size() - 1;
+        if (method == null || JvmCodeGenUtil.isExternFunc(method) || method.type.paramTypes.size() != argsCount * 2) {
+            return null;
+        }
+
+        String className = getTypeValueClassName(currentPackageName, typeDef.internalName.value);
+        Label genericCallLabel = new Label();
+        Label endLabel = new Label();
+        this.loadVar(selfArg);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericCallLabel);
+
+        this.loadVar(selfArg);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        List<BType> paramTypes = method.type.paramTypes;
+        for (int i = 0; i < argsCount; i++) {
+            BIRArgument arg = callIns.args.get(i + 1);
+            BType argType = arg.variableDcl.type;
+            BType paramType = paramTypes.get(i * 2);
+            this.loadArgument(arg);
+            if (!JvmCodeGenUtil.getArgTypeSignature(argType).equals(
+                    JvmCodeGenUtil.getArgTypeSignature(paramType))) {
+                jvmCastGen.addBoxInsn(this.mv, argType);
+                jvmCastGen.addUnboxInsn(this.mv, paramType);
+            }
+            this.loadStateOfArgument(arg, false);
+        }
+        BType retType = method.type.retType;
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, className, method.name.value,
+                                JvmCodeGenUtil.getMethodDesc(paramTypes, retType), false);
+
+        // convert the return value the same way as it is converted by the generic call
+        jvmCastGen.addBoxInsn(this.mv, retType);
+        jvmCastGen.addUnboxInsn(this.mv, callIns.lhsOp.variableDcl.type);
+        this.mv.visitJumpInsn(GOTO, endLabel);
+
+        this.mv.visitLabel(genericCallLabel);
+        return endLabel;
     }
 
     private void loadStateOfArgument(BIRArgument arg, boolean isBuiltInModule) {
@@ -869,13 +947,7 @@ public class JvmTerminatorGen {
         String moduleName = calleePkgId.name.value;
 
         // Check if already locked before submitting to scheduler.
-        String lockStore = "L" + LOCK_STORE + ";";
-        String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, LOCK_STORE_VAR_NAME);
-        this.mv.visitFieldInsn(GETSTATIC, initClassName, LOCK_STORE_VAR_NAME, lockStore);
-        this.mv.visitLdcInsn(GLOBAL_LOCK_NAME);
-        this.mv.visitVarInsn(ALOAD, localVarOffset);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "panicIfInLock",
-                                String.format("(L%s;L%s;)V", STRING_VALUE, STRAND_CLASS), false);
+        this.genPanicIfInLock(localVarOffset);
 
         // Load the scheduler from strand
         this.mv.visitVarInsn(ALOAD, localVarOffset);
@@ -1049,13 +1121,7 @@ public class JvmTerminatorGen {
 
         if (fpCall.isAsync) {
             // Check if already locked before submitting to scheduler.
-            String lockStore = "L" + LOCK_STORE + ";";
-            String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, LOCK_STORE_VAR_NAME);
-            this.mv.visitFieldInsn(GETSTATIC, initClassName, LOCK_STORE_VAR_NAME, lockStore);
-            this.mv.visitLdcInsn(GLOBAL_LOCK_NAME);
-            this.mv.visitVarInsn(ALOAD, localVarOffset);
-            this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "panicIfInLock",
-                                    String.format("(L%s;L%s;)V", STRING_VALUE, STRAND_CLASS), false);
+            this.genPanicIfInLock(localVarOffset);
 
             // Load the scheduler from strand
             this.mv.visitVarInsn(ALOAD, localVarOffset);
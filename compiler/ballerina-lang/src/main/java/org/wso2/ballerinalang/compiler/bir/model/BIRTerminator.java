@@ -316,6 +316,9 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        // true if the locked basic blocks only read values, so the lock can be shared with other readers
+        public boolean readOnly = false;
+
         public Lock(Location pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
@@ -19,11 +19,19 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +44,21 @@ import java.util.Set;
  */
 public class BIRLockOptimizer extends BIRVisitor {
 
+    // Instructions that do not update any value, allowed within a lock that is acquired in shared mode.
+    private static final Set<InstructionKind> READ_ONLY_INSTRUCTIONS = EnumSet.of(
+            InstructionKind.MOVE, InstructionKind.CONST_LOAD, InstructionKind.STRING_LOAD,
+            InstructionKind.MAP_LOAD, InstructionKind.ARRAY_LOAD, InstructionKind.OBJECT_LOAD,
+            InstructionKind.TABLE_LOAD, InstructionKind.XML_LOAD, InstructionKind.XML_LOAD_ALL,
+            InstructionKind.XML_SEQ_LOAD, InstructionKind.XML_ATTRIBUTE_LOAD,
+            InstructionKind.TYPE_CAST, InstructionKind.IS_LIKE, InstructionKind.TYPE_TEST, InstructionKind.TYPEOF,
+            InstructionKind.ADD, InstructionKind.SUB, InstructionKind.MUL, InstructionKind.DIV, InstructionKind.MOD,
+            InstructionKind.EQUAL, InstructionKind.NOT_EQUAL, InstructionKind.GREATER_THAN,
+            InstructionKind.GREATER_EQUAL, InstructionKind.LESS_THAN, InstructionKind.LESS_EQUAL,
+            InstructionKind.AND, InstructionKind.OR, InstructionKind.REF_EQUAL, InstructionKind.REF_NOT_EQUAL,
+            InstructionKind.NOT, InstructionKind.NEGATE, InstructionKind.BITWISE_AND, InstructionKind.BITWISE_OR,
+            InstructionKind.BITWISE_XOR, InstructionKind.BITWISE_LEFT_SHIFT, InstructionKind.BITWISE_RIGHT_SHIFT,
+            InstructionKind.BITWISE_UNSIGNED_RIGHT_SHIFT);
+
     private final List<BIRTerminator.Lock> lockList = new ArrayList<>();
     private final Map<BIRTerminator.Lock, Integer> lockToSetMap = new HashMap<>();
     private final Map<Integer, List<BIRTerminator.Lock>> setToLockMap = new HashMap<>();
@@ -206,6 +229,62 @@ public class BIRLockOptimizer extends BIRVisitor {
     @Override
     public void visit(BIRTerminator.Lock lock) {
         lockList.add(lock);
+        lock.readOnly = isReadOnlyLock(lock);
+    }
+
+    /**
+     * Checks whether the basic blocks guarded by the given lock only read values. Such a lock must not contain
+     * any calls, nested locks or updates to module level variables or to the fields and members of any value.
+     *
+     * @param lock lock terminator
+     * @return true if the lock can be acquired in shared mode
+     */
+    private boolean isReadOnlyLock(BIRTerminator.Lock lock) {
+        Set<BIRNode.BIRBasicBlock> visited = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> pending = new ArrayDeque<>();
+        pending.push(lock.lockedBB);
+        while (!pending.isEmpty()) {
+            BIRNode.BIRBasicBlock basicBlock = pending.pop();
+            if (!visited.add(basicBlock)) {
+                continue;
+            }
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isReadOnlyInstruction(instruction)) {
+                    return false;
+                }
+            }
+
+            BIRTerminator terminator = basicBlock.terminator;
+            switch (terminator.kind) {
+                case UNLOCK:
+                    if (((BIRTerminator.Unlock) terminator).relatedLock != lock) {
+                        return false;
+                    }
+                    break;
+                case GOTO:
+                case BRANCH:
+                    for (BIRNode.BIRBasicBlock next : terminator.getNextBasicBlocks()) {
+                        pending.push(next);
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isReadOnlyInstruction(BIRNonTerminator instruction) {
+        if (!READ_ONLY_INSTRUCTIONS.contains(instruction.kind)) {
+            return false;
+        }
+        if (instruction instanceof BIRNonTerminator.FieldAccess &&
+                ((BIRNonTerminator.FieldAccess) instruction).fillingRead) {
+            // a filling read adds the filler value to the container
+            return false;
+        }
+        BIROperand lhsOp = instruction.lhsOp;
+        return lhsOp == null || lhsOp.variableDcl.scope != VarScope.GLOBAL;
     }
 
     @Override
@@ -19,8 +19,11 @@ package org.wso2.ballerinalang.compiler.desugar;
 import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
+import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
+import org.ballerinalang.model.tree.expressions.LiteralNode;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -29,11 +32,13 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolResolver;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BConstantSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
@@ -47,6 +52,7 @@ import org.wso2.ballerinalang.compiler.tree.BLangErrorVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangFunction;
 import org.wso2.ballerinalang.compiler.tree.BLangFunctionBody;
 import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
+import org.wso2.ballerinalang.compiler.tree.BLangInvokableNode;
 import org.wso2.ballerinalang.compiler.tree.BLangMarkdownReferenceDocumentation;
 import org.wso2.ballerinalang.compiler.tree.BLangNode;
 import org.wso2.ballerinalang.compiler.tree.BLangNodeVisitor;
@@ -175,6 +181,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -198,11 +205,15 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
     private static final Name QUERY_CREATE_INNER_JOIN_FUNCTION = new Name("createInnerJoinFunction");
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION = new Name("createIndexedInnerJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_OUTER_JOIN_FUNCTION = new Name("createIndexedOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
+    private static final Name QUERY_CREATE_INDEXED_FILTER_FUNCTION = new Name("createIndexedFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
+    private static final Name QUERY_CREATE_CONSTANT_LIMIT_FUNCTION = new Name("createConstantLimitFunction");
     private static final Name QUERY_ADD_STREAM_FUNCTION = new Name("addStreamFunction");
     private static final Name QUERY_CONSUME_STREAM_FUNCTION = new Name("consumeStream");
     private static final Name QUERY_TO_ARRAY_FUNCTION = new Name("toArray");
@@ -366,7 +377,9 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, letFunc);
                     break;
                 case WHERE:
-                    BLangVariableReference whereFunc = addWhereFunction(block, (BLangWhereClause) clause);
+                    // Only a `where` clause right after the first `from` clause can select the input members
+                    BLangVariableReference whereFunc = addWhereFunction(block, (BLangWhereClause) clause,
+                            clause == clauses.get(1) ? initFromClause : null);
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
@@ -452,6 +465,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         Location pos = inputClause.pos;
         // function(_Frame frame) returns _Frame|error? { return frame; }
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
+        markIsolatedInIsolatedFunction(lambda);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
         BVarSymbol frameSymbol = lambda.function.requiredParams.get(0).symbol;
 
@@ -523,15 +537,28 @@ public class QueryDesugar extends BLangNodeVisitor {
                                            BLangVariableReference joinPipeline) {
         BLangExpression lhsExpr = (BLangExpression) joinClause.onClause.getLeftExpression();
         BLangExpression rhsExpr = (BLangExpression) joinClause.onClause.getRightExpression();
+        // `equals r.f`, where `r` is a member of a table, can be matched using an index on field `f` of the table
+        BLangLiteral rhsIndexedField = isTableMemberField(rhsExpr, joinClause) ?
+                ASTBuilderUtil.createLiteral(rhsExpr.pos, symTable.stringType,
+                        ((BLangFieldBasedAccess) rhsExpr).field.value) : null;
         BLangLambdaFunction lhsKeyFunction = createKeyFunction(lhsExpr);
         BLangLambdaFunction rhsKeyFunction = createKeyFunction(rhsExpr);
         if (joinClause.isOuterJoin) {
             List<BVarSymbol> symbols =
                     getIntroducedSymbols((BLangVariable) joinClause.variableDefinitionNode.getVariable());
             final BLangSimpleVarRef nilFrame = defineNilFrameForType(symbols, blockStmt, rhsExpr.pos);
+            if (rhsIndexedField != null) {
+                return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_OUTER_JOIN_FUNCTION,
+                        Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame, rhsIndexedField),
+                        joinClause.pos);
+            }
             return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_OUTER_JOIN_FUNCTION,
                     Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame), joinClause.pos);
         } else {
+            if (rhsIndexedField != null) {
+                return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION,
+                        Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction, rhsIndexedField), joinClause.pos);
+            }
             return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INNER_JOIN_FUNCTION,
                     Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction), joinClause.pos);
         }
@@ -552,6 +579,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         Location pos = letClause.pos;
         // function(_Frame frame) returns _Frame|error? { return frame; }
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
+        markIsolatedInIsolatedFunction(lambda);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
         BVarSymbol frameSymbol = lambda.function.requiredParams.get(0).symbol;
 
@@ -574,23 +602,153 @@ public class QueryDesugar extends BLangNodeVisitor {
      * _StreamFunction xsFilter = createFilterFunction(function(_Frame frame) returns boolean {
      * return <int>frame["x"] > 0;
      * });
+     * If the where clause follows a from clause over a table and compares a field of the member with a literal or
+     * a variable, the filter also carries the field, a key function for the other operand and the operator, so that
+     * the members can be looked up using an index on the field.
+     * _StreamFunction xsFilter = createIndexedFilterFunction(function(_Frame frame) returns boolean {
+     * return <Person>frame["p"].id == id;
+     * }, "id", function(_Frame frame) returns any { return id; }, "==");
      *
      * @param blockStmt   parent block to write to.
      * @param whereClause to be desugared.
+     * @param fromClause  from clause over the input of the query if the where clause directly follows it.
      * @return variableReference to created filter _StreamFunction.
      */
-    BLangVariableReference addWhereFunction(BLangBlockStmt blockStmt, BLangWhereClause whereClause) {
+    BLangVariableReference addWhereFunction(BLangBlockStmt blockStmt, BLangWhereClause whereClause,
+                                            BLangFromClause fromClause) {
         Location pos = whereClause.pos;
+        List<BLangExpression> indexArgs = fromClause == null ? null : createIndexArgs(whereClause, fromClause);
         BLangLambdaFunction lambda = createFilterLambda(pos);
+        markIsolatedInIsolatedFunction(lambda);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
         BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
         returnNode.pos = pos;
         returnNode.setExpression(whereClause.expression);
         body.addStatement(returnNode);
         lambda.accept(this);
+        if (indexArgs != null) {
+            indexArgs.add(0, lambda);
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_FILTER_FUNCTION, indexArgs, pos);
+        }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_FILTER_FUNCTION, Lists.of(lambda), pos);
     }
 
+    /**
+     * Creates the field name, key function and operator arguments of createIndexedFilterFunction, if the condition
+     * of a where clause is of the form `m.f op k` or `k op m.f`, where `m` is a member of a table, `op` is one of
+     * `==`, `<`, `<=`, `>` and `>=`, and `k` is a literal, a constant or a variable which is not a query variable.
+     *
+     * @param whereClause where clause directly following the from clause.
+     * @param fromClause  from clause over the input of the query.
+     * @return arguments with the field on the left hand side of the operator, or null if an index cannot be used.
+     */
+    private List<BLangExpression> createIndexArgs(BLangWhereClause whereClause, BLangFromClause fromClause) {
+        BLangExpression condition = whereClause.expression;
+        while (condition.getKind() == NodeKind.GROUP_EXPR) {
+            condition = ((BLangGroupExpr) condition).expression;
+        }
+        if (condition.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) condition;
+        OperatorKind operator = binaryExpr.opKind;
+        BLangExpression fieldExpr = binaryExpr.lhsExpr;
+        BLangExpression keyExpr = binaryExpr.rhsExpr;
+        if (!isTableMemberField(fieldExpr, fromClause)) {
+            fieldExpr = binaryExpr.rhsExpr;
+            keyExpr = binaryExpr.lhsExpr;
+            if (!isTableMemberField(fieldExpr, fromClause)) {
+                return null;
+            }
+            // `k < m.f` is the same as `m.f > k`
+            switch (operator) {
+                case LESS_THAN:
+                    operator = OperatorKind.GREATER_THAN;
+                    break;
+                case LESS_EQUAL:
+                    operator = OperatorKind.GREATER_EQUAL;
+                    break;
+                case GREATER_THAN:
+                    operator = OperatorKind.LESS_THAN;
+                    break;
+                case GREATER_EQUAL:
+                    operator = OperatorKind.LESS_EQUAL;
+                    break;
+                default:
+                    break;
+            }
+        }
+        switch (operator) {
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                break;
+            default:
+                return null;
+        }
+
+        // The key expression is copied, since the original is desugared as part of the filter function.
+        BLangExpression keyCopy;
+        Location pos = keyExpr.pos;
+        if (keyExpr.getKind() == NodeKind.LITERAL || keyExpr.getKind() == NodeKind.NUMERIC_LITERAL ||
+                keyExpr.getKind() == NodeKind.CONSTANT_REF) {
+            // The type of a constant reference is the singleton type of its value
+            BType keyType = keyExpr.getKind() == NodeKind.CONSTANT_REF ?
+                    ((BConstantSymbol) ((BLangConstRef) keyExpr).symbol).literalType : keyExpr.getBType();
+            switch (keyType.tag) {
+                case TypeTags.INT:
+                case TypeTags.BYTE:
+                case TypeTags.FLOAT:
+                case TypeTags.DECIMAL:
+                case TypeTags.STRING:
+                case TypeTags.BOOLEAN:
+                case TypeTags.NIL:
+                    keyCopy = ASTBuilderUtil.createLiteral(pos, keyType, ((LiteralNode) keyExpr).getValue());
+                    break;
+                default:
+                    return null;
+            }
+        } else if (keyExpr.getKind() == NodeKind.SIMPLE_VARIABLE_REF &&
+                ((BLangSimpleVarRef) keyExpr).symbol instanceof BVarSymbol && isConstantInQuery(keyExpr)) {
+            keyCopy = ASTBuilderUtil.createVariableRef(pos, ((BLangSimpleVarRef) keyExpr).symbol);
+        } else {
+            return null;
+        }
+        BLangLambdaFunction keyFunction = createKeyFunction(keyCopy);
+        List<BLangExpression> args = new ArrayList<>();
+        args.add(ASTBuilderUtil.createLiteral(fieldExpr.pos, symTable.stringType,
+                ((BLangFieldBasedAccess) fieldExpr).field.value));
+        args.add(keyFunction);
+        args.add(ASTBuilderUtil.createLiteral(binaryExpr.pos, symTable.stringType, operator.value()));
+        return args;
+    }
+
+    /**
+     * Checks whether an expression is a field access of the variable of a from or join clause over a table.
+     *
+     * @param expr        expression to check.
+     * @param inputClause from or join clause.
+     * @return true if the expression is a field of the members of the input table.
+     */
+    private boolean isTableMemberField(BLangExpression expr, BLangInputClause inputClause) {
+        if (inputClause.collection.getBType().tag != TypeTags.TABLE ||
+                expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        BVarSymbol memberSymbol = getTableMemberSymbol(inputClause);
+        return memberSymbol != null && !fieldAccess.optionalFieldAccess &&
+                fieldAccess.expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF &&
+                ((BLangSimpleVarRef) fieldAccess.expr).symbol == memberSymbol;
+    }
+
+    private BVarSymbol getTableMemberSymbol(BLangInputClause inputClause) {
+        BLangVariable variable = (BLangVariable) inputClause.variableDefinitionNode.getVariable();
+        return variable.getKind() == NodeKind.VARIABLE ? ((BLangSimpleVariable) variable).symbol : null;
+    }
+
     /**
      * Desugar orderByClause to below and return a reference to created orderBy _StreamFunction.
      * _StreamFunction orderByFunc = createOrderByFunction(function(_Frame frame) {
@@ -653,6 +811,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     BLangVariableReference addSelectFunction(BLangBlockStmt blockStmt, BLangSelectClause selectClause) {
         Location pos = selectClause.pos;
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
+        markIsolatedInIsolatedFunction(lambda);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
         BVarSymbol oldFrameSymbol = lambda.function.requiredParams.get(0).symbol;
         BLangSimpleVarRef frame = ASTBuilderUtil.createVariableRef(pos, oldFrameSymbol);
@@ -694,12 +853,51 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addLimitFunction(BLangBlockStmt blockStmt, BLangLimitClause limitClause) {
         Location pos = limitClause.pos;
+        // Checked before desugaring, which rewrites the references to query variables into frame accesses.
+        Name createFunctionName = isConstantInQuery(limitClause.expression) ?
+                QUERY_CREATE_CONSTANT_LIMIT_FUNCTION : QUERY_CREATE_LIMIT_FUNCTION;
         BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
         returnNode.expr = desugar.addConversionExprIfRequired(limitClause.expression, symTable.intType);
         returnNode.pos = pos;
         BLangLambdaFunction limitFunction = createLambdaFunction(pos, getIntTypeNode(), returnNode, false);
         limitFunction.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction), pos);
+        return getStreamFunctionVariableRef(blockStmt, createFunctionName, Lists.of(limitFunction), pos);
+    }
+
+    /**
+     * Checks whether an expression of a query clause evaluates to the same value for every frame. That is the case
+     * for a literal, a constant, or a reference to a variable which is not a query variable. This has to be checked
+     * before the expression is desugared.
+     *
+     * @param expr expression of a query clause
+     * @return true if the expression is the same for every frame
+     */
+    private boolean isConstantInQuery(BLangExpression expr) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case GROUP_EXPR:
+                return isConstantInQuery(((BLangGroupExpr) expr).expression);
+            case SIMPLE_VARIABLE_REF:
+                BLangSimpleVarRef varRef = (BLangSimpleVarRef) expr;
+                BSymbol symbol = varRef.symbol;
+                if (symbol == null) {
+                    return false;
+                }
+                if ((symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+                    return true;
+                }
+                // Query variables are not visible from the enclosing environment of the query, see the visit of
+                // BLangSimpleVarRef.
+                String identifier = varRef.variableName == null ? String.valueOf(varRef.varSymbol.name) :
+                        String.valueOf(varRef.variableName);
+                return symbol == symResolver.lookupClosureVarSymbol(env, names.fromString(identifier),
+                                                                    SymTag.VARIABLE);
+            default:
+                return false;
+        }
     }
 
     /**
@@ -861,6 +1059,24 @@ public class QueryDesugar extends BLangNodeVisitor {
         return createLambdaFunction(pos, Lists.of(frameVariable), returnType, body);
     }
 
+    /**
+     * Marks the lambda of a clause isolated if the query is in an isolated function. The isolation analyzer has then
+     * already checked the expressions of the clause, hence the lambda may be called concurrently for different
+     * members of the input.
+     *
+     * @param lambda lambda of the clause.
+     */
+    private void markIsolatedInIsolatedFunction(BLangLambdaFunction lambda) {
+        BLangInvokableNode enclInvokable = env.enclInvokable;
+        if (enclInvokable == null || enclInvokable.symbol == null ||
+                !Symbols.isFlagOn(enclInvokable.symbol.flags, Flags.ISOLATED)) {
+            return;
+        }
+        lambda.function.flagSet.add(Flag.ISOLATED);
+        lambda.function.symbol.flags |= Flags.ISOLATED;
+        lambda.getBType().flags |= Flags.ISOLATED;
+    }
+
     /**
      * Creates and returns a lambda function.
      *
@@ -26,6 +26,8 @@ import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
@@ -39,50 +41,66 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public class Sort {
 
+    private static final String ASCENDING = "ascending";
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
+        String sortDirection = direction.toString();
+        boolean ascending = ASCENDING.equals(sortDirection);
+        int size = arr.size();
+        if (size == 0) {
+            return arr;
+        }
+
+        // Without a key function, int, float, byte, boolean and string members are sorted in their primitive
+        // storage without boxing them
+        if (function == null && arr instanceof ArrayValueImpl && ((ArrayValueImpl) arr).sortPrimitives(ascending)) {
+            return arr;
+        }
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                sortArr[i][1] = arr.get(i);
+            Strand strand = Scheduler.getStrand();
+            for (int i = 0; i < size; i++) {
+                keys[i] = function.call(new Object[]{strand, values[i], true});
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
-            }
+            System.arraycopy(values, 0, keys, 0, size);
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+        mergesort(keys, values, new Object[size], new Object[size], 0, size - 1, sortDirection, ascending);
 
-        for (int k = 0; k < sortArr.length; k++) {
-            arr.add(k, sortArr[k][1]);
+        for (int k = 0; k < size; k++) {
+            arr.add(k, values[k]);
         }
 
         return arr;
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
+    private static void mergesort(Object[] keys, Object[] values, Object[] auxKeys, Object[] auxValues, int lo,
+                                  int hi, String direction, boolean ascending) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+        mergesort(keys, values, auxKeys, auxValues, lo, mid, direction, ascending);
+        mergesort(keys, values, auxKeys, auxValues, mid + 1, hi, direction, ascending);
 
-        merge(input, aux, lo, mid, hi, direction);
+        merge(keys, values, auxKeys, auxValues, lo, mid, hi, direction, ascending);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
-        }
+    private static void merge(Object[] keys, Object[] values, Object[] auxKeys, Object[] auxValues, int lo, int mid,
+                              int hi, String direction, boolean ascending) {
+        System.arraycopy(keys, lo, auxKeys, lo, hi + 1 - lo);
+        System.arraycopy(values, lo, auxValues, lo, hi + 1 - lo);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
             int index;
@@ -91,16 +109,15 @@ public class Sort {
                     index = j++;
                 } else if (j > hi) {
                     index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
+                } else if (ascending && ValueComparisonUtils.compareValues(auxKeys[j], auxKeys[i], direction) < 0) {
                     index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
+                } else if (!ascending && ValueComparisonUtils.compareValues(auxKeys[i], auxKeys[j], direction) < 0) {
                     index = j++;
                 } else {
                     index = i++;
                 }
-                input[k] = aux[index];
+                keys[k] = auxKeys[index];
+                values[k] = auxValues[index];
 
             } catch (BError error) {
                 throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
@@ -53,11 +53,31 @@ function createOuterJoinFunction(
     return new _OuterJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame);
 }
 
+function createIndexedInnerJoinFunction(
+        _StreamPipeline joinedPipeline,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns any rhsKeyFunction, string rhsIndexedField) returns _StreamFunction {
+    return new _InnerJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, rhsIndexedField);
+}
+
+function createIndexedOuterJoinFunction(
+        _StreamPipeline joinedPipeline,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame,
+        string rhsIndexedField) returns _StreamFunction {
+    return new _OuterJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame, rhsIndexedField);
+}
+
 function createFilterFunction(function(_Frame _frame) returns boolean filterFunc)
         returns _StreamFunction {
     return new _FilterFunction(filterFunc);
 }
 
+function createIndexedFilterFunction(function(_Frame _frame) returns boolean filterFunc, string indexedField,
+        function(_Frame _frame) returns any indexKeyFunc, string indexOperator) returns _StreamFunction {
+    return new _FilterFunction(filterFunc, indexedField, indexKeyFunc, indexOperator);
+}
+
 function createOrderByFunction(function(_Frame _frame) orderFunc)
         returns _StreamFunction {
     return new _OrderByFunction(orderFunc);
@@ -76,6 +96,10 @@ function createLimitFunction(function (_Frame _frame) returns int limitFunction)
     return new _LimitFunction(limitFunction);
 }
 
+function createConstantLimitFunction(function (_Frame _frame) returns int limitFunction) returns _StreamFunction {
+    return new _LimitFunction(limitFunction, true);
+}
+
 function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
@@ -22,6 +22,7 @@ import ballerina/lang.'xml as lang_xml;
 import ballerina/lang.'stream as lang_stream;
 import ballerina/lang.'table as lang_table;
 import ballerina/lang.'object as lang_object;
+import ballerina/jballerina.java;
 
 # A type parameter that is a subtype of `any|error`.
 # Has the special semantic that when used in a declaration
@@ -77,6 +78,11 @@ class _StreamPipeline {
     _StreamFunction streamFunction;
     typedesc<Type> constraintTd;
     typedesc<CompletionType> completionTd;
+    typedesc<_Frame> frameTd = _Frame;
+    # Native pipeline created from the stream functions on first use.
+    handle? engine = ();
+    # Whether the clauses run over partitions of the input, if any, are yet to be run.
+    boolean partitionsPending = true;
 
     function init(
             Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type,CompletionType>|_Iterable collection,
@@ -87,22 +93,34 @@ class _StreamPipeline {
     }
 
     public isolated function next() returns _Frame|error? {
-        _StreamFunction sf = self.streamFunction;
-        var res = internal:invokeAsExternal(sf.process);
-        if (res is _Frame|error) {
-            return res;
+        if self.partitionsPending {
+            // the strand yields until the partitions are processed, instead of blocking its thread
+            self.processPartitions();
         }
+        return self.nextFrame();
     }
 
-    public function reset() {
-        _StreamFunction sf = self.streamFunction;
-        sf.reset();
-    }
+    isolated function processPartitions() = @java:Method {
+        'class: "org.ballerinalang.langlib.query.ProcessPartitions",
+        name: "processPartitions"
+    } external;
+
+    isolated function nextFrame() returns _Frame|error? = @java:Method {
+        'class: "org.ballerinalang.langlib.query.NextFrame",
+        name: "nextFrame"
+    } external;
+
+    public function reset() = @java:Method {
+        'class: "org.ballerinalang.langlib.query.ResetPipeline",
+        name: "resetPipeline"
+    } external;
 
     function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
         streamFunction.prevFunc = existingFunc;
         self.streamFunction = streamFunction;
+        self.engine = ();
+        self.partitionsPending = true;
     }
 
     public function getStream() returns stream <Type,CompletionType> {
@@ -224,36 +242,39 @@ class _NestedFromFunction {
     public function process() returns _Frame|error? {
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
         function (_Frame frame) returns any|error? collectionFunc = self.collectionFunc;
-        _Frame|error? cf = self.currentFrame;
-        _Iterator? itr = self.itr;
-        if (cf is ()) {
-            cf = pf.process();
-            self.currentFrame = cf;
-            if (cf is _Frame) {
-                any|error? collection = collectionFunc(cf);
-                if (collection is any) {
-                    itr = self._getIterator(collection);
-                    self.itr = itr;
+        // Loop instead of recursing, so that long runs of empty collections do not grow the stack
+        while (true) {
+            _Frame|error? cf = self.currentFrame;
+            _Iterator? itr = self.itr;
+            if (cf is ()) {
+                cf = pf.process();
+                self.currentFrame = cf;
+                if (cf is _Frame) {
+                    any|error? collection = collectionFunc(cf);
+                    if (collection is any) {
+                        itr = self._getIterator(collection);
+                        self.itr = itr;
+                    }
                 }
             }
-        }
-        if (cf is _Frame && itr is _Iterator) {
-            record {|(any|error) value;|}|error? v = itr.next();
-            if (v is record {|(any|error) value;|}) {
-                _Frame _frame = {...cf};
-                foreach var [k, val] in v.entries() {
-                    _frame[k] = val;
+            if (cf is _Frame && itr is _Iterator) {
+                record {|(any|error) value;|}|error? v = itr.next();
+                if (v is record {|(any|error) value;|}) {
+                    _Frame _frame = {...cf};
+                    foreach var [k, val] in v.entries() {
+                        _frame[k] = val;
+                    }
+                    return _frame;
+                } else if (v is error) {
+                    return v;
+                } else {
+                    // Move to next frame
+                    self.currentFrame = ();
                 }
-                return _frame;
-            } else if (v is error) {
-                return v;
             } else {
-                // Move to next frame
-                self.currentFrame = ();
-                return self.process();
+                return cf;
             }
         }
-        return cf;
     }
 
     public function reset() {
@@ -324,24 +345,45 @@ class _InnerJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
+    _StreamPipeline pipelineToJoin;
+    # Field of the members of the joined table returned by the rhs key function, if the joined frames
+    # can be looked up using an index on that field
+    string? rhsIndexedField;
     _FrameMultiMap rhsFramesMap = new;
+    boolean rhsFramesLoaded = false;
     _Frame[]? rhsCandidates;
     _Frame|error? lhsFrame;
 
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
-            function (_Frame _frame) returns any rhsKeyFunction) {
+            function (_Frame _frame) returns any rhsKeyFunction, string? rhsIndexedField = ()) {
+        self.pipelineToJoin = pipelineToJoin;
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
+        self.rhsIndexedField = rhsIndexedField;
         self.rhsCandidates = ();
         self.prevFunc = ();
         self.lhsFrame = ();
+        if (rhsIndexedField is ()) {
+            self.loadRhsFrames();
+        }
+    }
+
+    # Groups the frames of the joined pipeline by key. When the rhs key is an indexed field, this is
+    # deferred until the frames are needed, since an index on the field can be used instead.
+    function loadRhsFrames() {
+        if (self.rhsFramesLoaded) {
+            return;
+        }
+        function (_Frame _frame) returns any rhsKeyFunction = self.rhsKeyFunction;
+        _StreamPipeline pipelineToJoin = self.pipelineToJoin;
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
+        self.rhsFramesLoaded = true;
     }
 
     # Desugared function to do;
@@ -349,40 +391,42 @@ class _InnerJoinFunction {
     # join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
+        self.loadRhsFrames();
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
          _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
-        _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
 
-        if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
-        }
-
-        if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
+        // Loop instead of recursing, so that long runs of unmatched lhs frames do not grow the stack
+        while (true) {
+            _Frame[]? rhsCandidates = self.rhsCandidates;
+            _Frame|error? lhsFrame = self.lhsFrame;
+            if (lhsFrame is ()) {
+                lhsFrame = pf.process();
+                self.lhsFrame = lhsFrame;
             }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
+
+            if (lhsFrame is _Frame) {
+                if (rhsCandidates is ()) {
+                    rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
+                    self.rhsCandidates = rhsCandidates;
+                }
+                if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
+                    _Frame rhsFrame = rhsCandidates.shift();
+                    self.rhsCandidates = rhsCandidates;
+                    _Frame joinedFrame = {...lhsFrame};
+                    foreach var [k, val] in rhsFrame.entries() {
+                        joinedFrame[k] = val;
+                    }
+                    return joinedFrame;
+                } else {
+                    // Move to next lhs frame
+                    self.lhsFrame = ();
+                    self.rhsCandidates = ();
                 }
-                return joinedFrame;
             } else {
-                // Move to next lhs frame
-                self.lhsFrame = ();
-                self.rhsCandidates = ();
-                return self.process();
+                return lhsFrame;
             }
         }
-        return lhsFrame;
     }
 
     public function reset() {
@@ -400,7 +444,12 @@ class _OuterJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
+    _StreamPipeline pipelineToJoin;
+    # Field of the members of the joined table returned by the rhs key function, if the joined frames
+    # can be looked up using an index on that field
+    string? rhsIndexedField;
     _FrameMultiMap rhsFramesMap = new;
+    boolean rhsFramesLoaded = false;
     _Frame[]? rhsCandidates;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
@@ -408,18 +457,35 @@ class _OuterJoinFunction {
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
-            function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame) {
+            function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame,
+            string? rhsIndexedField = ()) {
+        self.pipelineToJoin = pipelineToJoin;
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
+        self.rhsIndexedField = rhsIndexedField;
         self.rhsCandidates = ();
         self.prevFunc = ();
         self.lhsFrame = ();
         self.nilFrame = nilFrame;
+        if (rhsIndexedField is ()) {
+            self.loadRhsFrames();
+        }
+    }
+
+    # Groups the frames of the joined pipeline by key. When the rhs key is an indexed field, this is
+    # deferred until the frames are needed, since an index on the field can be used instead.
+    function loadRhsFrames() {
+        if (self.rhsFramesLoaded) {
+            return;
+        }
+        function (_Frame _frame) returns any rhsKeyFunction = self.rhsKeyFunction;
+        _StreamPipeline pipelineToJoin = self.pipelineToJoin;
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
+        self.rhsFramesLoaded = true;
     }
 
     # Desugared function to do;
@@ -427,13 +493,13 @@ class _OuterJoinFunction {
     # outer join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
+        self.loadRhsFrames();
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
          _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -441,9 +507,8 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
                 self.rhsCandidates = rhsCandidates;
             }
 
@@ -492,9 +557,20 @@ class _FilterFunction {
     # where person.age >= 70
     # emit the next frame which satisfies the condition
     function (_Frame _frame) returns boolean filterFunc;
-
-    function init(function (_Frame _frame) returns boolean filterFunc) {
+    # Field of the members of the input table compared by the condition, if the condition can be
+    # evaluated using an index on that field
+    string? indexedField;
+    # Desugared function to evaluate the value the field is compared with
+    (function (_Frame _frame) returns any)? indexKeyFunc;
+    # Comparison operator with the field on the left hand side
+    string? indexOperator;
+
+    function init(function (_Frame _frame) returns boolean filterFunc, string? indexedField = (),
+            (function (_Frame _frame) returns any)? indexKeyFunc = (), string? indexOperator = ()) {
         self.filterFunc = filterFunc;
+        self.indexedField = indexedField;
+        self.indexKeyFunc = indexKeyFunc;
+        self.indexOperator = indexOperator;
         self.prevFunc = ();
     }
 
@@ -642,9 +718,12 @@ class _LimitFunction {
     # Desugared function to limit the number of results
     function (_Frame _frame) returns int limitFunc;
     public int count = 0;
+    # Whether the limit does not depend on query variables
+    boolean isConstant;
 
-    function init(function (_Frame _frame) returns int limitFunc) {
+    function init(function (_Frame _frame) returns int limitFunc, boolean isConstant = false) {
         self.limitFunc = limitFunc;
+        self.isConstant = isConstant;
         self.prevFunc = ();
     }
 
@@ -678,35 +757,18 @@ class _LimitFunction {
 // ---- helper types ----
 
 class _FrameMultiMap {
-    map<_Frame[]> m;
-
-    function init() {
-        self.m = {};
-    }
-
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
-        }
-    }
-
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
-    }
-
+    # Native map from the key values to the frames, compared with `==` semantics.
+    handle? frames = ();
+
+    function put(any k, _Frame v) = @java:Method {
+        'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+        name: "put"
+    } external;
+
+    function get(any k) returns _Frame[]? = @java:Method {
+        'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+        name: "get"
+    } external;
 }
 
 class IterHelper {
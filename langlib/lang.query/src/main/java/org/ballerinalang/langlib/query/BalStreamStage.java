@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+/**
+ * Runs a `_StreamFunction` that has no native stage by calling its Ballerina `process()` method. Such a function
+ * pulls from its own previous functions, so this stage has no previous stage.
+ *
+ * @since 2.0.0
+ */
+class BalStreamStage extends StreamStage {
+
+    private static final String PROCESS = "process";
+    private static final String RESET = "reset";
+
+    private final BObject streamFunction;
+
+    BalStreamStage(BObject streamFunction) {
+        super(null);
+        this.streamFunction = streamFunction;
+    }
+
+    @Override
+    Object process(Strand strand) {
+        return streamFunction.call(strand, PROCESS);
+    }
+
+    @Override
+    void reset(Strand strand) {
+        streamFunction.call(strand, RESET);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueKey;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native implementation of lang.query:_FrameMultiMap. Frames are grouped by the join key value itself, keys are
+ * hashed structurally and compared with the semantics of the `==` operator, so no string form of the key is built.
+ *
+ * @since 2.0.0
+ */
+public class FrameMultiMap {
+
+    private static final BString FRAMES = StringUtils.fromString("frames");
+
+    private final Map<ValueKey, List<BMap<BString, Object>>> frames = new HashMap<>();
+
+    public static void put(BObject multiMap, Object key, BMap<BString, Object> frame) {
+        of(multiMap).frames.computeIfAbsent(new ValueKey(key), k -> new ArrayList<>(1)).add(frame);
+    }
+
+    public static Object get(BObject multiMap, Object key) {
+        List<BMap<BString, Object>> candidates = of(multiMap).candidates(key);
+        if (candidates == null) {
+            return null;
+        }
+        return ValueCreator.createArrayValue(candidates.toArray(),
+                TypeCreator.createArrayType(candidates.get(0).getType()));
+    }
+
+    static FrameMultiMap of(BObject multiMap) {
+        Object frames = multiMap.get(FRAMES);
+        if (frames instanceof BHandle) {
+            return (FrameMultiMap) ((BHandle) frames).getValue();
+        }
+        FrameMultiMap frameMultiMap = new FrameMultiMap();
+        multiMap.set(FRAMES, ValueCreator.createHandleValue(frameMultiMap));
+        return frameMultiMap;
+    }
+
+    /**
+     * Returns the frames put with a key equal to the given key. The returned list is owned by the map and must not
+     * be modified.
+     *
+     * @param key join key
+     * @return matching frames, or null if there are none
+     */
+    List<BMap<BString, Object>> candidates(Object key) {
+        return frames.get(new ValueKey(key));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.Map;
+
+/**
+ * Creates and merges the `_Frame` records that carry the variables of a query expression between its clauses.
+ *
+ * @since 2.0.0
+ */
+class Frames {
+
+    static final BString VALUE = StringUtils.fromString("value");
+    static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+
+    private final BTypedesc frameTd;
+
+    Frames(BTypedesc frameTd) {
+        this.frameTd = frameTd;
+    }
+
+    @SuppressWarnings("unchecked")
+    BMap<BString, Object> create(Strand strand) {
+        return (BMap<BString, Object>) frameTd.instantiate(strand);
+    }
+
+    BMap<BString, Object> create(Strand strand, Object value) {
+        BMap<BString, Object> frame = create(strand);
+        frame.put(VALUE, value);
+        return frame;
+    }
+
+    BMap<BString, Object> merge(Strand strand, BMap<BString, Object> lhs, BMap<BString, Object> rhs) {
+        BMap<BString, Object> frame = create(strand);
+        for (Map.Entry<BString, Object> entry : lhs.entrySet()) {
+            frame.put(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<BString, Object> entry : rhs.entrySet()) {
+            frame.put(entry.getKey(), entry.getValue());
+        }
+        return frame;
+    }
+
+    BMap<BString, Object> merge(Strand strand, BMap<BString, Object> lhs, Object value) {
+        BMap<BString, Object> frame = create(strand);
+        for (Map.Entry<BString, Object> entry : lhs.entrySet()) {
+            frame.put(entry.getKey(), entry.getValue());
+        }
+        frame.put(VALUE, value);
+        return frame;
+    }
+
+    static boolean isFrame(Object value) {
+        return value instanceof BMap;
+    }
+}
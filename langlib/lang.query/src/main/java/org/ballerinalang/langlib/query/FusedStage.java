@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.Arrays;
+
+/**
+ * Runs a sequence of row-at-a-time clauses (input bindings, `let`, `where`, `select`, `do` and `limit`) over each
+ * frame of the previous stage in a single loop, instead of pulling the frame through a stage per clause.
+ *
+ * @since 2.0.0
+ */
+class FusedStage extends StreamStage {
+
+    /**
+     * Returned by an operation to drop the current frame and continue with the next one.
+     */
+    static final Object SKIP = new Object();
+
+    private Operation[] operations = new Operation[0];
+
+    FusedStage(StreamStage prev) {
+        super(prev);
+    }
+
+    void addMapping(Object function) {
+        add(new Mapping(function));
+    }
+
+    void addFilter(Object function) {
+        add(new Filter(function));
+    }
+
+    void addAction(Object function) {
+        add(new Action(function));
+    }
+
+    void addLimit(Object function) {
+        add(new Limit(function));
+    }
+
+    private void add(Operation operation) {
+        operations = Arrays.copyOf(operations, operations.length + 1);
+        operations[operations.length - 1] = operation;
+    }
+
+    @Override
+    Object process(Strand strand) {
+        while (true) {
+            Object frame = prev.process(strand);
+            if (!Frames.isFrame(frame)) {
+                return frame;
+            }
+            frame = apply(strand, frame);
+            if (frame != SKIP) {
+                return frame;
+            }
+        }
+    }
+
+    /**
+     * Runs the operations over a single frame.
+     *
+     * @param strand current strand
+     * @param frame  frame to process
+     * @return the resulting frame, {@link #SKIP} if the frame is dropped, or the value to return from the stage
+     */
+    Object apply(Strand strand, Object frame) {
+        for (Operation op : operations) {
+            frame = op.apply(strand, frame);
+            if (frame == SKIP || !Frames.isFrame(frame)) {
+                return frame;
+            }
+        }
+        return frame;
+    }
+
+    @Override
+    void reset(Strand strand) {
+        for (Operation op : operations) {
+            op.reset();
+        }
+        super.reset(strand);
+    }
+
+    /**
+     * A clause applied to a single frame. Returns the frame to pass to the next clause, {@link #SKIP}, or the
+     * value to return from the stage.
+     */
+    private abstract static class Operation {
+
+        final Object function;
+
+        Operation(Object function) {
+            this.function = function;
+        }
+
+        abstract Object apply(Strand strand, Object frame);
+
+        void reset() {
+        }
+    }
+
+    /**
+     * Input binding, `let` and `select` clauses, which return the frame to continue with.
+     */
+    private static class Mapping extends Operation {
+
+        Mapping(Object function) {
+            super(function);
+        }
+
+        @Override
+        Object apply(Strand strand, Object frame) {
+            return call(strand, function, frame);
+        }
+    }
+
+    private static class Filter extends Operation {
+
+        Filter(Object function) {
+            super(function);
+        }
+
+        @Override
+        Object apply(Strand strand, Object frame) {
+            return (Boolean) call(strand, function, frame) ? frame : SKIP;
+        }
+    }
+
+    private static class Action extends Operation {
+
+        Action(Object function) {
+            super(function);
+        }
+
+        @Override
+        Object apply(Strand strand, Object frame) {
+            call(strand, function, frame);
+            return frame;
+        }
+    }
+
+    private static class Limit extends Operation {
+
+        private long count;
+
+        Limit(Object function) {
+            super(function);
+        }
+
+        @Override
+        Object apply(Strand strand, Object frame) {
+            long limit = (Long) call(strand, function, frame);
+            if (limit < 1) {
+                throw ErrorCreator.createError(StringUtils.fromString("Invalid limit"),
+                                               StringUtils.fromString("limit cannot be < 1."));
+            }
+            if (count < limit) {
+                count++;
+                return frame;
+            }
+            return null;
+        }
+
+        @Override
+        void reset() {
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Source stage of a query pipeline over a table, whose first `where` clause compares a field of the member with a
+ * value that does not depend on the member. When the table has an index on that field, only the members found
+ * through the index are wrapped in frames. The `where` clause is still evaluated on those frames.
+ *
+ * @since 2.0.0
+ */
+class IndexedScanStage extends StreamStage {
+
+    private static final BString COLLECTION = StringUtils.fromString("collection");
+    private static final BString INDEXED_FIELD = StringUtils.fromString("indexedField");
+    private static final BString INDEX_KEY_FUNC = StringUtils.fromString("indexKeyFunc");
+    private static final BString INDEX_OPERATOR = StringUtils.fromString("indexOperator");
+
+    private static final String EQUAL = "==";
+    private static final String LESS_THAN = "<";
+    private static final String LESS_THAN_OR_EQUAL = "<=";
+    private static final String GREATER_THAN = ">";
+
+    private final BTable<?, ?> table;
+    private final BString fieldName;
+    private final Object keyFunction;
+    private final String operator;
+    private final Frames frames;
+    private List<?> members;
+    private int index;
+
+    private IndexedScanStage(BTable<?, ?> table, BString fieldName, Object keyFunction, String operator,
+                             Frames frames) {
+        super(null);
+        this.table = table;
+        this.fieldName = fieldName;
+        this.keyFunction = keyFunction;
+        this.operator = operator;
+        this.frames = frames;
+    }
+
+    /**
+     * Creates an indexed scan for the input of a pipeline, if the filter can be evaluated using an index of the
+     * input table.
+     *
+     * @param initFunction   `_InitFunction` object of the pipeline
+     * @param filterFunction `_FilterFunction` object of the first `where` clause
+     * @param frames         frame factory
+     * @return the stage, or null if the input has to be scanned in full
+     */
+    static IndexedScanStage create(BObject initFunction, BObject filterFunction, Frames frames) {
+        Object collection = initFunction.get(COLLECTION);
+        Object fieldName = filterFunction.get(INDEXED_FIELD);
+        if (!(collection instanceof BTable) || !(fieldName instanceof BString)) {
+            return null;
+        }
+        BTable<?, ?> table = (BTable<?, ?>) collection;
+        String operator = ((BString) filterFunction.get(INDEX_OPERATOR)).getValue();
+        if (!table.hasIndex((BString) fieldName, !EQUAL.equals(operator))) {
+            return null;
+        }
+        return new IndexedScanStage(table, (BString) fieldName, filterFunction.get(INDEX_KEY_FUNC), operator,
+                                    frames);
+    }
+
+    @Override
+    Object process(Strand strand) {
+        if (members == null) {
+            // The key does not depend on the member, so it is evaluated once with an empty frame
+            members = lookup(call(strand, keyFunction, frames.create(strand)));
+        }
+        if (index < members.size()) {
+            return frames.create(strand, members.get(index++));
+        }
+        return null;
+    }
+
+    private List<?> lookup(Object key) {
+        if (EQUAL.equals(operator)) {
+            return table.getIndexed(fieldName, key);
+        }
+        if (key == null) {
+            // Relational expressions with `()` as an operand are always false
+            return Collections.emptyList();
+        }
+        switch (operator) {
+            case LESS_THAN:
+                return table.getIndexedRange(fieldName, null, false, key, false);
+            case LESS_THAN_OR_EQUAL:
+                return table.getIndexedRange(fieldName, null, false, key, true);
+            case GREATER_THAN:
+                return table.getIndexedRange(fieldName, key, false, null, false);
+            default:
+                return table.getIndexedRange(fieldName, key, true, null, false);
+        }
+    }
+
+    @Override
+    void reset(Strand strand) {
+        members = null;
+        index = 0;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+/**
+ * Source stage of a query pipeline, which wraps each member of the input collection in a frame. Lists are read by
+ * index, other collections use the iterator of the `_InitFunction`.
+ *
+ * @since 2.0.0
+ */
+class InitStage extends StreamStage {
+
+    private static final BString COLLECTION = StringUtils.fromString("collection");
+    private static final BString ITERATOR = StringUtils.fromString("itr");
+    private static final String NEXT = "next";
+    private static final String RESET = "reset";
+
+    private final BObject initFunction;
+    private final Frames frames;
+    private final BArray list;
+    private BObject iterator;
+    private int index;
+
+    InitStage(BObject initFunction, Frames frames) {
+        super(null);
+        this.initFunction = initFunction;
+        this.frames = frames;
+        Object collection = initFunction.get(COLLECTION);
+        this.list = collection instanceof BArray ? (BArray) collection : null;
+        this.iterator = list == null ? (BObject) initFunction.get(ITERATOR) : null;
+    }
+
+    /**
+     * Returns the input collection if it is a table, or null otherwise.
+     */
+    BTable<?, ?> getTable() {
+        Object collection = initFunction.get(COLLECTION);
+        return collection instanceof BTable ? (BTable<?, ?>) collection : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Object process(Strand strand) {
+        if (list != null) {
+            if (index < list.size()) {
+                return frames.create(strand, list.get(index++));
+            }
+            return null;
+        }
+        Object next = iterator.call(strand, NEXT);
+        if (next instanceof BMap) {
+            return frames.create(strand, ((BMap<BString, Object>) next).get(Frames.VALUE));
+        }
+        return next;
+    }
+
+    @Override
+    void reset(Strand strand) {
+        if (list != null) {
+            index = 0;
+            return;
+        }
+        initFunction.call(strand, RESET);
+        iterator = (BObject) initFunction.get(ITERATOR);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.List;
+
+/**
+ * Stage for `join` and `outer join` clauses. The frames of the joined pipeline are grouped by key when the
+ * `_InnerJoinFunction` or `_OuterJoinFunction` is created, this stage looks up the matching frames for each frame
+ * of the previous stage by key value and iterates them in place. If the joined collection is a table with an index
+ * on the field used as the key, the matching members are looked up in the index instead, and the frames of the
+ * joined pipeline are never grouped.
+ *
+ * @since 2.0.0
+ */
+class JoinStage extends StreamStage {
+
+    private static final BString RHS_FRAMES_MAP = StringUtils.fromString("rhsFramesMap");
+    private static final BString PIPELINE_TO_JOIN = StringUtils.fromString("pipelineToJoin");
+    private static final BString RHS_INDEXED_FIELD = StringUtils.fromString("rhsIndexedField");
+    private static final String LOAD_RHS_FRAMES = "loadRhsFrames";
+
+    private final BObject joinFunction;
+    private final Object lhsKeyFunction;
+    private final QueryPipeline rhsPipeline;
+    private final BString rhsIndexedField;
+    private FrameMultiMap rhsFrames;
+    private final BMap<BString, Object> nilFrame;
+    private final Frames frames;
+    private BMap<BString, Object> lhsFrame;
+    private List<BMap<BString, Object>> rhsCandidates;
+    private int index;
+
+    /**
+     * Creates a join stage.
+     *
+     * @param prev           previous stage
+     * @param joinFunction   `_InnerJoinFunction` or `_OuterJoinFunction` object
+     * @param lhsKeyFunction function that computes the key of a frame of the previous stage
+     * @param nilFrame       frame to join with when there are no matching frames, null for inner joins
+     * @param frames         frame factory
+     */
+    JoinStage(StreamStage prev, BObject joinFunction, Object lhsKeyFunction, BMap<BString, Object> nilFrame,
+              Frames frames) {
+        super(prev);
+        this.joinFunction = joinFunction;
+        this.lhsKeyFunction = lhsKeyFunction;
+        this.nilFrame = nilFrame;
+        this.frames = frames;
+
+        Object indexedField = joinFunction.get(RHS_INDEXED_FIELD);
+        if (indexedField instanceof BString) {
+            QueryPipeline pipeline = QueryPipeline.get((BObject) joinFunction.get(PIPELINE_TO_JOIN));
+            BTable<?, ?> table = pipeline.getInputTable();
+            if (table != null && table.hasIndex((BString) indexedField, false)) {
+                this.rhsPipeline = pipeline;
+                this.rhsIndexedField = (BString) indexedField;
+                return;
+            }
+        }
+        this.rhsPipeline = null;
+        this.rhsIndexedField = null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Object process(Strand strand) {
+        while (true) {
+            if (lhsFrame == null) {
+                Object frame = prev.process(strand);
+                if (!Frames.isFrame(frame)) {
+                    return frame;
+                }
+                lhsFrame = (BMap<BString, Object>) frame;
+                rhsCandidates = getCandidates(strand, call(strand, lhsKeyFunction, lhsFrame));
+                index = 0;
+                if (rhsCandidates == null && nilFrame != null) {
+                    BMap<BString, Object> joinedFrame = frames.merge(strand, lhsFrame, nilFrame);
+                    lhsFrame = null;
+                    return joinedFrame;
+                }
+            }
+            if (rhsCandidates != null && index < rhsCandidates.size()) {
+                return frames.merge(strand, lhsFrame, rhsCandidates.get(index++));
+            }
+            // Move to the next frame of the previous stage
+            lhsFrame = null;
+            rhsCandidates = null;
+        }
+    }
+
+    private List<BMap<BString, Object>> getCandidates(Strand strand, Object key) {
+        if (rhsPipeline != null) {
+            List<BMap<BString, Object>> candidates =
+                    rhsPipeline.apply(strand, rhsPipeline.getInputTable().getIndexed(rhsIndexedField, key));
+            return candidates.isEmpty() ? null : candidates;
+        }
+        if (rhsFrames == null) {
+            // Frames of the joined pipeline are grouped on first use when the key field could have been indexed
+            joinFunction.call(strand, LOAD_RHS_FRAMES);
+            rhsFrames = FrameMultiMap.of((BObject) joinFunction.get(RHS_FRAMES_MAP));
+        }
+        return rhsFrames.candidates(key);
+    }
+
+    @Override
+    void reset(Strand strand) {
+        lhsFrame = null;
+        rhsCandidates = null;
+        super.reset(strand);
+    }
+}
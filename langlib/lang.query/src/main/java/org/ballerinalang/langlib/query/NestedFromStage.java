@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+/**
+ * Stage for a `from` clause that follows another input clause. Each frame of the previous stage is combined with
+ * every member of the collection computed from it.
+ *
+ * @since 2.0.0
+ */
+class NestedFromStage extends StreamStage {
+
+    private static final String GET_ITERATOR = "_getIterator";
+    private static final String NEXT = "next";
+
+    private final BObject nestedFromFunction;
+    private final Object collectionFunc;
+    private final Frames frames;
+    private BMap<BString, Object> currentFrame;
+    private BArray list;
+    private int index;
+    private BObject iterator;
+
+    NestedFromStage(StreamStage prev, BObject nestedFromFunction, Object collectionFunc, Frames frames) {
+        super(prev);
+        this.nestedFromFunction = nestedFromFunction;
+        this.collectionFunc = collectionFunc;
+        this.frames = frames;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Object process(Strand strand) {
+        while (true) {
+            if (currentFrame == null) {
+                Object frame = prev.process(strand);
+                if (!Frames.isFrame(frame)) {
+                    return frame;
+                }
+                Object collection = call(strand, collectionFunc, frame);
+                if (collection instanceof BError) {
+                    return collection;
+                }
+                currentFrame = (BMap<BString, Object>) frame;
+                if (collection instanceof BArray) {
+                    list = (BArray) collection;
+                    index = 0;
+                } else {
+                    list = null;
+                    iterator = (BObject) nestedFromFunction.call(strand, GET_ITERATOR, collection);
+                }
+            }
+
+            if (list != null) {
+                if (index < list.size()) {
+                    return frames.merge(strand, currentFrame, list.get(index++));
+                }
+            } else {
+                Object next = iterator.call(strand, NEXT);
+                if (next instanceof BMap) {
+                    return frames.merge(strand, currentFrame, ((BMap<BString, Object>) next).get(Frames.VALUE));
+                }
+                if (next != null) {
+                    return next;
+                }
+            }
+            // Move to the next frame of the previous stage
+            currentFrame = null;
+        }
+    }
+
+    @Override
+    void reset(Strand strand) {
+        currentFrame = null;
+        list = null;
+        iterator = null;
+        super.reset(strand);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Stage for `order by` clauses. Consumes all frames of the previous stage, computes their order keys and emits them
+ * in a stable sort order. `()` keys are placed last in both ascending and descending order.
+ * <p>
+ * When the `order by` clause is followed by a `limit` clause that does not depend on query variables, only the
+ * first `limit` frames in sort order are kept, in a bounded heap. Otherwise the frames are kept in a heap and
+ * emitted one at a time, so frames that are never consumed are not sorted.
+ *
+ * @since 2.0.0
+ */
+class OrderByStage extends StreamStage {
+
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private final Object orderKeyFunc;
+    private Object limitFunc;
+    private PriorityQueue<SortEntry> ordered;
+
+    OrderByStage(StreamStage prev, Object orderKeyFunc) {
+        super(prev);
+        this.orderKeyFunc = orderKeyFunc;
+    }
+
+    /**
+     * Sets the function of the `limit` clause that follows this stage. The function must return the same value
+     * for every frame.
+     *
+     * @param limitFunc limit function
+     */
+    void setLimit(Object limitFunc) {
+        this.limitFunc = limitFunc;
+    }
+
+    @Override
+    Object process(Strand strand) {
+        if (ordered == null) {
+            Object result = limitFunc == null ? collect(strand) : collectTopK(strand);
+            if (result != null) {
+                return result;
+            }
+        }
+        SortEntry entry = ordered.poll();
+        return entry == null ? null : entry.frame;
+    }
+
+    @Override
+    void reset(Strand strand) {
+        ordered = null;
+        super.reset(strand);
+    }
+
+    private Object collect(Strand strand) {
+        List<SortEntry> entries = new ArrayList<>();
+        Object frame = prev.process(strand);
+        // consume all frames for ordering.
+        while (Frames.isFrame(frame)) {
+            entries.add(createEntry(strand, frame, entries.size()));
+            frame = prev.process(strand);
+        }
+        if (frame != null) {
+            return frame;
+        }
+        ordered = new PriorityQueue<>(entries);
+        return null;
+    }
+
+    private Object collectTopK(Strand strand) {
+        PriorityQueue<SortEntry> topK = null;
+        int limit = 0;
+        int count = 0;
+        Object frame = prev.process(strand);
+        while (Frames.isFrame(frame)) {
+            SortEntry entry = createEntry(strand, frame, count++);
+            if (topK == null) {
+                long value = (Long) call(strand, limitFunc, frame);
+                // A limit less than 1 is reported by the limit clause, when it gets the first frame.
+                limit = value < 1 ? Integer.MAX_VALUE : (int) Math.min(value, Integer.MAX_VALUE);
+                // Largest of the kept frames at the head, so that it can be replaced by a smaller one.
+                topK = new PriorityQueue<>(Math.min(limit, 1024), Collections.reverseOrder());
+            }
+            if (topK.size() < limit) {
+                topK.add(entry);
+            } else if (entry.compareTo(topK.peek()) < 0) {
+                topK.poll();
+                topK.add(entry);
+            }
+            frame = prev.process(strand);
+        }
+        if (frame != null) {
+            return frame;
+        }
+        // Copied through a list, a priority queue created from another one keeps its reversed order.
+        ordered = topK == null ? new PriorityQueue<>() : new PriorityQueue<>(new ArrayList<>(topK));
+        return null;
+    }
+
+    private SortEntry createEntry(Strand strand, Object frame, int index) {
+        @SuppressWarnings("unchecked")
+        BMap<BString, Object> f = (BMap<BString, Object>) frame;
+        call(strand, orderKeyFunc, f);
+        return new SortEntry(f, (BArray) f.get(Frames.ORDER_KEY), (BArray) f.get(Frames.ORDER_DIRECTION), index);
+    }
+
+    /**
+     * A frame along with its order keys and the direction of each key, true for ascending. Entries with equal keys
+     * are ordered by the position of the frame in the input, so that the sort order is stable.
+     */
+    static class SortEntry implements Comparable<SortEntry> {
+
+        final BMap<BString, Object> frame;
+        final BArray keys;
+        final BArray directions;
+        final int index;
+
+        SortEntry(BMap<BString, Object> frame, BArray keys, BArray directions, int index) {
+            this.frame = frame;
+            this.keys = keys;
+            this.directions = directions;
+            this.index = index;
+        }
+
+        @Override
+        public int compareTo(SortEntry other) {
+            int keyCount = keys.size();
+            for (int i = 0; i < keyCount; i++) {
+                Object key = keys.get(i);
+                Object otherKey = other.keys.get(i);
+                int result = directions.getBoolean(i) ?
+                        ValueComparisonUtils.compareValues(key, otherKey, ASCENDING) :
+                        ValueComparisonUtils.compareValues(otherKey, key, DESCENDING);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(index, other.index);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PARALLELISM_ENV_VAR;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PARALLELISM_PROPERTY;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.QUERY_LANG_LIB;
+import static java.lang.System.err;
+import static org.ballerinalang.util.BLangCompilerConstants.QUERY_VERSION;
+
+/**
+ * Source stage that splits an in-memory list or table into partitions and runs the input binding, `let`, `where` and
+ * `select` clauses which directly follow the `from` clause over the partitions in parallel, on the worker threads of
+ * the scheduler. The resulting frames are returned in input order, so the clauses after this stage behave as they do
+ * for a sequential pipeline.
+ * <p>
+ * Parallel execution is disabled by default. Setting the BALLERINA_QUERY_PARALLELISM system variable, or the
+ * ballerina.query.parallelism system property, to the maximum number of partitions enables it for collections of at
+ * least two partitions of {@link #MIN_PARTITION_SIZE} members. Only the clauses the desugarer marked isolated, which
+ * are those of queries in isolated functions, are run over the partitions. The clauses of the different partitions
+ * run concurrently on separate strands, hence they should not mutate values they share.
+ *
+ * @since 2.0.0
+ */
+class ParallelStage extends StreamStage {
+
+    private static final StrandMetadata METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX, QUERY_LANG_LIB,
+                                                                      QUERY_VERSION, "parallel");
+    private static final BString COLLECTION = StringUtils.fromString("collection");
+    private static final String PARTITION_STRAND_NAME = "query-partition";
+    private static final int DEFAULT_PARALLELISM = getDefaultParallelism();
+    static final int MIN_PARTITION_SIZE = 1024;
+
+    private final Object collection;
+    private final Frames frames;
+    private final int parallelism;
+    private final FusedStage operations = new FusedStage(null);
+    private Partitions partitions;
+    private int partition;
+    private int index;
+
+    private ParallelStage(Object collection, Frames frames, int parallelism) {
+        super(null);
+        this.collection = collection;
+        this.frames = frames;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a parallel source stage for the collection of an `_InitFunction` if parallel execution is enabled and
+     * the collection is large enough to be partitioned.
+     *
+     * @param initFunction `_InitFunction` object
+     * @param frames       frame factory
+     * @return the stage, or null if the collection should be iterated sequentially
+     */
+    static ParallelStage create(BObject initFunction, Frames frames) {
+        int parallelism = Integer.getInteger(BALLERINA_QUERY_PARALLELISM_PROPERTY, DEFAULT_PARALLELISM);
+        if (parallelism < 2) {
+            return null;
+        }
+        Object collection = initFunction.get(COLLECTION);
+        int size;
+        if (collection instanceof BArray) {
+            size = ((BArray) collection).size();
+        } else if (collection instanceof BTable) {
+            size = ((BTable<?, ?>) collection).size();
+        } else {
+            return null;
+        }
+        return size < 2 * MIN_PARTITION_SIZE ? null : new ParallelStage(collection, frames, parallelism);
+    }
+
+    /**
+     * Returns the operations run over each partition, which only input binding, `let`, `where` and `select` clauses
+     * may be added to.
+     */
+    FusedStage getOperations() {
+        return operations;
+    }
+
+    /**
+     * Indicates whether the operations have been run over the partitions since the stage was created or reset.
+     */
+    boolean isProcessed() {
+        return partitions != null;
+    }
+
+    /**
+     * Runs the operations over the partitions on separate strands. The future is completed once all the partitions
+     * are processed, so that the current strand yields its thread meanwhile, instead of blocking it.
+     *
+     * @param strand current strand
+     * @param future future of the current strand, which is completed with nil
+     */
+    void processPartitions(Strand strand, Future future) {
+        Partitions scheduledPartitions = new Partitions(future);
+        partitions = scheduledPartitions;
+        Function<Object[], Object> partitionRunner = params -> {
+            scheduledPartitions.run((Strand) params[0]);
+            return null;
+        };
+        for (int i = 0; i < scheduledPartitions.count; i++) {
+            strand.scheduler.schedule(new Object[1], partitionRunner, strand, null, PARTITION_STRAND_NAME, METADATA);
+        }
+    }
+
+    @Override
+    Object process(Strand strand) {
+        if (partitions == null) {
+            // The partitions are processed beforehand when the pipeline is run from Ballerina, but not when it is run
+            // natively, as for a join clause. The partitions are then processed on the current strand.
+            partitions = new Partitions(null);
+            partitions.run(strand);
+        }
+        while (partition < partitions.count) {
+            Throwable panic = partitions.panics[partition];
+            if (panic != null) {
+                partition = partitions.count;
+                throw panic instanceof BError ? (BError) panic : ErrorCreator.createError(panic);
+            }
+            List<Object> partitionFrames = partitions.results[partition];
+            if (index < partitionFrames.size()) {
+                Object frame = partitionFrames.get(index++);
+                if (!Frames.isFrame(frame)) {
+                    // an error ends the pipeline as it does when run sequentially
+                    partition = partitions.count;
+                }
+                return frame;
+            }
+            partition++;
+            index = 0;
+        }
+        return null;
+    }
+
+    @Override
+    void reset(Strand strand) {
+        partitions = null;
+        partition = 0;
+        index = 0;
+    }
+
+    private static int getDefaultParallelism() {
+        String parallelismConf = System.getenv(BALLERINA_QUERY_PARALLELISM_ENV_VAR);
+        if (parallelismConf == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(parallelismConf);
+        } catch (NumberFormatException e) {
+            // Log and continue with sequential execution
+            err.println("ballerina: error occurred while reading system variable:" +
+                                       BALLERINA_QUERY_PARALLELISM_ENV_VAR + ", " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Frames resulting from each partition of the input. Partitions are claimed by whichever strand gets to them
+     * first, and a partition is not processed if the pipeline ends before it.
+     */
+    private class Partitions {
+
+        private final Object[] members;
+        private final int size;
+        private final int count;
+        private final List<Object>[] results;
+        private final Throwable[] panics;
+        private final AtomicInteger nextPartition = new AtomicInteger();
+        private final AtomicInteger remaining;
+        // the first partition which ends the pipeline with an error or a panic
+        private final AtomicInteger lastPartition;
+        private final Future future;
+
+        @SuppressWarnings("unchecked")
+        Partitions(Future future) {
+            this.members = collection instanceof BArray ? null : ((BTable<?, ?>) collection).values().toArray();
+            this.size = members == null ? ((BArray) collection).size() : members.length;
+            this.count = Math.max(1, Math.min(parallelism, size / MIN_PARTITION_SIZE));
+            this.results = new List[count];
+            this.panics = new Throwable[count];
+            this.remaining = new AtomicInteger(count);
+            this.lastPartition = new AtomicInteger(count);
+            this.future = future;
+        }
+
+        void run(Strand strand) {
+            int p;
+            while ((p = nextPartition.getAndIncrement()) < count) {
+                try {
+                    if (p < lastPartition.get()) {
+                        results[p] = runPartition(strand, p);
+                    }
+                } catch (Throwable t) {
+                    panics[p] = t;
+                    lastPartition.accumulateAndGet(p, Math::min);
+                }
+                if (remaining.decrementAndGet() == 0 && future != null) {
+                    future.complete(null);
+                }
+            }
+        }
+
+        private List<Object> runPartition(Strand strand, int p) {
+            int from = (int) ((long) size * p / count);
+            int to = (int) ((long) size * (p + 1) / count);
+            List<Object> partitionFrames = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                Object member = members == null ? ((BArray) collection).get(i) : members[i];
+                Object frame = operations.apply(strand, frames.create(strand, member));
+                if (frame == FusedStage.SKIP) {
+                    continue;
+                }
+                partitionFrames.add(frame);
+                if (!Frames.isFrame(frame)) {
+                    lastPartition.accumulateAndGet(p, Math::min);
+                    break;
+                }
+            }
+            return partitionFrames;
+        }
+    }
+}
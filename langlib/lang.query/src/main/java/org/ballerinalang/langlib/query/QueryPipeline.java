@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Native execution of a `_StreamPipeline`. The chain of `_StreamFunction` objects created by the desugared query
+ * expression is translated once into a chain of {@link StreamStage}s, which evaluate the clause functions directly.
+ * Consecutive row-at-a-time clauses are fused into a single {@link FusedStage}.
+ *
+ * @since 2.0.0
+ */
+class QueryPipeline {
+
+    private static final BString FRAME_TD = StringUtils.fromString("frameTd");
+    private static final BString ENGINE = StringUtils.fromString("engine");
+    private static final BString STREAM_FUNCTION = StringUtils.fromString("streamFunction");
+    private static final BString PREV_FUNC = StringUtils.fromString("prevFunc");
+
+    private static final String INIT_FUNCTION = "_InitFunction";
+    private static final String INPUT_FUNCTION = "_InputFunction";
+    private static final String NESTED_FROM_FUNCTION = "_NestedFromFunction";
+    private static final String LET_FUNCTION = "_LetFunction";
+    private static final String INNER_JOIN_FUNCTION = "_InnerJoinFunction";
+    private static final String OUTER_JOIN_FUNCTION = "_OuterJoinFunction";
+    private static final String FILTER_FUNCTION = "_FilterFunction";
+    private static final String ORDER_BY_FUNCTION = "_OrderByFunction";
+    private static final String SELECT_FUNCTION = "_SelectFunction";
+    private static final String DO_FUNCTION = "_DoFunction";
+    private static final String LIMIT_FUNCTION = "_LimitFunction";
+
+    private static final BString INPUT_FUNC = StringUtils.fromString("inputFunc");
+    private static final BString COLLECTION_FUNC = StringUtils.fromString("collectionFunc");
+    private static final BString LET_FUNC = StringUtils.fromString("letFunc");
+    private static final BString LHS_KEY_FUNCTION = StringUtils.fromString("lhsKeyFunction");
+    private static final BString NIL_FRAME = StringUtils.fromString("nilFrame");
+    private static final BString FILTER_FUNC = StringUtils.fromString("filterFunc");
+    private static final BString ORDER_KEY_FUNC = StringUtils.fromString("orderKeyFunc");
+    private static final BString SELECT_FUNC = StringUtils.fromString("selectFunc");
+    private static final BString DO_FUNC = StringUtils.fromString("doFunc");
+    private static final BString LIMIT_FUNC = StringUtils.fromString("limitFunc");
+    private static final BString IS_CONSTANT = StringUtils.fromString("isConstant");
+
+    private final StreamStage stage;
+    private final Frames frames;
+
+    private QueryPipeline(StreamStage stage, Frames frames) {
+        this.stage = stage;
+        this.frames = frames;
+    }
+
+    /**
+     * Returns the native pipeline of a `_StreamPipeline` object, creating it on first use.
+     *
+     * @param pipeline `_StreamPipeline` object
+     * @return native pipeline
+     */
+    static QueryPipeline get(BObject pipeline) {
+        Object engine = pipeline.get(ENGINE);
+        if (engine instanceof BHandle) {
+            return (QueryPipeline) ((BHandle) engine).getValue();
+        }
+        Frames frames = new Frames((BTypedesc) pipeline.get(FRAME_TD));
+        QueryPipeline queryPipeline = new QueryPipeline(createStage((BObject) pipeline.get(STREAM_FUNCTION), frames),
+                                                        frames);
+        pipeline.set(ENGINE, ValueCreator.createHandleValue(queryPipeline));
+        return queryPipeline;
+    }
+
+    Object next(Strand strand) {
+        return stage.process(strand);
+    }
+
+    void reset(Strand strand) {
+        stage.reset(strand);
+    }
+
+    /**
+     * Returns the stage which runs the clauses following the `from` clause in parallel, if there is one.
+     *
+     * @return parallel source stage, or null if the input is iterated sequentially
+     */
+    ParallelStage getParallelStage() {
+        StreamStage source = stage;
+        while (source.prev != null) {
+            source = source.prev;
+        }
+        return source instanceof ParallelStage ? (ParallelStage) source : null;
+    }
+
+    /**
+     * Returns the input of this pipeline if it is a table and each of its members is processed on its own, as in
+     * the pipeline of a `join` clause.
+     *
+     * @return input table, or null if there is no such input
+     */
+    BTable<?, ?> getInputTable() {
+        if (stage instanceof FusedStage && stage.prev instanceof InitStage) {
+            return ((InitStage) stage.prev).getTable();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the frames this pipeline produces for the given members of its input table, without reading the
+     * input itself.
+     *
+     * @param strand  current strand
+     * @param members members of the table returned by {@link #getInputTable()}
+     * @return resulting frames
+     */
+    @SuppressWarnings("unchecked")
+    List<BMap<BString, Object>> apply(Strand strand, List<?> members) {
+        List<BMap<BString, Object>> result = new ArrayList<>(members.size());
+        for (Object member : members) {
+            Object frame = ((FusedStage) stage).apply(strand, frames.create(strand, member));
+            // Like when the frames of the joined pipeline are grouped, frames that are not produced are left out
+            if (Frames.isFrame(frame)) {
+                result.add((BMap<BString, Object>) frame);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StreamStage createStage(BObject lastFunction, Frames frames) {
+        // Collect the functions from the first to the last one. A function without a native stage handles all the
+        // functions before it by itself.
+        List<BObject> functions = new ArrayList<>();
+        BObject function = lastFunction;
+        while (function != null) {
+            functions.add(0, function);
+            if (!hasNativeStage(function)) {
+                break;
+            }
+            function = (BObject) function.get(PREV_FUNC);
+        }
+
+        StreamStage stage = null;
+        for (BObject streamFunction : functions) {
+            String name = streamFunction.getType().getName();
+            switch (name) {
+                case INIT_FUNCTION:
+                    if (functions.size() > 2 && FILTER_FUNCTION.equals(functions.get(2).getType().getName())) {
+                        // `from` followed by `where`, which may be evaluated using an index of the input table
+                        stage = IndexedScanStage.create(streamFunction, functions.get(2), frames);
+                        if (stage != null) {
+                            break;
+                        }
+                    }
+                    if (functions.size() > 1 && isPartitionable(functions.get(1))) {
+                        stage = ParallelStage.create(streamFunction, frames);
+                    }
+                    if (stage == null) {
+                        stage = new InitStage(streamFunction, frames);
+                    }
+                    break;
+                case NESTED_FROM_FUNCTION:
+                    stage = new NestedFromStage(stage, streamFunction, streamFunction.get(COLLECTION_FUNC), frames);
+                    break;
+                case INNER_JOIN_FUNCTION:
+                    stage = new JoinStage(stage, streamFunction, streamFunction.get(LHS_KEY_FUNCTION), null, frames);
+                    break;
+                case OUTER_JOIN_FUNCTION:
+                    stage = new JoinStage(stage, streamFunction, streamFunction.get(LHS_KEY_FUNCTION),
+                                          (BMap<BString, Object>) streamFunction.get(NIL_FRAME), frames);
+                    break;
+                case ORDER_BY_FUNCTION:
+                    stage = new OrderByStage(stage, streamFunction.get(ORDER_KEY_FUNC));
+                    break;
+                case INPUT_FUNCTION:
+                case LET_FUNCTION:
+                case FILTER_FUNCTION:
+                case SELECT_FUNCTION:
+                case DO_FUNCTION:
+                case LIMIT_FUNCTION:
+                    if (stage instanceof OrderByStage && LIMIT_FUNCTION.equals(name) &&
+                            (Boolean) streamFunction.get(IS_CONSTANT)) {
+                        // order by followed by a constant limit only needs to keep the first `limit` frames
+                        ((OrderByStage) stage).setLimit(streamFunction.get(LIMIT_FUNC));
+                    }
+                    if (stage instanceof ParallelStage && isPartitionable(streamFunction)) {
+                        addOperation(((ParallelStage) stage).getOperations(), name, streamFunction);
+                        break;
+                    }
+                    if (!(stage instanceof FusedStage)) {
+                        stage = new FusedStage(stage);
+                    }
+                    addOperation((FusedStage) stage, name, streamFunction);
+                    break;
+                default:
+                    stage = new BalStreamStage(streamFunction);
+            }
+        }
+        return stage;
+    }
+
+    private static void addOperation(FusedStage fusedStage, String name, BObject streamFunction) {
+        switch (name) {
+            case INPUT_FUNCTION:
+                fusedStage.addMapping(streamFunction.get(INPUT_FUNC));
+                break;
+            case LET_FUNCTION:
+                fusedStage.addMapping(streamFunction.get(LET_FUNC));
+                break;
+            case SELECT_FUNCTION:
+                fusedStage.addMapping(streamFunction.get(SELECT_FUNC));
+                break;
+            case FILTER_FUNCTION:
+                fusedStage.addFilter(streamFunction.get(FILTER_FUNC));
+                break;
+            case DO_FUNCTION:
+                fusedStage.addAction(streamFunction.get(DO_FUNC));
+                break;
+            default:
+                fusedStage.addLimit(streamFunction.get(LIMIT_FUNC));
+        }
+    }
+
+    /**
+     * Indicates whether a clause can be run independently over each partition of the input. `do` and `limit`
+     * clauses depend on the frames before them, hence they run after the partitions are merged. Other clauses are
+     * only run concurrently if the desugarer marked their functions isolated.
+     */
+    private static boolean isPartitionable(BObject streamFunction) {
+        BString functionField;
+        switch (streamFunction.getType().getName()) {
+            case INPUT_FUNCTION:
+                functionField = INPUT_FUNC;
+                break;
+            case LET_FUNCTION:
+                functionField = LET_FUNC;
+                break;
+            case FILTER_FUNCTION:
+                functionField = FILTER_FUNC;
+                break;
+            case SELECT_FUNCTION:
+                functionField = SELECT_FUNC;
+                break;
+            default:
+                return false;
+        }
+        BFunctionPointer<?, ?> function = (BFunctionPointer<?, ?>) streamFunction.get(functionField);
+        return SymbolFlags.isFlagOn(((FunctionType) function.getType()).getFlags(), SymbolFlags.ISOLATED);
+    }
+
+    private static boolean hasNativeStage(BObject streamFunction) {
+        switch (streamFunction.getType().getName()) {
+            case INIT_FUNCTION:
+            case INPUT_FUNCTION:
+            case NESTED_FROM_FUNCTION:
+            case LET_FUNCTION:
+            case INNER_JOIN_FUNCTION:
+            case OUTER_JOIN_FUNCTION:
+            case FILTER_FUNCTION:
+            case ORDER_BY_FUNCTION:
+            case SELECT_FUNCTION:
+            case DO_FUNCTION:
+            case LIMIT_FUNCTION:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+/**
+ * A stage of the native query pipeline. Stages pull frames from their previous stage, one at a time.
+ * {@link #process(Strand)} returns the next frame, an error, or null when there are no more frames.
+ *
+ * @since 2.0.0
+ */
+abstract class StreamStage {
+
+    final StreamStage prev;
+
+    StreamStage(StreamStage prev) {
+        this.prev = prev;
+    }
+
+    abstract Object process(Strand strand);
+
+    void reset(Strand strand) {
+        if (prev != null) {
+            prev.reset(strand);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object call(Strand strand, Object function, Object arg) {
+        return ((BFunctionPointer<Object[], Object>) function).call(new Object[]{strand, arg, true});
+    }
+}
@@ -234,3 +234,17 @@ public isolated function nextKey(table<MapType> key<int> t) returns int = @java:
     'class: "org.ballerinalang.langlib.table.NextKey",
     name: "nextKey"
 } external;
+
+# Adds an index on a field of the members of a table.
+#
+# The index is kept up to date as members are added to and removed from the table, and is used by
+# query expressions that filter or join on the field. Only a readonly field, or a field of a table
+# whose members are readonly, can be indexed.
+#
+# + t - the table
+# + fieldName - the name of the field to be indexed
+# + sorted - true if the index should also support `<`, `<=`, `>` and `>=` on an ordered field
+public isolated function addIndex(table<MapType> t, string fieldName, boolean sorted = false) = @java:Method {
+    'class: "org.ballerinalang.langlib.table.AddIndex",
+    name: "addIndex"
+} external;
@@ -24,6 +24,8 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.JsonParser;
 
+import java.nio.charset.StandardCharsets;
+
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
 
 /**
@@ -40,13 +42,29 @@ public class FromJsonStringWithType {
         try {
             if (str.equals("null")) {
                 return FromJsonWithType.fromJsonWithType(null, t);
+            } else if (hasUnpairedSurrogate(str)) {
+                // An unpaired surrogate cannot be encoded in UTF-8, so such strings are parsed as characters.
+                return FromJsonWithType.fromJsonWithType(JsonParser.parse(str), t);
             } else {
-                Object jsonFromString = JsonParser.parse(str);
-                return FromJsonWithType.fromJsonWithType(jsonFromString, t);
+                // Bind directly to the target type, falling back to converting the parsed json where needed.
+                return JsonParser.parse(str.getBytes(StandardCharsets.UTF_8), t,
+                                        json -> FromJsonWithType.fromJsonWithType(json, t));
             }
         } catch (BError e) {
             return ErrorCreator.createError(VALUE_LANG_LIB_CONVERSION_ERROR,
                                             StringUtils.fromString(e.getMessage()));
         }
     }
+
+    private static boolean hasUnpairedSurrogate(String str) {
+        for (int i = 0, length = str.length(); i < length; i++) {
+            char c = str.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
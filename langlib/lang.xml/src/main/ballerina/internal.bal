@@ -36,3 +36,39 @@ isolated function externNext(XMLIterator iterator) returns record {| ItemType va
     'class: "org.ballerinalang.langlib.xml.Next",
     name: "next"
 } external;
+
+# Represent the iterator used to construct the stream returned by `streamElements`.
+class XMLElementStreamIterator {
+
+    private final string|byte[]|stream<byte[], error?> source;
+    private final string[] path;
+
+    public isolated function init(string|byte[]|stream<byte[], error?> source, string[] path) {
+        self.source = source;
+        self.path = path;
+    }
+
+    # Return the next matching element, nil if there are no more matching elements or an error
+    # if the document is not well-formed.
+    # + return - iterator result
+    public isolated function next() returns record {| Element value; |}|error? {
+        return externNextElement(self);
+    }
+
+    # Release the resources held by the underlying XML reader.
+    # + return - an error if the reader could not be closed
+    public isolated function close() returns error? {
+        return externCloseElementStream(self);
+    }
+}
+
+isolated function externNextElement(XMLElementStreamIterator iterator) returns record {| Element value; |}|error? =
+@java:Method {
+    'class: "org.ballerinalang.langlib.xml.StreamElements",
+    name: "next"
+} external;
+
+isolated function externCloseElementStream(XMLElementStreamIterator iterator) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.xml.StreamElements",
+    name: "close"
+} external;
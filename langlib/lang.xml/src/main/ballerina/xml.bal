@@ -373,6 +373,28 @@ public isolated function fromString(string s) returns xml|error = @java:Method {
     name: "fromString"
 } external;
 
+# Returns a stream of the elements of an XML document that are at a given path.
+#
+# The document is parsed incrementally as the stream is iterated, and only the element
+# that is returned is constructed as an xml value. When the document is given as a stream
+# of byte chunks, such as the one read from a file or a socket, only the current chunk and
+# the current element are held in memory, which allows processing documents that are too
+# large to be held in memory. A document given as a string or as bytes is already in memory.
+#
+# Each step of the path is the expanded name of an element, i.e. `{namespace-uri}local-name`,
+# or just `local-name` for an element that is not in a namespace. The local name of a step
+# can be `*` to match any element in the namespace, and a step that is just `*` matches any
+# element. The first step is matched against the root element of the document.
+#
+# + source - an XML document as a string, as bytes or as a stream of byte chunks; the stream is
+#   closed when the returned stream is completed or closed
+# + path - the expanded names of the elements from the root element down to the elements to select
+# + return - a stream of the selected elements, which is completed with an error if the document
+#   is not well-formed
+public isolated function streamElements(string|byte[]|stream<byte[], error?> source, string... path) returns stream<Element, error?> {
+    return new stream<Element, error?>(new XMLElementStreamIterator(source, path));
+}
+
 # Selects all the items in a sequence that are of type `xml:Text`.
 #
 # + x - the xml value
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.xml;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.XmlElementStreamReader;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+
+/**
+ * Native implementation of lang.xml.XMLElementStreamIterator:next() and close().
+ *
+ * @since 2.0.0
+ */
+public class StreamElements {
+
+    private static final String READER = "&reader&";
+    private static final String CHUNKS = "&chunks&";
+    private static final BString SOURCE = StringUtils.fromString("source");
+    private static final BString PATH = StringUtils.fromString("path");
+
+    public static Object next(BObject iterator) {
+        try {
+            XmlElementStreamReader reader = (XmlElementStreamReader) iterator.getNativeData(READER);
+            if (reader == null) {
+                reader = createReader(iterator);
+                iterator.addNativeData(READER, reader);
+            }
+            BXml element = reader.next();
+            if (element == null) {
+                closeReader(iterator, reader);
+                return null;
+            }
+            return ValueCreator.createRecordValue(ValueCreator.createMapValue(
+                    PredefinedTypes.XML_ITR_NEXT_RETURN_ELEMENT_TYPE), element);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    public static Object close(BObject iterator) {
+        XmlElementStreamReader reader = (XmlElementStreamReader) iterator.getNativeData(READER);
+        if (reader == null) {
+            return null;
+        }
+        try {
+            closeReader(iterator, reader);
+            return null;
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    private static void closeReader(BObject iterator, XmlElementStreamReader reader) {
+        try {
+            reader.close();
+        } finally {
+            // Closing the xml reader does not close the source it reads from
+            ByteChunkInputStream chunks = (ByteChunkInputStream) iterator.getNativeData(CHUNKS);
+            if (chunks != null) {
+                chunks.close();
+            }
+        }
+    }
+
+    private static XmlElementStreamReader createReader(BObject iterator) {
+        Object source = iterator.get(SOURCE);
+        String[] path = ((BArray) iterator.get(PATH)).getStringArray();
+        if (source instanceof BString) {
+            return new XmlElementStreamReader(new StringReader(((BString) source).getValue()), path);
+        }
+        if (source instanceof BStream) {
+            ByteChunkInputStream chunks = new ByteChunkInputStream(((BStream) source).getIteratorObj());
+            iterator.addNativeData(CHUNKS, chunks);
+            return new XmlElementStreamReader(chunks, path);
+        }
+        // The parser detects the encoding of a byte source from its XML declaration
+        return new XmlElementStreamReader(new ByteArrayInputStream(((BArray) source).getBytes()), path);
+    }
+
+    /**
+     * Reads the bytes of a {@code stream<byte[], error?>} one chunk at a time, so that only the current chunk is held
+     * in memory. An error returned by the stream is thrown as is.
+     */
+    private static class ByteChunkInputStream extends InputStream {
+
+        private static final String NEXT = "next";
+        private static final String CLOSE = "close";
+        private static final BString VALUE = StringUtils.fromString("value");
+
+        private final BObject chunkIterator;
+        private byte[] chunk = new byte[0];
+        private int position;
+        private boolean done;
+
+        ByteChunkInputStream(BObject chunkIterator) {
+            this.chunkIterator = chunkIterator;
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+            return chunk[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, chunk.length - position);
+            System.arraycopy(chunk, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return chunk.length - position;
+        }
+
+        @Override
+        public void close() {
+            if (done) {
+                return;
+            }
+            done = true;
+            chunk = new byte[0];
+            position = 0;
+            for (MethodType method : chunkIterator.getType().getMethods()) {
+                if (CLOSE.equals(method.getName())) {
+                    Object result = chunkIterator.call(Scheduler.getStrand(), CLOSE);
+                    if (result instanceof BError) {
+                        throw (BError) result;
+                    }
+                    return;
+                }
+            }
+        }
+
+        // Moves on to the next non empty chunk when the current one is consumed and returns false at the end
+        private boolean fill() {
+            while (position == chunk.length) {
+                if (done) {
+                    return false;
+                }
+                Object result = chunkIterator.call(Scheduler.getStrand(), NEXT);
+                if (result == null) {
+                    done = true;
+                    return false;
+                }
+                if (result instanceof BError) {
+                    done = true;
+                    throw (BError) result;
+                }
+                chunk = ((BArray) ((BMap<?, ?>) result).get(VALUE)).getBytes();
+                position = 0;
+            }
+            return true;
+        }
+    }
+}
@@ -570,7 +570,10 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSort11",
                 "testReadOnlyArrayFilter",
+                "testMapWithPartlyYieldingFunction",
+                "testFilterPanicAfterYield",
                 "testTupleFilter",
                 "testTupleReverse"
         };
@@ -207,7 +207,8 @@ public class LangLibMapTest {
                 "testOpenRecordToArray",
                 "testMapOfUnionToArray",
                 "testRecordWithSameTypeFieldsToArray",
-                "testReadOnlyMapFilter"
+                "testReadOnlyMapFilter",
+                "testIterationWithModification"
         };
     }
 }
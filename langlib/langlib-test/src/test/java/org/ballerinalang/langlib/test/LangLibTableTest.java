@@ -452,4 +452,14 @@ public class LangLibTableTest {
     public void testReadOnlyTableFilter() {
         BRunUtil.invoke(compileResult, "testReadOnlyTableFilter");
     }
+
+    @Test
+    public void testAddIndex() {
+        BRunUtil.invoke(compileResult, "testAddIndex");
+    }
+
+    @Test
+    public void testAddIndexOnMutableField() {
+        BRunUtil.invoke(compileResult, "testAddIndexOnMutableField");
+    }
 }
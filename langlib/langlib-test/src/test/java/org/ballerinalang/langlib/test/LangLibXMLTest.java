@@ -316,6 +316,11 @@ public class LangLibXMLTest {
         BRunUtil.invoke(compileResult, "fromStringTest");
     }
 
+    @Test
+    public void testStreamElements() {
+        BRunUtil.invoke(compileResult, "testStreamElements");
+    }
+
     @Test
     public void testXmlSubtypeFillerValue() {
         BRunUtil.invoke(compileResult, "testXmlSubtypeFillerValue");
@@ -1182,6 +1182,48 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSort11() {
+    float[] arr = [3.5, -0.0, 0.0 / 0.0, 0.0, -1.0, 0.0, -0.0, 5.0];
+
+    float[] sortedArr = arr.sort();
+
+    assertValueEquality(sortedArr[0], -1.0);
+    assertTrue(1.0 / sortedArr[1] < 0.0);
+    assertTrue(1.0 / sortedArr[2] > 0.0);
+    assertTrue(1.0 / sortedArr[3] > 0.0);
+    assertTrue(1.0 / sortedArr[4] < 0.0);
+    assertValueEquality(sortedArr[5], 3.5);
+    assertValueEquality(sortedArr[6], 5.0);
+    assertTrue(sortedArr[7].isNaN());
+
+    float[] sortedArr2 = arr.sort(array:DESCENDING);
+
+    assertValueEquality(sortedArr2[0], 5.0);
+    assertValueEquality(sortedArr2[1], 3.5);
+    assertTrue(1.0 / sortedArr2[2] < 0.0);
+    assertTrue(1.0 / sortedArr2[3] > 0.0);
+    assertTrue(1.0 / sortedArr2[4] > 0.0);
+    assertTrue(1.0 / sortedArr2[5] < 0.0);
+    assertValueEquality(sortedArr2[6], -1.0);
+    assertTrue(sortedArr2[7].isNaN());
+
+    string[] arr2 = ["b", "\u{1F600}", "\u{FFFD}", "", "a", "ab"];
+
+    assertValueEquality(arr2.sort(), ["", "a", "ab", "b", "\u{FFFD}", "\u{1F600}"]);
+    assertValueEquality(arr2.sort(array:DESCENDING), ["\u{1F600}", "\u{FFFD}", "b", "ab", "a", ""]);
+
+    boolean[] arr3 = [true, false, true, false];
+
+    assertValueEquality(arr3.sort(), [false, false, true, true]);
+    assertValueEquality(arr3.sort(array:DESCENDING), [true, true, false, false]);
+
+    readonly & int[] arr4 = [3, 1, 2];
+    int[]|error res = trap arr4.sort();
+
+    assertTrue(res is error);
+    assertValueEquality(arr4, [3, 1, 2]);
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2,  "abc", 2.4];
     anydata[] y = tupleArr.reverse();
@@ -1278,6 +1320,33 @@ function testAsyncFpArgsWithArrays() returns [int, int[]] {
     return [reduce, filter];
 }
 
+function testMapWithPartlyYieldingFunction() {
+    int[] numbers = [1, 2, 3, 4, 5, 6];
+    int[] result = numbers.map(function (int i) returns int {
+        if (i % 2 == 0) {
+            future<int> f1 = start getRandomNumber(i);
+            return checkpanic wait f1;
+        }
+        return i;
+    });
+    assertValueEquality([1, 4, 3, 6, 5, 8], result);
+}
+
+function testFilterPanicAfterYield() {
+    int[] numbers = [1, 2, 3, 4];
+    int[]|error result = trap numbers.filter(function (int i) returns boolean {
+        future<int> f1 = start getRandomNumber(i);
+        int a = checkpanic wait f1;
+        if (a == 5) {
+            panic error("Invalid number: " + i.toString());
+        }
+        return true;
+    });
+    assertTrue(result is error);
+    error err = <error> result;
+    assertValueEquality("Invalid number: 3", err.message());
+}
+
 function testReadOnlyArrayFilter() {
     int[] & readonly numbers = [0, 1, 2, 3, 4, 5, 6, 7, 8, 9];
     int[] evenNumbers = numbers.filter(val => val % 2 == 0);
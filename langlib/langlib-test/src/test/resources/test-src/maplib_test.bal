@@ -320,3 +320,46 @@ function testReadOnlyMapFilter() {
     });
     assertFalse(passed.isReadOnly());
 }
+
+type Scores record {|
+    int maths;
+    int...;
+|};
+
+function testIterationWithModification() {
+    map<int> m = {a: 1, b: 2, c: 3};
+    int[] values = [];
+    foreach int v in m {
+        if v == 1 {
+            m["b"] = 20;
+            m["d"] = 4;
+            _ = m.remove("c");
+        }
+        values.push(v);
+    }
+    assert(values, [1, 20, 3]);
+    assert(m, {a: 1, b: 20, d: 4});
+
+    foreach int i in 0 ..< 10 {
+        foreach int v in m {
+            break;
+        }
+    }
+    m["e"] = 5;
+    int sum = 0;
+    foreach int v in m {
+        sum += v;
+    }
+    assert(sum, 30);
+
+    Scores scores = {maths: 80, science: 70};
+    values = [];
+    foreach int v in scores {
+        if v == 80 {
+            scores["art"] = 60;
+        }
+        values.push(v);
+    }
+    assert(values, [80, 70]);
+    assert(scores.length(), 3);
+}
@@ -714,6 +714,59 @@ function testGetKeysFromUnionConstrained() returns any[] {
     return tab.keys();
 }
 
+type Order record {|
+    readonly int id;
+    readonly string customer;
+    readonly decimal amount;
+    string status;
+|};
+
+function testAddIndex() {
+    table<Order> key(id) orders = table [
+        {id: 1, customer: "Anne", amount: 10.5, status: "open"},
+        {id: 2, customer: "Bob", amount: 20, status: "open"},
+        {id: 3, customer: "Anne", amount: 5, status: "closed"}
+    ];
+    orders.addIndex("customer");
+    orders.addIndex("amount", true);
+    orders.add({id: 4, customer: "Anne", amount: 20.00, status: "open"});
+    _ = orders.remove(1);
+    orders.put({id: 3, customer: "Carl", amount: 5, status: "open"});
+
+    int[] ordersOfAnne = from var o in orders where o.customer == "Anne" select o.id;
+    assertEquals(ordersOfAnne, [4]);
+    int[] largeOrders = from var o in orders where o.amount >= 20d select o.id;
+    assertEquals(largeOrders, [2, 4]);
+    int[] smallOrders = from var o in orders where o.amount < 20d select o.id;
+    assertEquals(smallOrders, [3]);
+
+    table<Order> key(id) copy = orders.clone();
+    copy.removeAll();
+    copy.add({id: 5, customer: "Anne", amount: 1, status: "open"});
+    int[] copiedOrdersOfAnne = from var o in copy where o.customer == "Anne" select o.id;
+    assertEquals(copiedOrdersOfAnne, [5]);
+    ordersOfAnne = from var o in orders where o.customer == "Anne" select o.id;
+    assertEquals(ordersOfAnne, [4]);
+}
+
+function testAddIndexOnMutableField() {
+    table<Order> key(id) orders = table [{id: 1, customer: "Anne", amount: 10.5, status: "open"}];
+    error? result = trap orders.addIndex("status");
+    assertTrue(result is error);
+    if (result is error) {
+        assertEquals(result.detail()["message"], "cannot add an index on field 'status' since it is not a " +
+            "readonly field");
+    }
+
+    result = trap orders.addIndex("missing");
+    assertTrue(result is error);
+
+    table<Person & readonly> people = table [{name: "Anne", age: 30}];
+    people.addIndex("age", true);
+    int[] ages = from var p in people where p.age > 20 select p.age;
+    assertEquals(ages, [30]);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(boolean actual) {
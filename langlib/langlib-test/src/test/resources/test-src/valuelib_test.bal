@@ -1300,6 +1300,96 @@ function testFromJsonStringWithTypeWithInferredArgument() {
     assert(a is error, true);
 }
 
+type OrderLine record {|
+    string item;
+    int quantity;
+    decimal price;
+|};
+
+type Order record {
+    int id;
+    string customer;
+    float total;
+    OrderLine[] lines;
+    int[] tags;
+    map<string> attributes;
+    string? note;
+    boolean express = false;
+    int|string reference?;
+};
+
+function testFromJsonStringWithTypeNestedRecord() {
+    string str = "{\"id\":1001, \"customer\":\"Anne\", \"total\":25, \"lines\":[{\"item\":\"pen\", " +
+        "\"quantity\":2, \"price\":1.5}, {\"item\":\"book\", \"quantity\":1, \"price\":22}], \"tags\":[3, 5], " +
+        "\"attributes\":{\"gift\":\"yes\"}, \"note\":null, \"channel\":\"web\"}";
+    Order purchase = checkpanic str.fromJsonStringWithType(Order);
+    assert(purchase.id, 1001);
+    assert(purchase.total, 25.0);
+    assert(purchase.lines.length(), 2);
+    assert(purchase.lines[0].price, 1.5d);
+    assert(purchase.lines[1].price, 22d);
+    assert(purchase.tags, [3, 5]);
+    assert(purchase.attributes["gift"], "yes");
+    assert(purchase.note, ());
+    assert(purchase.express, false);
+    assert(purchase["channel"], "web");
+    assert(purchase is Order, true);
+    assert(purchase.lines is OrderLine[], true);
+
+    string withUnionField = "{\"id\":1, \"customer\":\"Bob\", \"total\":1.5, \"lines\":[], \"tags\":[], " +
+        "\"attributes\":{}, \"note\":\"leave at door\", \"express\":true, \"reference\":\"A-12\"}";
+    Order purchase2 = checkpanic withUnionField.fromJsonStringWithType(Order);
+    assert(purchase2.note, "leave at door");
+    assert(purchase2.express, true);
+    assert(purchase2?.reference, "A-12");
+
+    string missingField = "{\"id\":1, \"customer\":\"Bob\", \"total\":1.5, \"lines\":[], " +
+        "\"attributes\":{}, \"note\":null}";
+    Order|error purchase3 = missingField.fromJsonStringWithType(Order);
+    assert(purchase3 is error, true);
+
+    string extraField = "{\"item\":\"pen\", \"quantity\":2, \"price\":1.5, \"colour\":\"red\"}";
+    OrderLine|error line = extraField.fromJsonStringWithType(OrderLine);
+    assert(line is error, true);
+
+    string invalidQuantity = "{\"item\":\"pen\", \"quantity\":\"two\", \"price\":1.5}";
+    OrderLine|error line2 = invalidQuantity.fromJsonStringWithType(OrderLine);
+    assert(line2 is error, true);
+}
+
+type RetryConfig record {|
+    int count;
+    decimal interval;
+|};
+
+isolated function defaultRetryConfig() returns RetryConfig {
+    return checkpanic "{\"count\":3, \"interval\":0.5}".fromJsonStringWithType(RetryConfig);
+}
+
+type Endpoint record {
+    string url;
+    RetryConfig retry = defaultRetryConfig();
+    int timeout;
+};
+
+function testFromJsonStringWithTypeNestedParseInDefault() {
+    string str = "[{\"url\":\"http://a.com\", \"timeout\":10}, {\"url\":\"http://b.com\", \"timeout\":20}, " +
+        "{\"url\":\"http://c.com\", \"timeout\":30, \"retry\":{\"count\":1, \"interval\":2}}]";
+    Endpoint[] endpoints = checkpanic str.fromJsonStringWithType(Endpoint[]);
+    assert(endpoints.length(), 3);
+    assert(endpoints[0].url, "http://a.com");
+    assert(endpoints[0].timeout, 10);
+    assert(endpoints[0].retry.count, 3);
+    assert(endpoints[0].retry.interval, 0.5d);
+    assert(endpoints[1].url, "http://b.com");
+    assert(endpoints[1].timeout, 20);
+    assert(endpoints[1].retry.count, 3);
+    assert(endpoints[1].retry.interval, 0.5d);
+    assert(endpoints[2].url, "http://c.com");
+    assert(endpoints[2].retry.count, 1);
+    assert(endpoints[2].retry.interval, 2d);
+}
+
 /////////////////////////// Tests for `toJson()` ///////////////////////////
 
 function testToJsonWithRecord1() {
@@ -881,3 +881,107 @@ function fromStringTest() {
         panic error("Assertion error: not a comment");
     }
 }
+
+function testStreamElements() {
+    string doc = "<catalog xmlns:ns=\"http://ballerina.io/books\">" +
+                 "<book id=\"1\"><title>Title 1</title><book id=\"nested\"/></book>" +
+                 "<shelf><book id=\"not-at-path\"/></shelf>" +
+                 "<ns:book id=\"2\"><title>Title 2</title></ns:book>" +
+                 "<book id=\"3\"><!-- comment --><title>Title 3</title></book>" +
+                 "</catalog>";
+
+    stream<xml:Element, error?> books = xml:streamElements(doc, "catalog", "book");
+    string[] ids = [];
+    error? result = books.forEach(function (xml:Element book) {
+        ids.push(checkpanic book.id);
+    });
+    assertEquals(result is (), true);
+    assertEquals(ids, ["1", "3"]);
+
+    stream<xml:Element, error?> nsBooks = xml:streamElements(doc.toBytes(), "catalog",
+                                                             "{http://ballerina.io/books}book");
+    record {| xml:Element value; |}|error? next = nsBooks.next();
+    if !(next is record {| xml:Element value; |}) {
+        panic error("Assertion error: expected an element");
+    }
+    assertEquals(next.value.getName(), "{http://ballerina.io/books}book");
+    assertEquals(checkpanic next.value.id, "2");
+    assertEquals(next.value.data(), "Title 2");
+    assertEquals(nsBooks.next() is (), true);
+
+    xml:Element[] titles = [];
+    stream<xml:Element, error?> allTitles = xml:streamElements(doc, "catalog", "*", "title");
+    error? titleResult = allTitles.forEach(function (xml:Element title) {
+        titles.push(title);
+    });
+    assertEquals(titleResult is (), true);
+    assertEquals(titles.length(), 3);
+    assertEquals(titles[2].data(), "Title 3");
+
+    stream<xml:Element, error?> malformed = xml:streamElements("<catalog><book/><book></catalog>", "catalog",
+                                                               "book");
+    record {| xml:Element value; |}|error? first = malformed.next();
+    assertEquals(first is record {| xml:Element value; |}, true);
+    record {| xml:Element value; |}|error? second = malformed.next();
+    assertEquals(second is error, true);
+    assertEquals(malformed.close() is (), true);
+
+    // chunks that split the elements, and the multi-byte characters, of the document
+    string chunkedDoc = "<catalog><book id=\"1\">Ünïcödé</book><book id=\"2\"/></catalog>";
+    ByteChunks chunks = new (chunkedDoc.toBytes(), 3);
+    stream<byte[], error?> chunkStream = new (chunks);
+    stream<xml:Element, error?> chunkedBooks = xml:streamElements(chunkStream, "catalog", "book");
+    xml:Element[] chunkedResult = [];
+    error? chunkedError = chunkedBooks.forEach(function (xml:Element book) {
+        chunkedResult.push(book);
+    });
+    assertEquals(chunkedError is (), true);
+    assertEquals(chunkedResult.length(), 2);
+    assertEquals(chunkedResult[0].data(), "Ünïcödé");
+    assertEquals(checkpanic chunkedResult[1].id, "2");
+    assertEquals(chunks.closed, true);
+
+    // an error from the chunk stream completes the element stream with that error
+    ByteChunks failing = new ("<catalog><book/>".toBytes(), 64, error("read failed"));
+    stream<byte[], error?> failingStream = new (failing);
+    stream<xml:Element, error?> failingBooks = xml:streamElements(failingStream, "catalog", "book");
+    assertEquals(failingBooks.next() is record {| xml:Element value; |}, true);
+    record {| xml:Element value; |}|error? failed = failingBooks.next();
+    if !(failed is error) {
+        panic error("Assertion error: expected an error");
+    }
+    assertEquals(failed.message(), "read failed");
+    assertEquals(failingBooks.close() is (), true);
+    assertEquals(failing.closed, true);
+}
+
+class ByteChunks {
+    private final byte[] bytes;
+    private final int chunkSize;
+    private final error? err;
+    private int offset = 0;
+    boolean closed = false;
+
+    function init(byte[] bytes, int chunkSize, error? err = ()) {
+        self.bytes = bytes;
+        self.chunkSize = chunkSize;
+        self.err = err;
+    }
+
+    public isolated function next() returns record {| byte[] value; |}|error? {
+        if self.offset >= self.bytes.length() {
+            return self.err;
+        }
+        int end = self.offset + self.chunkSize;
+        if end > self.bytes.length() {
+            end = self.bytes.length();
+        }
+        byte[] chunk = self.bytes.slice(self.offset, end);
+        self.offset = end;
+        return {value: chunk};
+    }
+
+    public isolated function close() returns error? {
+        self.closed = true;
+    }
+}
@@ -35,6 +35,7 @@ public enum JVMValueType {
     J_OBJECT("java.lang.Object"),
     BMPSTRING("io.ballerina.runtime.internal.values.BmpStringValue"),
     NONBMPSTRING("io.ballerina.runtime.internal.values.NonBmpStringValue"),
+    CONCATSTRING("io.ballerina.runtime.internal.values.ConcatStringValue"),
     DECIMAL("io.ballerina.runtime.internal.values.DecimalValue"),
     OBJECT_VALUE("io.ballerina.runtime.internal.values.ObjectValue"),
     ARRAY_VALUE("io.ballerina.runtime.internal.values.ArrayValue"),
@@ -141,6 +141,7 @@ public class VariableFactory {
             return new BDecimal(context, varName, value);
         } else if (valueTypeName.equals(JVMValueType.BMPSTRING.getString())
                 || valueTypeName.equals(JVMValueType.NONBMPSTRING.getString())
+                || valueTypeName.equals(JVMValueType.CONCATSTRING.getString())
                 || valueTypeName.equals(JVMValueType.J_STRING.getString())) {
             return new BString(context, varName, value);
         } else if (valueTypeName.contains(JVMValueType.ARRAY_VALUE.getString())) {
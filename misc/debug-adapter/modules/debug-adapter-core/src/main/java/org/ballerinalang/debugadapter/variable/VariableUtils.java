@@ -36,6 +36,7 @@ public class VariableUtils {
     public static final String FIELD_TYPE = "type";
     public static final String FIELD_TYPENAME = "typeName";
     public static final String FIELD_VALUE = "value";
+    public static final String FIELD_FLATTENED = "flattened";
     private static final String FIELD_CONSTRAINT = "constraint";
     private static final String METHOD_STRINGVALUE = "stringValue";
     public static final String UNKNOWN_VALUE = "unknown";
@@ -77,6 +78,11 @@ public class VariableUtils {
                 return UNKNOWN_VALUE;
             }
             ObjectReference stringRef = (ObjectReference) stringValue;
+            if (stringRef.referenceType().name().equals(JVMValueType.CONCATSTRING.getString())) {
+                // A string created by concatenation only has a value once it is flattened, e.g. by hashing it
+                Optional<Value> flattened = getFieldValue(stringRef, FIELD_FLATTENED);
+                return flattened.map(VariableUtils::getStringFrom).orElse(UNKNOWN_VALUE);
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMPSTRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NONBMPSTRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
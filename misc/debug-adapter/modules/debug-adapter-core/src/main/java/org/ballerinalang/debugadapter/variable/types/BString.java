@@ -20,9 +20,11 @@ import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.variable.BSimpleVariable;
 import org.ballerinalang.debugadapter.variable.BVariableType;
+import org.ballerinalang.debugadapter.variable.JVMValueType;
 
 import static org.ballerinalang.debugadapter.variable.VariableUtils.UNKNOWN_VALUE;
 import static org.ballerinalang.debugadapter.variable.VariableUtils.getStringFrom;
+import static org.ballerinalang.debugadapter.variable.VariableUtils.getStringValue;
 
 /**
  * Ballerina string variable type.
@@ -36,6 +38,10 @@ public class BString extends BSimpleVariable {
     @Override
     public String computeValue() {
         try {
+            // Strings created by concatenation do not have a value field until they are flattened
+            if (jvmValue.type().name().equals(JVMValueType.CONCATSTRING.getString())) {
+                return getStringValue(context, jvmValue);
+            }
             return getStringFrom(jvmValue);
         } catch (Exception ignored) {
             return UNKNOWN_VALUE;
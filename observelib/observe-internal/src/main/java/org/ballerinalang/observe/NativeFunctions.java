@@ -61,6 +61,7 @@ public class NativeFunctions {
             selectedProvider.init();
             DefaultMetricRegistry.setInstance(new MetricRegistry(selectedProvider));
             ObserveUtils.addObserver(new BallerinaMetricsObserver());
+            ObserveUtils.registerSchedulerMetrics();
             return null;
         } catch (BError e) {
             return e;
@@ -47,7 +47,6 @@ import io.ballerina.runtime.internal.util.exceptions.BLangRuntimeException;
 import io.ballerina.runtime.internal.values.AbstractObjectValue;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
-import io.ballerina.runtime.internal.values.BmpStringValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.ErrorValue;
 import io.ballerina.runtime.internal.values.FPValue;
@@ -55,7 +54,6 @@ import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.HandleValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
-import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.StreamValue;
 import io.ballerina.runtime.internal.values.TypedescValue;
@@ -169,10 +167,8 @@ public class BRunUtil {
                 paramTypes[i] = ObjectValue.class;
             } else if (arg instanceof XmlValue) {
                 paramTypes[i] = XmlValue.class;
-            } else if (arg instanceof BmpStringValue) {
-                paramTypes[i] = BmpStringValue.class;
-            } else if (arg instanceof NonBmpStringValue) {
-                paramTypes[i] = NonBmpStringValue.class;
+            } else if (arg instanceof io.ballerina.runtime.api.values.BString) {
+                paramTypes[i] = io.ballerina.runtime.api.values.BString.class;
             } else if (arg instanceof ArrayValue) {
                 paramTypes[i] = ArrayValue.class;
             } else if (arg instanceof Integer) {
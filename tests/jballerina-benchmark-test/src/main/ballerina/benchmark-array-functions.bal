@@ -0,0 +1,126 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+const int SORT_ARRAY_SIZE = 10000000;
+const int STRING_SORT_ARRAY_SIZE = 1000000;
+
+public function benchmarkArrayMap(int warmupCount, int benchmarkCount) returns int {
+    int[] warmupValues = createIntArray(warmupCount);
+    int[] warmupResult = warmupValues.map(doubleValue);
+    int[] values = createIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    int[] result = values.map(doubleValue);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkArrayFilter(int warmupCount, int benchmarkCount) returns int {
+    int[] warmupValues = createIntArray(warmupCount);
+    int[] warmupResult = warmupValues.filter(isEven);
+    int[] values = createIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    int[] result = values.filter(isEven);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkArrayMapFilterReduce(int warmupCount, int benchmarkCount) returns int {
+    int[] warmupValues = createIntArray(warmupCount);
+    int warmupSum = warmupValues.map(doubleValue).filter(isEven).reduce(sum, 0);
+    int[] values = createIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    int total = values.map(doubleValue).filter(isEven).reduce(sum, 0);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkIntArraySort(int warmupCount, int benchmarkCount) returns int {
+    int[] warmupResult = createRandomIntArray(warmupCount).sort();
+    int[] values = createRandomIntArray(SORT_ARRAY_SIZE);
+    int startTime = nanoTime();
+    int[] result = values.sort();
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkFloatArraySort(int warmupCount, int benchmarkCount) returns int {
+    float[] warmupResult = createRandomFloatArray(warmupCount).sort(array:DESCENDING);
+    float[] values = createRandomFloatArray(SORT_ARRAY_SIZE);
+    int startTime = nanoTime();
+    float[] result = values.sort(array:DESCENDING);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkByteArraySort(int warmupCount, int benchmarkCount) returns int {
+    byte[] warmupResult = createRandomByteArray(warmupCount).sort();
+    byte[] values = createRandomByteArray(SORT_ARRAY_SIZE);
+    int startTime = nanoTime();
+    byte[] result = values.sort();
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStringArraySort(int warmupCount, int benchmarkCount) returns int {
+    string[] warmupResult = createRandomStringArray(warmupCount).sort();
+    string[] values = createRandomStringArray(STRING_SORT_ARRAY_SIZE);
+    int startTime = nanoTime();
+    string[] result = values.sort();
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkIntArraySortWithKey(int warmupCount, int benchmarkCount) returns int {
+    int[] warmupResult = createRandomIntArray(warmupCount).sort(array:ASCENDING, negate);
+    int[] values = createRandomIntArray(SORT_ARRAY_SIZE);
+    int startTime = nanoTime();
+    int[] result = values.sort(array:ASCENDING, negate);
+    return (nanoTime() - startTime);
+}
+
+function createIntArray(int size) returns int[] {
+    int[] values = [];
+    foreach int i in 0 ..< size {
+        values[i] = i;
+    }
+    return values;
+}
+
+// Linear congruential generator, so that every run sorts the same unordered values
+function createRandomIntArray(int size) returns int[] {
+    int[] values = [];
+    int seed = 42;
+    foreach int i in 0 ..< size {
+        seed = (seed * 1103515245 + 12345) % 2147483648;
+        values[i] = seed;
+    }
+    return values;
+}
+
+function createRandomFloatArray(int size) returns float[] {
+    return createRandomIntArray(size).map(value => <float>value / 1000.0);
+}
+
+function createRandomByteArray(int size) returns byte[] {
+    return createRandomIntArray(size).map(value => <byte>(value % 256));
+}
+
+function createRandomStringArray(int size) returns string[] {
+    return createRandomIntArray(size).map(value => value.toString());
+}
+
+isolated function negate(int value) returns int => -value;
+
+isolated function doubleValue(int value) returns int => value * 2;
+
+isolated function isEven(int value) returns boolean => value % 2 == 0;
+
+isolated function sum(int total, int value) returns int => total + value;
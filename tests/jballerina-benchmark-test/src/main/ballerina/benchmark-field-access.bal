@@ -0,0 +1,84 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type FieldAccessPoint record {|
+    int x;
+    int y;
+    float weight;
+|};
+
+class FieldAccessCounter {
+    int count = 0;
+    float total = 0.0;
+
+    function add(int value, float weight) {
+        self.count += 1;
+        self.total += <float> value * weight;
+    }
+
+    function getCount() returns int {
+        return self.count;
+    }
+}
+
+public function benchmarkRecordFieldAccess(int warmupCount, int benchmarkCount) returns int {
+    updateRecordFields(warmupCount);
+    int startTime = nanoTime();
+    updateRecordFields(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkObjectFieldAccess(int warmupCount, int benchmarkCount) returns int {
+    updateObjectFields(warmupCount);
+    int startTime = nanoTime();
+    updateObjectFields(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkObjectMethodCall(int warmupCount, int benchmarkCount) returns int {
+    callObjectMethods(warmupCount);
+    int startTime = nanoTime();
+    callObjectMethods(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+// Reads and writes the fields of a closed record, which are accessed with constant field names.
+function updateRecordFields(int count) returns float {
+    FieldAccessPoint p = {x: 0, y: 0, weight: 1.0};
+    foreach int i in 0 ..< count {
+        p.x = p.x + i;
+        p.y = p.x - p.y;
+        p.weight = p.weight * 0.5 + 1.0;
+    }
+    return <float> (p.x + p.y) * p.weight;
+}
+
+function updateObjectFields(int count) returns float {
+    FieldAccessCounter counter = new;
+    foreach int i in 0 ..< count {
+        counter.count = counter.count + 1;
+        counter.total = counter.total + <float> i;
+    }
+    return counter.total / <float> counter.count;
+}
+
+function callObjectMethods(int count) returns int {
+    FieldAccessCounter counter = new;
+    foreach int i in 0 ..< count {
+        counter.add(i, 0.5);
+    }
+    return counter.getCount();
+}
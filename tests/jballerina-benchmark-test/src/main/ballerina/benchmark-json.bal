@@ -0,0 +1,42 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+type JsonOrderLine record {|
+    string item;
+    int quantity;
+    decimal price;
+|};
+
+type JsonOrder record {
+    int id;
+    string customer;
+    float total;
+    JsonOrderLine[] lines;
+    int[] tags;
+};
+
+string orderJson = "{\"id\":1001, \"customer\":\"Anne\", \"total\":47.5, \"lines\":[" +
+    "{\"item\":\"pen\", \"quantity\":2, \"price\":1.5}, {\"item\":\"book\", \"quantity\":1, \"price\":22}, " +
+    "{\"item\":\"lamp\", \"quantity\":1, \"price\":22.5}], \"tags\":[3, 5, 8, 13]}";
+
+public function benchmarkFromJsonString() {
+    json|error j = orderJson.fromJsonString();
+}
+
+public function benchmarkFromJsonStringWithType() {
+    JsonOrder|error o = orderJson.fromJsonStringWithType(JsonOrder);
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+const int LOCK_CONTENTION_STRANDS = 8;
+
+int lockedCounter = 0;
+
+public function benchmarkLockContention(int warmupCount, int benchmarkCount) returns int {
+    runLockingStrands(warmupCount, false);
+    int startTime = nanoTime();
+    runLockingStrands(benchmarkCount, false);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkReadOnlyLockContention(int warmupCount, int benchmarkCount) returns int {
+    runLockingStrands(warmupCount, true);
+    int startTime = nanoTime();
+    runLockingStrands(benchmarkCount, true);
+    return (nanoTime() - startTime);
+}
+
+// Runs the given number of lock statements, divided among strands that run in parallel.
+function runLockingStrands(int count, boolean readOnly) {
+    int perStrandCount = count / LOCK_CONTENTION_STRANDS;
+    future<int>[] futures = [];
+    foreach int i in 0 ..< LOCK_CONTENTION_STRANDS {
+        if (readOnly) {
+            future<int> f = @strand {thread: "any"} start readLockedCounter(perStrandCount);
+            futures.push(f);
+        } else {
+            future<int> f = @strand {thread: "any"} start incrementLockedCounter(perStrandCount);
+            futures.push(f);
+        }
+    }
+    foreach future<int> f in futures {
+        int|error result = wait f;
+    }
+}
+
+function incrementLockedCounter(int count) returns int {
+    foreach int i in 0 ..< count {
+        lock {
+            lockedCounter += 1;
+        }
+    }
+    return count;
+}
+
+function readLockedCounter(int count) returns int {
+    int total = 0;
+    foreach int i in 0 ..< count {
+        // only reads the module level variable, hence acquired as a shared lock
+        lock {
+            total += lockedCounter;
+        }
+    }
+    return total;
+}
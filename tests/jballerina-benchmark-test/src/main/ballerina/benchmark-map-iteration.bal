@@ -0,0 +1,77 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int LARGE_MAP_ITERATIONS = 10;
+const int SMALL_MAP_SIZE = 10;
+
+type IterationPoint record {
+    int x;
+    int y;
+    int z;
+};
+
+public function benchmarkLargeMapIteration(int warmupCount, int benchmarkCount) returns int {
+    int warmupSum = sumMapValues(createIntMap(warmupCount), LARGE_MAP_ITERATIONS);
+    map<int> values = createIntMap(benchmarkCount);
+    int startTime = nanoTime();
+    int sum = sumMapValues(values, LARGE_MAP_ITERATIONS);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkSmallMapIteration(int warmupCount, int benchmarkCount) returns int {
+    map<int> values = createIntMap(SMALL_MAP_SIZE);
+    int warmupSum = sumMapValues(values, warmupCount);
+    int startTime = nanoTime();
+    int sum = sumMapValues(values, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkRecordIteration(int warmupCount, int benchmarkCount) returns int {
+    IterationPoint point = {x: 1, y: 2, z: 3, "w": 4};
+    int warmupSum = sumRecordValues(point, warmupCount);
+    int startTime = nanoTime();
+    int sum = sumRecordValues(point, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+function createIntMap(int size) returns map<int> {
+    map<int> values = {};
+    foreach int i in 0 ..< size {
+        values[i.toString()] = i;
+    }
+    return values;
+}
+
+// Iterates the whole map the given number of times, which used to copy the entries of the map per iteration.
+function sumMapValues(map<int> values, int iterations) returns int {
+    int sum = 0;
+    foreach int i in 0 ..< iterations {
+        foreach int value in values {
+            sum += value;
+        }
+    }
+    return sum;
+}
+
+function sumRecordValues(IterationPoint point, int iterations) returns int {
+    int sum = 0;
+    foreach int i in 0 ..< iterations {
+        foreach var value in point {
+            sum += <int> value;
+        }
+    }
+    return sum;
+}
@@ -0,0 +1,110 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type PersonName record {|
+   int id;
+   string name;
+|};
+
+const int EQUI_JOIN_ROWS = 100000;
+
+public function benchmarkQueryWhereLetSelect(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    PersonName[] outputList =
+        from var person in pl
+        where person.id % 2 == 0
+        let string name = person.fname + " " + person.lname
+        select {id: person.id, name: name};
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        where person.id % 2 == 0
+        let string name = person.fname + " " + person.lname
+        select {id: person.id, name: name};
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryOverTable(int warmupCount, int benchmarkCount) returns int {
+    table<Person> key(id) personTable = table key(id) from var person in getPersonArray(warmupCount) select person;
+    int[] outputList =
+        from var person in personTable
+        where person.id % 2 == 0
+        select person.id;
+
+    personTable = table key(id) from var person in getPersonArray(benchmarkCount) select person;
+    int startTime = nanoTime();
+    outputList =
+        from var person in personTable
+        where person.id % 2 == 0
+        select person.id;
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryOrderBy(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    Person[] outputList =
+        from var person in pl
+        order by person.id descending
+        select person;
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        order by person.id descending
+        select person;
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryOrderByWithLimit(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    Person[] outputList =
+        from var person in pl
+        order by person.id descending
+        limit 10
+        select person;
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        order by person.id descending
+        limit 10
+        select person;
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryEquiJoin(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    Department[] dl = getDepartmentArray(warmupCount);
+    DeptPerson[] outputList =
+        from var person in pl
+        join var dept in dl
+        on [person.id, person.lname] equals [dept.id, "LName"]
+        select {fname: person.fname, lname: person.lname, dept: dept.name};
+
+    pl = getPersonArray(EQUI_JOIN_ROWS);
+    dl = getDepartmentArray(EQUI_JOIN_ROWS);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        join var dept in dl
+        on [person.id, person.lname] equals [dept.id, "LName"]
+        select {fname: person.fname, lname: person.lname, dept: dept.name};
+    return (nanoTime() - startTime);
+}
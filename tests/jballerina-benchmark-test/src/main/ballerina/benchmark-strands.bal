@@ -0,0 +1,139 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+// NOTE: Strand benchmarks are sensitive to the scheduler configuration. Run them with the
+// BALLERINA_SCHEDULER_MODE environment variable set to each supported mode to compare schedulers.
+
+const int STRAND_BATCH_SIZE = 1000;
+const int BLOCKING_CALL_MILLIS = 1;
+
+isolated function sleep(int millis) returns error? = @java:Method {
+    name: "sleep",
+    'class: "java.lang.Thread",
+    paramTypes: ["long"]
+} external;
+
+isolated function increment(int i) returns int {
+    return i + 1;
+}
+
+public function benchmarkStrandFanOut(int warmupCount, int benchmarkCount) returns int {
+    startAndWaitStrands(warmupCount);
+    int startTime = nanoTime();
+    startAndWaitStrands(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkBlockingStrandFanOut(int warmupCount, int benchmarkCount) returns int {
+    startAndWaitBlockingStrands(warmupCount);
+    int startTime = nanoTime();
+    startAndWaitBlockingStrands(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerMessagePassing(int warmupCount, int benchmarkCount) returns int {
+    exchangeWorkerMessages(warmupCount);
+    int startTime = nanoTime();
+    exchangeWorkerMessages(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerMessageThroughput(int warmupCount, int benchmarkCount) returns int {
+    streamWorkerMessages(warmupCount);
+    int startTime = nanoTime();
+    streamWorkerMessages(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+function startAndWaitStrands(int count) {
+    int i = 0;
+    while (i < count) {
+        future<int>[] futures = [];
+        int j = 0;
+        while (j < STRAND_BATCH_SIZE && i < count) {
+            futures.push(start increment(i));
+            i += 1;
+            j += 1;
+        }
+        foreach future<int> f in futures {
+            int|error result = wait f;
+        }
+    }
+}
+
+function startAndWaitBlockingStrands(int count) {
+    int i = 0;
+    while (i < count) {
+        future<error?>[] futures = [];
+        int j = 0;
+        while (j < STRAND_BATCH_SIZE && i < count) {
+            futures.push(start sleep(BLOCKING_CALL_MILLIS));
+            i += 1;
+            j += 1;
+        }
+        foreach future<error?> f in futures {
+            error? result = wait f;
+        }
+    }
+}
+
+function exchangeWorkerMessages(int count) {
+    worker ping {
+        int i = 0;
+        while (i < count) {
+            i -> pong;
+            i = <- pong;
+        }
+    }
+
+    worker pong {
+        int j = 0;
+        while (j < count) {
+            j = <- ping;
+            j += 1;
+            j -> ping;
+        }
+    }
+
+    wait ping;
+    wait pong;
+}
+
+function streamWorkerMessages(int count) {
+    worker producer {
+        int i = 0;
+        while (i < count) {
+            i -> consumer;
+            i += 1;
+        }
+        error? result = flush consumer;
+    }
+
+    worker consumer {
+        int j = 0;
+        int sum = 0;
+        while (j < count) {
+            int value = <- producer;
+            sum += value;
+            j += 1;
+        }
+    }
+
+    wait producer;
+    wait consumer;
+}
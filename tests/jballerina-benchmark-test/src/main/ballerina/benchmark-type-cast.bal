@@ -0,0 +1,59 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+type CastPerson record {
+    string name;
+    int age;
+    CastAddress address;
+};
+
+type CastEmployee record {
+    string name;
+    int age;
+    CastAddress address;
+    int employeeId;
+};
+
+type CastAddress record {
+    string city;
+    string country;
+};
+
+type CastValue int|float|decimal|string|boolean|CastPerson|int[]|map<string>;
+
+CastEmployee employee = {name: "Anne", age: 32, address: {city: "Colombo", country: "Sri Lanka"}, employeeId: 1234};
+CastValue value = [1, 2, 3];
+
+public function benchmarkRecordCast() {
+    any e = employee;
+    CastPerson p = <CastPerson> e;
+}
+
+public function benchmarkRecordTypeTest() {
+    any e = employee;
+    boolean b = e is CastPerson;
+}
+
+public function benchmarkUnionCast() {
+    any v = value;
+    CastValue|error[] u = <CastValue|error[]> v;
+}
+
+public function benchmarkUnionTypeTest() {
+    any v = value;
+    boolean b = v is int[]|map<string>;
+}
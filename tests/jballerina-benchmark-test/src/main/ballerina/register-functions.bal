@@ -36,6 +36,31 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkQueryWhereLetSelect", benchmarkQueryWhereLetSelect);
+    addSingleExecFunction("benchmarkQueryOverTable", benchmarkQueryOverTable);
+    addSingleExecFunction("benchmarkQueryOrderBy", benchmarkQueryOrderBy);
+    addSingleExecFunction("benchmarkQueryOrderByWithLimit", benchmarkQueryOrderByWithLimit);
+    addSingleExecFunction("benchmarkQueryEquiJoin", benchmarkQueryEquiJoin);
+    addSingleExecFunction("benchmarkStrandFanOut", benchmarkStrandFanOut);
+    addSingleExecFunction("benchmarkBlockingStrandFanOut", benchmarkBlockingStrandFanOut);
+    addSingleExecFunction("benchmarkWorkerMessagePassing", benchmarkWorkerMessagePassing);
+    addSingleExecFunction("benchmarkWorkerMessageThroughput", benchmarkWorkerMessageThroughput);
+    addSingleExecFunction("benchmarkLockContention", benchmarkLockContention);
+    addSingleExecFunction("benchmarkReadOnlyLockContention", benchmarkReadOnlyLockContention);
+    addSingleExecFunction("benchmarkRecordFieldAccess", benchmarkRecordFieldAccess);
+    addSingleExecFunction("benchmarkObjectFieldAccess", benchmarkObjectFieldAccess);
+    addSingleExecFunction("benchmarkObjectMethodCall", benchmarkObjectMethodCall);
+    addSingleExecFunction("benchmarkArrayMap", benchmarkArrayMap);
+    addSingleExecFunction("benchmarkArrayFilter", benchmarkArrayFilter);
+    addSingleExecFunction("benchmarkArrayMapFilterReduce", benchmarkArrayMapFilterReduce);
+    addSingleExecFunction("benchmarkIntArraySort", benchmarkIntArraySort);
+    addSingleExecFunction("benchmarkFloatArraySort", benchmarkFloatArraySort);
+    addSingleExecFunction("benchmarkByteArraySort", benchmarkByteArraySort);
+    addSingleExecFunction("benchmarkStringArraySort", benchmarkStringArraySort);
+    addSingleExecFunction("benchmarkIntArraySortWithKey", benchmarkIntArraySortWithKey);
+    addSingleExecFunction("benchmarkLargeMapIteration", benchmarkLargeMapIteration);
+    addSingleExecFunction("benchmarkSmallMapIteration", benchmarkSmallMapIteration);
+    addSingleExecFunction("benchmarkRecordIteration", benchmarkRecordIteration);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +88,10 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkRecordCast", benchmarkRecordCast);
+    addMultiExecFunction("benchmarkRecordTypeTest", benchmarkRecordTypeTest);
+    addMultiExecFunction("benchmarkUnionCast", benchmarkUnionCast);
+    addMultiExecFunction("benchmarkUnionTypeTest", benchmarkUnionTypeTest);
+    addMultiExecFunction("benchmarkFromJsonString", benchmarkFromJsonString);
+    addMultiExecFunction("benchmarkFromJsonStringWithType", benchmarkFromJsonStringWithType);
 }
@@ -249,6 +249,19 @@ public class LocksInMainTest {
 
     }
 
+    @Test(description = "Tests read only locks along with locks updating the same variables")
+    public void testReadOnlyLockWithUpdatingLocks() {
+        CompileResult compileResult = BCompileUtil.compile("test-src/lock/locks-in-functions.bal");
+
+        BValue[] returns = BRunUtil.invoke(compileResult, "readOnlyLockWithUpdatingLocks");
+        assertEquals(returns.length, 2);
+        assertSame(returns[0].getClass(), BInteger.class);
+        assertSame(returns[1].getClass(), BBoolean.class);
+
+        assertEquals(((BInteger) returns[0]).intValue(), 2000);
+        assertTrue(((BBoolean) returns[1]).booleanValue());
+    }
+
     @Test(description = "Test lock negative cases")
     public void testLockNegativeCases() {
         CompileResult compileResult = BCompileUtil.compile("test-src/lock/locks-in-functions-negative.bal");
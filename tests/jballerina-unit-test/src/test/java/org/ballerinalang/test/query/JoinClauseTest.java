@@ -115,6 +115,24 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join keys compared by value instead of their string form")
+    public void testJoinClauseWithDecimalAndMappingKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithDecimalAndMappingKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clauses matched using an index of the joined table")
+    public void testJoinClauseWithIndexedTable() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithIndexedTable");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause that skips millions of filtered and unmatched rows")
+    public void testJoinClauseWithManyUnmatchedRows() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithManyUnmatchedRows");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(groups = {"disableOnOldParser"}, description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
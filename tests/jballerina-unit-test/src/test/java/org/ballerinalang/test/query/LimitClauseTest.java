@@ -110,6 +110,12 @@ public class LimitClauseTest {
         Assert.assertEquals(i.intValue(), 6);
     }
 
+    @Test(description = "Test query action with limit clause after where and let clauses")
+    public void testLimitClauseAfterWhereWithQueryAction() {
+        BValue[] values = BRunUtil.invoke(result, "testLimitClauseAfterWhereWithQueryAction");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(description = "Test query action with limit clause return list")
     public void testLimitClauseWithQueryAction2() {
         BValue[] returnValues = BRunUtil.invoke(result, "testLimitClauseWithQueryAction2");
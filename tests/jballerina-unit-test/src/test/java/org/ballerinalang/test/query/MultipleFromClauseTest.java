@@ -377,6 +377,12 @@ public class MultipleFromClauseTest {
                 "deptAccess:\"Operations\", address:{city:\"NY\", country:\"America\"}}");
     }
 
+    @Test(description = "Test nested from clause that skips a million empty collections")
+    public void testMultipleFromWithManyEmptyCollections() {
+        BValue[] values = BRunUtil.invoke(result, "testMultipleFromWithManyEmptyCollections");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
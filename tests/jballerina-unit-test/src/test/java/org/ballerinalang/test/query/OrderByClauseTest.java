@@ -230,6 +230,15 @@ public class OrderByClauseTest {
         Assert.assertEquals(returnValues[0].stringValue(), "Melina Kodel,Meghan Markle,Amy Melina,");
     }
 
+    @Test(description = "Test query expr with order by clause followed by limit clause")
+    public void testQueryExprWithOrderByAndLimitClause() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitClause");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertEquals(returnValues.length, 1, "Expected events are not received");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
     @Test(description = "Test query expr with order by clause return XML")
     public void testQueryExprWithOrderByClauseReturnXML() {
         BValue[] returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseReturnXML");
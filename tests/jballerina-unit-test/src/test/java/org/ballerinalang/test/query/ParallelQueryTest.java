@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PARALLELISM_PROPERTY;
+
+/**
+ * This contains methods to test running the clauses of queries in isolated functions in parallel.
+ *
+ * @since 2.0.0
+ */
+public class ParallelQueryTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        System.setProperty(BALLERINA_QUERY_PARALLELISM_PROPERTY, "4");
+        result = BCompileUtil.compile("test-src/query/parallel-query.bal");
+    }
+
+    @Test
+    public void testParallelQueryPreservesOrder() {
+        BRunUtil.invoke(result, "testParallelQueryPreservesOrder");
+    }
+
+    @Test
+    public void testParallelWhereAcrossPartitions() {
+        BRunUtil.invoke(result, "testParallelWhereAcrossPartitions");
+    }
+
+    @Test
+    public void testParallelQueryEndsAtErrorInPartition() {
+        BRunUtil.invoke(result, "testParallelQueryEndsAtErrorInPartition");
+    }
+
+    @Test
+    public void testParallelStreamEndsAtErrorInPartition() {
+        BRunUtil.invoke(result, "testParallelStreamEndsAtErrorInPartition");
+    }
+
+    @Test
+    public void testParallelQueryOverTable() {
+        BRunUtil.invoke(result, "testParallelQueryOverTable");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        System.clearProperty(BALLERINA_QUERY_PARALLELISM_PROPERTY);
+        result = null;
+    }
+}
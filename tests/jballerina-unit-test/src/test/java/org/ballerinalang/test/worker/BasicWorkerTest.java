@@ -97,6 +97,11 @@ public class BasicWorkerTest {
         BRunUtil.invoke(result, funcName);
     }
 
+    @Test
+    public void testYieldFromDeepCallStack() {
+        BRunUtil.invoke(result, "testYieldFromDeepCallStack");
+    }
+
     @DataProvider(name = "workerSendTests")
     public Object[] testFunctions() {
         return new Object[]{
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.ballerinalang.test.worker;
+
+import org.ballerinalang.core.model.values.BBoolean;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.core.util.exceptions.BLangRuntimeException;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests the delivery of messages through worker data channels.
+ */
+public class WorkerDataChannelTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        this.result = BCompileUtil.compile("test-src/workers/worker-data-channel.bal");
+        Assert.assertEquals(result.getErrorCount(), 0, Arrays.asList(result.getDiagnostics()).toString());
+    }
+
+    @Test
+    public void testSendsAcrossSegments() {
+        BValue[] returns = BRunUtil.invoke(result, "testSendsAcrossSegments");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testSyncSendOrdering() {
+        BValue[] returns = BRunUtil.invoke(result, "testSyncSendOrdering");
+        Assert.assertEquals(returns[0].stringValue(), "1,2,r3,s3,4,r5,s5,5");
+    }
+
+    @Test
+    public void testErrorInSenderWhileReceiverWaits() {
+        BValue[] returns = BRunUtil.invoke(result, "testErrorInSenderWhileReceiverWaits");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+          expectedExceptionsMessageRegExp = "error: sender panicked.*")
+    public void testPanicInSenderWhileReceiverWaits() {
+        BRunUtil.invoke(result, "testPanicInSenderWhileReceiverWaits");
+    }
+
+    @Test
+    public void testConcurrentSendsAndReceives() {
+        BValue[] args = {new BInteger(200)};
+        BValue[] returns = BRunUtil.invoke(result, "testConcurrentSendsAndReceives", args);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
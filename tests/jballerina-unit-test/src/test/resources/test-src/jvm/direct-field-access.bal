@@ -0,0 +1,212 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+
+// Fields and methods of the records and classes of a module are accessed directly in the generated code when the
+// value is an instance of the generated class, and through the generic get, put, set and call methods otherwise.
+
+class Counter {
+    int count = 0;
+
+    function increment(int by = 1) returns int {
+        self.count += by;
+        return self.count;
+    }
+
+    function add(int... values) returns int {
+        foreach int value in values {
+            self.count += value;
+        }
+        return self.count;
+    }
+
+    function incrementLater() returns int {
+        runtime:sleep(0.01);
+        self.count += 1;
+        return self.count;
+    }
+}
+
+function testObjectOfAnotherClass() {
+    Counter counter = object {
+        int count = 100;
+
+        function increment(int by = 1) returns int {
+            self.count += by * 2;
+            return self.count;
+        }
+
+        function add(int... values) returns int {
+            self.count -= values.length();
+            return self.count;
+        }
+
+        function incrementLater() returns int {
+            self.count += 10;
+            return self.count;
+        }
+    };
+
+    assertEquality(100, counter.count);
+    counter.count = 50;
+    assertEquality(50, counter.count);
+    assertEquality(52, counter.increment());
+    assertEquality(58, counter.increment(3));
+    assertEquality(56, counter.add(1, 2));
+    assertEquality(66, counter.incrementLater());
+    assertEquality(66, counter.count);
+}
+
+function testMethodsWithDefaultableRestAndYield() {
+    Counter counter = new;
+    assertEquality(1, counter.increment());
+    assertEquality(6, counter.increment(5));
+    assertEquality(6, counter.add());
+    assertEquality(12, counter.add(1, 2, 3));
+    int[] values = [4, 4];
+    assertEquality(20, counter.add(...values));
+    assertEquality(21, counter.incrementLater());
+
+    // yields in a loop, so that the strand resumes in the middle of the method several times
+    foreach int i in 0 ..< 3 {
+        _ = counter.incrementLater();
+    }
+    assertEquality(24, counter.count);
+}
+
+type Point record {|
+    int x;
+    int y;
+|};
+
+type ReadOnlyPoint Point & readonly;
+
+function testStoreToReadOnlyRecord() {
+    ReadOnlyPoint readOnlyPoint = {x: 1, y: 2};
+    Point point = readOnlyPoint;
+
+    var fn = function () {
+        point.x = 3;
+    };
+    error? res = trap fn();
+    assertEquality(true, res is error);
+
+    error err = <error> res;
+    assertEquality("cannot update 'readonly' field 'x' in record of type 'ReadOnlyPoint'", err.detail()["message"]);
+    assertEquality(1, point.x);
+
+    Point mutablePoint = {x: 1, y: 2};
+    mutablePoint.x = 3;
+    assertEquality(3, mutablePoint.x);
+}
+
+type Account record {|
+    readonly int id;
+    string owner;
+|};
+
+type MutableAccount record {|
+    int id;
+    string owner;
+|};
+
+function testStoreToReadOnlyField() {
+    Account account = {id: 1, owner: "Anne"};
+    MutableAccount mutableAccount = account;
+
+    var fn = function () {
+        mutableAccount.id = 2;
+    };
+    error? res = trap fn();
+    assertEquality(true, res is error);
+
+    error err = <error> res;
+    assertEquality("cannot update 'readonly' field 'id' in record of type 'Account'", err.detail()["message"]);
+    assertEquality(1, account.id);
+
+    account.owner = "Bob";
+    assertEquality("Bob", mutableAccount.owner);
+}
+
+type Sample record {|
+    int i;
+    float f;
+    boolean b;
+    byte by;
+    int|string u;
+|};
+
+class SampleObject {
+    int i = 1;
+    float f = 2.5;
+    int|string u = "u";
+}
+
+function testFieldReadsToOtherTypes() {
+    Sample sample = {i: 1, f: 2.5, b: true, by: 7, u: 3};
+
+    any i = sample.i;
+    any f = sample.f;
+    anydata b = sample.b;
+    int|string by = sample.by;
+    int|float u = <int> sample.u;
+    float|string fs = sample.f;
+    assertEquality(1, i);
+    assertEquality(2.5, f);
+    assertEquality(true, b);
+    assertEquality(7, by);
+    assertEquality(3, u);
+    assertEquality(2.5, fs);
+
+    sample.u = "three";
+    any u2 = sample.u;
+    assertEquality("three", u2);
+
+    int byteToInt = sample.by;
+    assertEquality(7, byteToInt);
+    byte newByte = 9;
+    sample.i = newByte;
+    assertEquality(9, sample.i);
+
+    SampleObject obj = new;
+    any oi = obj.i;
+    int|float of = obj.f;
+    any ou = obj.u;
+    assertEquality(1, oi);
+    assertEquality(2.5, of);
+    assertEquality("u", ou);
+    obj.u = 10;
+    int|string ou2 = obj.u;
+    assertEquality(10, ou2);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if (expected is anydata && actual is anydata && expected == actual) {
+        return;
+    }
+
+    if (expected === actual) {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                 message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
@@ -358,6 +358,54 @@ function nextInsideLock() returns [int, string] {
     return [lockWithinLockInt1, lockWithinLockString1];
 }
 
+int lockedCount = 0;
+int lockedCountCopy = 0;
+
+function readOnlyLockWithUpdatingLocks() returns [int, boolean] {
+    @strand{thread:"any"}
+    worker w1 {
+        foreach int i in 0 ..< 1000 {
+            lock {
+                lockedCount = lockedCount + 1;
+                lockedCountCopy = lockedCountCopy + 1;
+            }
+        }
+    }
+
+    @strand{thread:"any"}
+    worker w2 {
+        foreach int i in 0 ..< 1000 {
+            lock {
+                lockedCount = lockedCount + 1;
+                lockedCountCopy = lockedCountCopy + 1;
+            }
+        }
+    }
+
+    @strand{thread:"any"}
+    worker w3 returns boolean {
+        boolean consistent = true;
+        foreach int i in 0 ..< 1000 {
+            // only reads the locked variables, hence can be run along with other readers
+            lock {
+                if (lockedCount != lockedCountCopy) {
+                    consistent = false;
+                }
+            }
+        }
+        return consistent;
+    }
+
+    wait w1;
+    wait w2;
+    boolean consistent = wait w3;
+    int count = 0;
+    lock {
+        count = lockedCount;
+    }
+    return [count, consistent];
+}
+
 public function sleep(int millis) = @java:Method {
     'class: "org.ballerinalang.test.utils.interop.Utils"
 } external;
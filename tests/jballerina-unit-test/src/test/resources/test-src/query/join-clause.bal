@@ -455,3 +455,86 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+type Price record {|
+    string item;
+    decimal amount;
+|};
+
+type Discount record {|
+    decimal amount;
+    int percentage;
+|};
+
+function testJoinClauseWithDecimalAndMappingKeys() returns boolean {
+    Price[] prices = [{item: "Apple", amount: 1.0}, {item: "Orange", amount: 2.50}, {item: "Grape", amount: 3}];
+    Discount[] discounts = [{amount: 1.00, percentage: 5}, {amount: 2.5, percentage: 10}];
+
+    int[] percentages =
+       from var price in prices
+       join var discount in discounts
+       on price.amount equals discount.amount
+       select discount.percentage;
+
+    map<int>[] lhsKeys = [{a: 1, b: 2}, {b: 3, a: 4}];
+    map<int>[] rhsKeys = [{b: 2, a: 1}, {a: 4, b: 3}, {a: 2, b: 1}];
+
+    int[] sums =
+       from var lhs in lhsKeys
+       join var rhs in rhsKeys
+       on lhs equals rhs
+       select rhs.get("a") + rhs.get("b");
+
+    return percentages == [5, 10] && sums == [3, 7];
+}
+
+function testJoinClauseWithManyUnmatchedRows() returns boolean {
+    int[] lhs = [];
+    int i = 0;
+    while (i < 2000000) {
+        lhs.push(i);
+        i += 1;
+    }
+    int[] rhs = [-1, 1999999];
+
+    int[] joined =
+       from var l in lhs
+       where l % 2 == 1
+       join var r in rhs
+       on l equals r
+       select r;
+
+    return joined == [1999999];
+}
+
+type Employee record {|
+    readonly int id;
+    readonly int deptId;
+    string name;
+|};
+
+function testJoinClauseWithIndexedTable() returns boolean {
+    Department[] departments = [{id: 1, name: "HR"}, {id: 2, name: "Operations"}, {id: 3, name: "Finance"}];
+    table<Employee> key(id) employees = table [
+        {id: 10, deptId: 2, name: "Alex"},
+        {id: 11, deptId: 1, name: "Ranjan"},
+        {id: 12, deptId: 2, name: "Amy"}
+    ];
+    employees.addIndex("deptId");
+    employees.add({id: 13, deptId: 1, name: "John"});
+
+    string[] innerJoined =
+       from var dept in departments
+       join var emp in employees
+       on dept.id equals emp.deptId
+       select dept.name + ":" + emp.name;
+
+    int?[] outerJoined =
+       from var dept in departments
+       outer join Employee emp in employees
+       on dept.id equals emp.deptId
+       select emp.id;
+
+    return innerJoined == ["HR:Ranjan", "HR:John", "Operations:Alex", "Operations:Amy"] &&
+        outerJoined == [11, 13, 10, 12, ()];
+}
@@ -168,6 +168,22 @@ function testLimitClauseWithQueryAction() returns int {
     return count;
 }
 
+function testLimitClauseAfterWhereWithQueryAction() returns boolean {
+
+    int[] intList = [1, 2, 3, 4, 5, 6, 7, 8];
+    int[] visited = [];
+
+    error? x =  from var value in intList
+            where value % 2 == 0
+            let int twice = value * 2
+            limit 3
+            do {
+                visited.push(twice);
+            };
+
+    return visited == [4, 8, 12];
+}
+
 function testLimitClauseWithQueryAction2() returns FullName[] {
 
     Person p1 = {firstName: "Alex", lastName: "George", age: 23};
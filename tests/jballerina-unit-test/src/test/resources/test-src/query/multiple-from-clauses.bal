@@ -258,3 +258,20 @@ function testQueryExprRecordTypedBinding() returns Person1[]{
 
     return  outputPersonList;
 }
+
+function testMultipleFromWithManyEmptyCollections() returns boolean {
+    int[][] lists = [];
+    int i = 0;
+    while (i < 1000000) {
+        lists.push([]);
+        i += 1;
+    }
+    lists.push([1, 2]);
+
+    int[] values =
+        from var list in lists
+        from var v in list
+        select v;
+
+    return values == [1, 2];
+}
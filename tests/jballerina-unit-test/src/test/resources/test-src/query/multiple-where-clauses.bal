@@ -100,3 +100,57 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+type Account record {|
+    readonly int id;
+    readonly string owner;
+    readonly float? balance;
+    string status;
+|};
+
+function testWhereClauseWithIndexedTable() returns boolean {
+    table<Account> key(id) accounts = table [
+        {id: 1, owner: "Anne", balance: 100.0, status: "open"},
+        {id: 2, owner: "Bob", balance: 250.5, status: "open"},
+        {id: 3, owner: "Anne", balance: (), status: "closed"},
+        {id: 4, owner: "Carl", balance: -0.0, status: "open"}
+    ];
+    accounts.addIndex("owner");
+    accounts.addIndex("balance", true);
+    accounts.add({id: 5, owner: "Anne", balance: 0.0, status: "open"});
+    _ = accounts.remove(1);
+    accounts.put({id: 2, owner: "Anne", balance: 250.5, status: "closed"});
+
+    string owner = "Anne";
+    int[] ownedByAnne = from var account in accounts
+                        where account.owner == owner
+                        select account.id;
+    int[] ownedByBob = from var account in accounts
+                       where "Bob" == account.owner
+                       select account.id;
+    int[] zeroBalance = from var account in accounts
+                        where account.balance == 0.0
+                        select account.id;
+    int[] positiveBalance = from var account in accounts
+                            where (0.0 < account.balance)
+                            select account.id;
+    int[] lowBalance = from var account in accounts
+                       where account.balance <= 0.0
+                       select account.id;
+    int[] noBalance = from var account in accounts
+                      where account.balance == ()
+                      select account.id;
+    int[] ownedByCarl = from var account in accounts
+                        where account.owner == CARL
+                        select account.id;
+    // The key is a variable of the enclosing query, which differs for each of its frames
+    string[] owners = ["Anne", "Bob", "Carl"];
+    int[][] ownedBy = from var name in owners
+                      select from var account in accounts
+                             where account.owner == name
+                             select account.id;
+    return ownedByAnne == [2, 3, 5] && ownedByBob == [] && zeroBalance == [4, 5] && positiveBalance == [2] &&
+        lowBalance == [4, 5] && noBalance == [3] && ownedByCarl == [4] && ownedBy == [[2, 3, 5], [], [4]];
+}
+
+const CARL = "Carl";
@@ -402,6 +402,59 @@ function testQueryExprWithOrderByClauseReturnString() returns string {
     return outputNameString;
 }
 
+function testQueryExprWithOrderByAndLimitClause() returns boolean {
+    Person p1 = {firstName: "Amy", lastName: "Melina", age: 34};
+    Person p2 = {firstName: "Frank", lastName: "James", age: 30};
+    Person p3 = {firstName: "Melina", lastName: "Kodel", age: 72};
+    Person p4 = {firstName: "Terrence", lastName: "Lewis", age: 30};
+    Person p5 = {firstName: "Meghan", lastName: "Markle", age: 19};
+    Person p6 = {firstName: "John", lastName: "David", age: 30};
+
+    Person[] personList = [p1, p2, p3, p4, p5, p6];
+
+    string[] youngest = from var person in personList
+         order by person.age ascending
+         limit 3
+         select person.firstName;
+
+    string[] oldest = from var person in personList
+         order by person.age descending
+         limit 3
+         select person.firstName;
+
+    string[] withLetLimit = from var person in personList
+         let int maxCount = 2
+         order by person.age ascending
+         limit maxCount
+         select person.firstName;
+
+    int count = 4;
+    string[] withVariableLimit = from var person in personList
+         order by person.age ascending
+         limit count
+         select person.firstName;
+
+    string[] withConstantLimit = from var person in personList
+         order by person.age descending
+         limit (TOP_COUNT)
+         select person.firstName;
+
+    string[] withCallLimit = from var person in personList
+         order by person.age ascending
+         limit getTopCount() + 1
+         select person.firstName;
+
+    return youngest == ["Meghan", "Frank", "Terrence"] && oldest == ["Melina", "Amy", "Frank"] &&
+        withLetLimit == ["Meghan", "Frank"] && withVariableLimit == ["Meghan", "Frank", "Terrence", "John"] &&
+        withConstantLimit == ["Melina"] && withCallLimit == ["Meghan", "Frank"];
+}
+
+const int TOP_COUNT = 1;
+
+function getTopCount() returns int {
+    return TOP_COUNT;
+}
+
 function testQueryExprWithOrderByClauseReturnXML() returns xml {
     xml bookStore = xml `<bookStore>
                      <book>
@@ -0,0 +1,154 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// The test sets the parallelism of queries to 4, so that the clauses of queries in isolated functions run over 4
+// partitions of 1250 members each: [0, 1250), [1250, 2500), [2500, 3750) and [3750, 5000).
+const int COUNT = 5000;
+
+type Row record {|
+    readonly int id;
+    string name;
+|};
+
+isolated function createNumbers() returns int[] {
+    int[] numbers = [];
+    foreach int i in 0 ..< COUNT {
+        numbers.push(i);
+    }
+    return numbers;
+}
+
+isolated function tripleInParallel(int[] numbers) returns int[] {
+    return from int n in numbers
+           let int tripled = n * 3
+           select tripled;
+}
+
+function testParallelQueryPreservesOrder() {
+    int[] numbers = createNumbers();
+    int[] expected = from int n in numbers
+                     select n * 3;
+
+    int[] tripled = tripleInParallel(numbers);
+    assertEquality(COUNT, tripled.length());
+    assertEquality(expected, tripled);
+}
+
+isolated function selectOutsideRangeInParallel(int[] numbers) returns int[] {
+    return from int n in numbers
+           where n < 1000 || n >= 3900
+           select n;
+}
+
+function testParallelWhereAcrossPartitions() {
+    int[] expected = [];
+    foreach int i in 0 ..< COUNT {
+        if i < 1000 || i >= 3900 {
+            expected.push(i);
+        }
+    }
+
+    // the second and the third partitions produce no frames at all
+    int[] selected = selectOutsideRangeInParallel(createNumbers());
+    assertEquality(expected, selected);
+}
+
+isolated function parseInParallel(string[] values) returns int[]|error {
+    return from string s in values
+           select check int:fromString(s);
+}
+
+isolated function parseAsStreamInParallel(string[] values) returns stream<int, error?> {
+    return stream from string s in values
+           select check int:fromString(s);
+}
+
+function createValuesWithInvalidMembers() returns string[] {
+    string[] values = [];
+    foreach int i in 0 ..< COUNT {
+        values.push(i.toString());
+    }
+    // in the third and the last partitions
+    values[2600] = "first invalid";
+    values[4000] = "second invalid";
+    return values;
+}
+
+function testParallelQueryEndsAtErrorInPartition() {
+    int[]|error result = parseInParallel(createValuesWithInvalidMembers());
+    assertEquality(true, result is error);
+    assertEquality(int:fromString("first invalid"), result);
+}
+
+function testParallelStreamEndsAtErrorInPartition() {
+    stream<int, error?> numbers = parseAsStreamInParallel(createValuesWithInvalidMembers());
+    int count = 0;
+    record {|int value;|}|error? next = numbers.next();
+    while next is record {|int value;|} {
+        assertEquality(count, next.value);
+        count += 1;
+        next = numbers.next();
+    }
+    assertEquality(2600, count);
+    assertEquality(int:fromString("first invalid"), next);
+}
+
+isolated function namesOfEvenIdsInParallel(table<Row> key(id) rows) returns string[] {
+    return from Row r in rows
+           where r.id % 2 == 0
+           select r.name;
+}
+
+function testParallelQueryOverTable() {
+    table<Row> key(id) rows = table [];
+    foreach int i in 0 ..< COUNT {
+        rows.add({id: i, name: "row" + i.toString()});
+    }
+    // removing members leaves gaps in the rows of the table, which are skipped
+    foreach int i in 1000 ..< 1100 {
+        _ = rows.remove(i);
+    }
+    string[] expected = [];
+    foreach int i in 0 ..< COUNT {
+        if i % 2 == 0 && (i < 1000 || i >= 1100) {
+            expected.push("row" + i.toString());
+        }
+    }
+
+    string[] names = namesOfEvenIdsInParallel(rows);
+    assertEquality(expected, names);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    if expectedValAsString == actualValAsString {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                            message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
@@ -348,6 +348,27 @@ function testSimpleSendActionWithListType() {
     assertValueEquality(true, simpleSendActionWithMapTypeResult["w2"]);
 }
 
+function testYieldFromDeepCallStack() {
+    // yields with more frames than the initial frame storage of a strand
+    assertValueEquality(160, yieldAtDepth(150));
+}
+
+function yieldAtDepth(int depth) returns int {
+    if (depth > 0) {
+        return yieldAtDepth(depth - 1) + 1;
+    }
+    return receiveFromWorker();
+}
+
+function receiveFromWorker() returns int {
+    worker w1 {
+        int value = 10;
+        value -> function;
+    }
+    int result = <- w1;
+    return result;
+}
+
 type AssertionError distinct error;
 const ASSERTION_ERROR_REASON = "AssertionError";
 
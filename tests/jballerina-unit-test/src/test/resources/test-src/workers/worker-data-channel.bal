@@ -0,0 +1,641 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/jballerina.java;
+
+// The messages of a worker data channel are buffered in segments of 32 messages.
+const MESSAGE_COUNT = 70;
+
+function testSendsAcrossSegments() returns boolean {
+    @strand{thread:"any"}
+    worker w1 {
+        1 -> w2;
+        2 -> w2;
+        3 -> w2;
+        4 -> w2;
+        5 -> w2;
+        6 -> w2;
+        7 -> w2;
+        8 -> w2;
+        9 -> w2;
+        10 -> w2;
+        11 -> w2;
+        12 -> w2;
+        13 -> w2;
+        14 -> w2;
+        15 -> w2;
+        16 -> w2;
+        17 -> w2;
+        18 -> w2;
+        19 -> w2;
+        20 -> w2;
+        21 -> w2;
+        22 -> w2;
+        23 -> w2;
+        24 -> w2;
+        25 -> w2;
+        26 -> w2;
+        27 -> w2;
+        28 -> w2;
+        29 -> w2;
+        30 -> w2;
+        31 -> w2;
+        32 -> w2;
+        33 -> w2;
+        34 -> w2;
+        35 -> w2;
+        36 -> w2;
+        37 -> w2;
+        38 -> w2;
+        39 -> w2;
+        40 -> w2;
+        41 -> w2;
+        42 -> w2;
+        43 -> w2;
+        44 -> w2;
+        45 -> w2;
+        46 -> w2;
+        47 -> w2;
+        48 -> w2;
+        49 -> w2;
+        50 -> w2;
+        51 -> w2;
+        52 -> w2;
+        53 -> w2;
+        54 -> w2;
+        55 -> w2;
+        56 -> w2;
+        57 -> w2;
+        58 -> w2;
+        59 -> w2;
+        60 -> w2;
+        61 -> w2;
+        62 -> w2;
+        63 -> w2;
+        64 -> w2;
+        65 -> w2;
+        66 -> w2;
+        67 -> w2;
+        68 -> w2;
+        69 -> w2;
+        70 -> w2;
+        error? result = flush w2;
+    }
+
+    @strand{thread:"any"}
+    worker w2 returns int[] {
+        // let the sender fill more than one segment before the first receive
+        sleep(20);
+        int[] received = [];
+        int v;
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        v = <- w1;
+        received.push(v);
+        return received;
+    }
+
+    int[] received = wait w2;
+    if (received.length() != MESSAGE_COUNT) {
+        return false;
+    }
+    foreach int i in 0 ..< MESSAGE_COUNT {
+        if (received[i] != i + 1) {
+            return false;
+        }
+    }
+    return true;
+}
+
+// Only one of the workers pushes an event at a time, since each waits for a message of the other in between.
+function testSyncSendOrdering() returns string {
+    string[] events = [];
+
+    @strand{thread:"any"}
+    worker w1 {
+        1 -> w2;
+        2 -> w2;
+        // completes only after the receiver has taken this message, and so all the messages before it
+        () r3 = 3 ->> w2;
+        events.push("s3");
+        4 -> w2;
+        () r5 = 5 ->> w2;
+        events.push("s5");
+    }
+
+    @strand{thread:"any"}
+    worker w2 returns int {
+        // let the sender block on the first sync send
+        sleep(20);
+        int v = <- w1;
+        events.push(v.toString());
+        v = <- w1;
+        events.push(v.toString());
+        events.push("r3");
+        v = <- w1;
+        v = <- w1;
+        events.push(v.toString());
+        events.push("r5");
+        v = <- w1;
+        return v;
+    }
+
+    wait w1;
+    int last = wait w2;
+    events.push(last.toString());
+    return ",".join(...events);
+}
+
+function testErrorInSenderWhileReceiverWaits() returns boolean {
+    @strand{thread:"any"}
+    worker w1 returns error? {
+        1 -> w2;
+        // the receiver is waiting for the second message at this point
+        sleep(20);
+        if (getTrue()) {
+            return error("sender failed");
+        }
+        2 -> w2;
+    }
+
+    @strand{thread:"any"}
+    worker w2 returns boolean {
+        int|error v1 = <- w1;
+        int|error v2 = <- w1;
+        return v1 === 1 && v2 is error && v2.message() == "sender failed";
+    }
+
+    error? senderResult = wait w1;
+    boolean receiverResult = wait w2;
+    return senderResult is error && receiverResult;
+}
+
+function testPanicInSenderWhileReceiverWaits() returns int {
+    @strand{thread:"any"}
+    worker w1 {
+        1 -> w2;
+        sleep(20);
+        if (getTrue()) {
+            panic error("sender panicked");
+        }
+        2 -> w2;
+    }
+
+    @strand{thread:"any"}
+    worker w2 returns int {
+        int v1 = <- w1;
+        int v2 = <- w1;
+        return v1 + v2;
+    }
+
+    return wait w2;
+}
+
+// Each round runs two senders and a receiver on separate strands, and checks that every message is received exactly
+// once and in the order in which it was sent on its channel.
+function testConcurrentSendsAndReceives(int rounds) returns boolean {
+    foreach int round in 0 ..< rounds {
+        if (!sendAndReceive(round)) {
+            return false;
+        }
+    }
+    return true;
+}
+
+function sendAndReceive(int base) returns boolean {
+    @strand{thread:"any"}
+    worker a {
+        base -> r;
+        base + 1 -> r;
+        base + 2 -> r;
+        base + 3 -> r;
+        base + 4 -> r;
+        base + 5 -> r;
+        base + 6 -> r;
+        base + 7 -> r;
+        base + 8 -> r;
+        base + 9 -> r;
+        base + 10 -> r;
+        base + 11 -> r;
+        base + 12 -> r;
+        base + 13 -> r;
+        base + 14 -> r;
+        base + 15 -> r;
+        base + 16 -> r;
+        base + 17 -> r;
+        base + 18 -> r;
+        base + 19 -> r;
+        base + 20 -> r;
+        base + 21 -> r;
+        base + 22 -> r;
+        base + 23 -> r;
+        base + 24 -> r;
+        base + 25 -> r;
+        base + 26 -> r;
+        base + 27 -> r;
+        base + 28 -> r;
+        base + 29 -> r;
+        base + 30 -> r;
+        base + 31 -> r;
+        base + 32 -> r;
+        base + 33 -> r;
+        base + 34 -> r;
+        base + 35 -> r;
+        base + 36 -> r;
+        base + 37 -> r;
+        base + 38 -> r;
+        base + 39 -> r;
+        () result = base ->> r;
+    }
+
+    @strand{thread:"any"}
+    worker b {
+        base -> r;
+        base + 1 -> r;
+        base + 2 -> r;
+        base + 3 -> r;
+        base + 4 -> r;
+        base + 5 -> r;
+        base + 6 -> r;
+        base + 7 -> r;
+        base + 8 -> r;
+        base + 9 -> r;
+        base + 10 -> r;
+        base + 11 -> r;
+        base + 12 -> r;
+        base + 13 -> r;
+        base + 14 -> r;
+        base + 15 -> r;
+        base + 16 -> r;
+        base + 17 -> r;
+        base + 18 -> r;
+        base + 19 -> r;
+        base + 20 -> r;
+        base + 21 -> r;
+        base + 22 -> r;
+        base + 23 -> r;
+        base + 24 -> r;
+        base + 25 -> r;
+        base + 26 -> r;
+        base + 27 -> r;
+        base + 28 -> r;
+        base + 29 -> r;
+        base + 30 -> r;
+        base + 31 -> r;
+        base + 32 -> r;
+        base + 33 -> r;
+        base + 34 -> r;
+        base + 35 -> r;
+        base + 36 -> r;
+        base + 37 -> r;
+        base + 38 -> r;
+        base + 39 -> r;
+        () result = base ->> r;
+    }
+
+    @strand{thread:"any"}
+    worker r returns boolean {
+        int[] fromA = [];
+        int[] fromB = [];
+        int v;
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        fromA.push(v);
+        v = <- b;
+        fromB.push(v);
+        v = <- a;
+        boolean syncA = v == base;
+        v = <- b;
+        boolean syncB = v == base;
+        return syncA && syncB && isSequence(fromA, base) && isSequence(fromB, base);
+    }
+
+    return wait r;
+}
+
+function isSequence(int[] values, int base) returns boolean {
+    if (values.length() != STRESS_MESSAGE_COUNT) {
+        return false;
+    }
+    foreach int i in 0 ..< STRESS_MESSAGE_COUNT {
+        if (values[i] != base + i) {
+            return false;
+        }
+    }
+    return true;
+}
+
+const STRESS_MESSAGE_COUNT = 40;
+
+function getTrue() returns boolean {
+    return true;
+}
+
+public function sleep(int millis) = @java:Method {
+    'class: "org.ballerinalang.test.utils.interop.Utils"
+} external;